@@ -20,8 +20,11 @@ import ezschedule.model.ReadOnlyUserPrefs;
 import ezschedule.model.Scheduler;
 import ezschedule.model.UserPrefs;
 import ezschedule.model.util.SampleDataUtil;
+import ezschedule.storage.BinarySchedulerStorage;
+import ezschedule.storage.JournalingSchedulerStorage;
 import ezschedule.storage.JsonSchedulerStorage;
 import ezschedule.storage.JsonUserPrefsStorage;
+import ezschedule.storage.SchedulerFileConverter;
 import ezschedule.storage.SchedulerStorage;
 import ezschedule.storage.Storage;
 import ezschedule.storage.StorageManager;
@@ -56,7 +59,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        SchedulerStorage schedulerStorage = new JsonSchedulerStorage(userPrefs.getSchedulerFilePath());
+        SchedulerStorage schedulerStorage = initSchedulerStorage(userPrefs);
         storage = new StorageManager(schedulerStorage, userPrefsStorage);
 
         initLogging(config);
@@ -66,6 +69,45 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a {@code SchedulerStorage} for the scheduler file in {@code userPrefs}, in the format given there.
+     * Binary data is kept in a file of its own next to the json file. If the file of the chosen format does not
+     * exist yet, the data in the file of the other format is converted into it.
+     */
+    private SchedulerStorage initSchedulerStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getSchedulerFilePath();
+        SchedulerStorage jsonStorage = new JournalingSchedulerStorage(new JsonSchedulerStorage(jsonFilePath));
+        SchedulerStorage binaryStorage = new JournalingSchedulerStorage(
+                new BinarySchedulerStorage(SchedulerFileConverter.getBinaryFilePath(jsonFilePath)));
+
+        SchedulerStorage schedulerStorage;
+        SchedulerStorage otherStorage;
+        switch (userPrefs.getSchedulerFileFormat()) {
+        case BINARY:
+            schedulerStorage = binaryStorage;
+            otherStorage = jsonStorage;
+            break;
+        case JSON:
+        default:
+            schedulerStorage = jsonStorage;
+            otherStorage = binaryStorage;
+            break;
+        }
+        logger.info("Using " + userPrefs.getSchedulerFileFormat() + " data file : "
+                + schedulerStorage.getSchedulerFilePath());
+
+        try {
+            if (SchedulerFileConverter.migrate(otherStorage, schedulerStorage)) {
+                logger.info("Converted data file " + otherStorage.getSchedulerFilePath() + " into "
+                        + schedulerStorage.getSchedulerFilePath());
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not convert data file " + otherStorage.getSchedulerFilePath() + ": "
+                    + StringUtil.getDetails(e));
+        }
+        return schedulerStorage;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s scheduler and {@code userPrefs}. <br>
      * The data from the sample scheduler will be used instead if {@code storage}'s scheduler is not found,
@@ -173,6 +215,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Scheduler ] =============================");
+        try {
+            logic.flushScheduler();
+        } catch (IOException e) {
+            logger.severe("Failed to save scheduler " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
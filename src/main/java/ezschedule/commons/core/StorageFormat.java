@@ -0,0 +1,11 @@
+package ezschedule.commons.core;
+
+/**
+ * Formats that scheduler data can be stored in.
+ */
+public enum StorageFormat {
+    /** Human-readable json. */
+    JSON,
+    /** Compact binary, which is smaller and faster to load than json. */
+    BINARY
+}
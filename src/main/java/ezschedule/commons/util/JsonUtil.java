@@ -3,6 +3,7 @@ package ezschedule.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +12,7 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -40,7 +42,8 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeToFileAtomically(jsonFile, out ->
+                objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -79,7 +82,9 @@ public class JsonUtil {
 
     /**
      * Saves the Json object to the specified file.
+     * The object is streamed to the file rather than built up as a string first.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * If saving fails part way, the existing file is left unchanged.
      *
      * @param jsonFile cannot be null
      * @param filePath cannot be null
@@ -103,6 +108,27 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation
+     *
+     * @param instance The T object to be converted into the JSON string
+     * @param <T>      The generic type to create an instance of
+     * @return JSON data representation of the given class instance, without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Creates a streaming parser over {@code in}.
+     * Values read through the parser (e.g. with {@link JsonParser#readValueAs(Class)}) are bound with the same
+     * settings as {@link #fromJsonString(String, Class)}.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return objectMapper.getFactory().createParser(in);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      *
@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Helper functions for handling strings.
@@ -31,6 +34,52 @@ public class StringUtil {
         return sentence.toLowerCase().contains(preppedWord);
     }
 
+    /**
+     * Returns {@code words} trimmed and converted to lower case, in the same order, ready to be matched against
+     * sentences that are already in lower case.
+     *
+     * @param words cannot be null, and each word cannot be null or empty
+     */
+    public static List<String> toLowerCaseWords(List<String> words) {
+        requireNonNull(words);
+        List<String> preppedWords = new ArrayList<>(words.size());
+        for (String word : words) {
+            requireNonNull(word);
+            String preppedWord = word.toLowerCase().trim();
+            AppUtil.checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+            preppedWords.add(preppedWord);
+        }
+        return preppedWords;
+    }
+
+    /**
+     * Returns the value of the ASCII digits of {@code s} from {@code beginIndex} (inclusive) to {@code endIndex}
+     * (exclusive), or -1 if any character in that range is not an ASCII digit.
+     * The range should hold at most 9 characters, so that the value fits in an {@code int}.
+     * <br>examples:<pre>
+     *       parseDigits("2023-05-01", 0, 4) == 2023
+     *       parseDigits("2023-05-01", 5, 7) == 5
+     *       parseDigits("2023-05-01", 3, 6) == -1
+     *       </pre>
+     *
+     * @throws NullPointerException if {@code s} is null.
+     * @throws IndexOutOfBoundsException if the range is not within {@code s}.
+     */
+    public static int parseDigits(String s, int beginIndex, int endIndex) {
+        requireNonNull(s);
+        Objects.checkFromToIndex(beginIndex, endIndex, s.length());
+
+        int value = 0;
+        for (int i = beginIndex; i < endIndex; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -1,6 +1,10 @@
 package ezschedule.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import ezschedule.commons.core.GuiSettings;
@@ -10,6 +14,7 @@ import ezschedule.logic.parser.exceptions.ParseException;
 import ezschedule.model.Model;
 import ezschedule.model.ReadOnlyScheduler;
 import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurringEvent;
 import javafx.collections.ObservableList;
 
 /**
@@ -26,6 +31,22 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Saves any changes to the scheduler that have not been written yet, and waits for the write to finish.
+     *
+     * If the most recent write failed, the whole scheduler is written once more before giving up.
+     *
+     * @throws IOException If the last write failed.
+     */
+    void flushScheduler() throws IOException;
+
+    /**
+     * Sets the handler given the error message when saving the changes made by a command fails.
+     * As saving happens in the background, the handler is called on the saving thread shortly after the command
+     * has returned.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
     /**
      * Returns the Scheduler.
      *
@@ -38,6 +59,11 @@ public interface Logic {
      */
     ObservableList<Event> getEventList();
 
+    /**
+     * Returns an unmodifiable view of the list of recurring events
+     */
+    ObservableList<RecurringEvent> getRecurringEventList();
+
     /**
      * Returns an unmodifiable view of the filtered list of events
      */
@@ -48,11 +74,23 @@ public interface Logic {
      */
     ObservableList<Event> getUpcomingEventList();
 
+    /**
+     * Brings the upcoming list of events up to date with the current time.
+     */
+    void refreshUpcomingEventList();
+
     /**
      * Returns an unmodifiable view of the find command list of events
      */
     ObservableList<Event> getFindEventList();
 
+    /**
+     * Returns the events from {@code startDate} to {@code endDate} inclusive, in chronological order.
+     *
+     * @see Model#getEventsBetween(LocalDate, LocalDate)
+     */
+    List<Event> getEventsBetween(LocalDate startDate, LocalDate endDate);
+
     /**
      * Updates the filtered list of events
      */
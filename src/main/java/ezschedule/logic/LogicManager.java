@@ -1,7 +1,13 @@
 package ezschedule.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -14,7 +20,11 @@ import ezschedule.logic.parser.SchedulerParser;
 import ezschedule.logic.parser.exceptions.ParseException;
 import ezschedule.model.Model;
 import ezschedule.model.ReadOnlyScheduler;
+import ezschedule.model.Scheduler;
+import ezschedule.model.Transaction;
 import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurringEvent;
+import ezschedule.storage.BackgroundSchedulerSaver;
 import ezschedule.storage.Storage;
 import javafx.collections.ObservableList;
 
@@ -26,15 +36,22 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final BackgroundSchedulerSaver saver;
     private final SchedulerParser schedulerParser;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new BackgroundSchedulerSaver(storage, BackgroundSchedulerSaver.DEFAULT_DELAY));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} that saves through {@code saver}.
+     */
+    public LogicManager(Model model, BackgroundSchedulerSaver saver) {
         this.model = model;
-        this.storage = storage;
+        this.saver = saver;
         schedulerParser = new SchedulerParser();
     }
 
@@ -46,13 +63,45 @@ public class LogicManager implements Logic {
         Command command = schedulerParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveScheduler(model.getScheduler());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        requestSave();
+        return commandResult;
+    }
+
+    /**
+     * Requests that the changes made to the model since the last request be saved. The whole scheduler is only
+     * copied and saved if the changes are not known, or cannot be saved on their own.
+     */
+    private void requestSave() {
+        Optional<List<Transaction>> changes = model.takeAppliedChanges();
+        if (changes.isPresent() && changes.get().isEmpty()) {
+            return;
         }
 
-        return commandResult;
+        if (changes.isPresent() && saver.canSaveChanges()) {
+            saver.requestSaveChanges(changes.get());
+        } else {
+            saver.requestSave(new Scheduler(model.getScheduler()));
+        }
+    }
+
+    @Override
+    public void flushScheduler() throws IOException {
+        saver.flush();
+        if (saver.takeFailure().isPresent()) {
+            // Changes requested after the failed write may not have been saved either
+            saver.requestSave(new Scheduler(model.getScheduler()));
+            saver.flush();
+        }
+        Optional<IOException> saveFailure = saver.takeFailure();
+        if (saveFailure.isPresent()) {
+            throw saveFailure.get();
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        saver.setFailureHandler(failure -> handler.accept(FILE_OPS_ERROR_MESSAGE + failure));
     }
 
     @Override
@@ -65,6 +114,11 @@ public class LogicManager implements Logic {
         return model.getEventList();
     }
 
+    @Override
+    public ObservableList<RecurringEvent> getRecurringEventList() {
+        return model.getRecurringEventList();
+    }
+
     @Override
     public ObservableList<Event> getFilteredEventList() {
         return model.getFilteredEventList();
@@ -75,11 +129,21 @@ public class LogicManager implements Logic {
         return model.getUpcomingEventList();
     }
 
+    @Override
+    public void refreshUpcomingEventList() {
+        model.refreshUpcomingEventList();
+    }
+
     @Override
     public ObservableList<Event> getFindEventList() {
         return model.getFindEventList();
     }
 
+    @Override
+    public List<Event> getEventsBetween(LocalDate startDate, LocalDate endDate) {
+        return model.getEventsBetween(startDate, endDate);
+    }
+
     @Override
     public void updateFilteredEventList(Predicate<Event> predicate) {
         model.updateFilteredEventList(predicate);
@@ -56,11 +56,15 @@ public class AddCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_EVENT);
         } else if (model.hasEventAtTime(toAdd)) {
             throw new CommandException(MESSAGE_EVENT_EXIST_AT_TIME);
-        } else {
-            model.clearRecent();
-            model.addRecentCommand(this);
+        }
+
+        model.beginTransaction(COMMAND_WORD);
+        try {
             model.addEvent(toAdd);
-            model.addRecentEvent(toAdd);
+            model.commitTransaction();
+        } catch (RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
         }
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
     }
@@ -16,7 +16,14 @@ public class ClearCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.setScheduler(new Scheduler());
+        model.beginTransaction(COMMAND_WORD);
+        try {
+            model.setScheduler(new Scheduler());
+            model.commitTransaction();
+        } catch (RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
+        }
         return new CommandResult(MESSAGE_SUCCESS);
     }
     @Override
@@ -3,27 +3,34 @@ package ezschedule.logic.commands;
 import static ezschedule.commons.core.Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import ezschedule.commons.core.index.Index;
 import ezschedule.logic.commands.exceptions.CommandException;
 import ezschedule.model.Model;
 import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurringEvent;
 
 /**
  * Deletes an {@code Event} identified using it's displayed index from the {@code Scheduler}.
+ * If the event recurs, its recurring events are deleted with it.
  */
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the event identified by the index number used in the displayed event list.\n"
+            + ": Deletes the event identified by the index number used in the displayed event list, "
+            + "and stops it from recurring.\n"
             + "Parameters: INDEX (must be a positive integer)\n"
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_DELETE_EVENT_SUCCESS = "Deleted Event: ";
+    public static final String MESSAGE_DELETE_RECURRING_EVENT_SUCCESS = "\nDeleted Recurring Event: ";
 
     private final List<Index> targetIndexes;
 
@@ -48,16 +55,31 @@ public class DeleteCommand extends Command {
                         String.format(MESSAGE_INVALID_EVENT_DISPLAYED_INDEX, targetIndex.getZeroBased() + 1));
             }
         }
-        model.clearRecent();
-        for (Index targetIndex: targetIndexes) {
-            model.addRecentCommand(this);
-            Event eventToDelete = lastShownList.get(targetIndex.getZeroBased());
-            model.deleteEvent(eventToDelete);
-            model.addRecentEvent(eventToDelete);
-            feedback.insert(0, eventToDelete.toString());
+        // The events are deleted together, and undone together, or not at all
+        model.beginTransaction(COMMAND_WORD);
+        try {
+            Set<Event> eventsToDelete = new LinkedHashSet<>(); // an index may be given more than once
+            for (Index targetIndex: targetIndexes) {
+                eventsToDelete.add(lastShownList.get(targetIndex.getZeroBased()));
+            }
+            List<Event> deletedEvents = new ArrayList<>(eventsToDelete);
+            model.deleteEvents(deletedEvents);
+            Collections.reverse(deletedEvents); // back to the order they are displayed in
+            deletedEvents.forEach(feedback::append);
+
+            // A recurring event cannot outlive the event it repeats
+            for (RecurringEvent recurringEvent : model.getRecurringEventList()) {
+                if (eventsToDelete.contains(recurringEvent.getEvent())) {
+                    model.deleteRecurringEvent(recurringEvent);
+                    feedback.append(MESSAGE_DELETE_RECURRING_EVENT_SUCCESS).append(recurringEvent);
+                }
+            }
+            model.commitTransaction();
+        } catch (RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
         }
-        feedback.insert(0, MESSAGE_DELETE_EVENT_SUCCESS);
-        return new CommandResult(feedback.toString());
+        return new CommandResult(MESSAGE_DELETE_EVENT_SUCCESS + feedback);
     }
 
     @Override
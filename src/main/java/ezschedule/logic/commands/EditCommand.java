@@ -8,8 +8,10 @@ import static ezschedule.logic.parser.CliSyntax.PREFIX_NAME;
 import static ezschedule.logic.parser.CliSyntax.PREFIX_START;
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import ezschedule.commons.core.index.Index;
 import ezschedule.commons.util.CollectionUtil;
@@ -18,10 +20,12 @@ import ezschedule.model.Model;
 import ezschedule.model.event.Date;
 import ezschedule.model.event.Event;
 import ezschedule.model.event.Name;
+import ezschedule.model.event.RecurringEvent;
 import ezschedule.model.event.Time;
 
 /**
  * Edits the details of an existing {@code Event} in the {@code Scheduler}.
+ * If the event recurs, its recurring events repeat the edited event instead.
  */
 public class EditCommand extends Command {
 
@@ -45,6 +49,8 @@ public class EditCommand extends Command {
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_EVENT = "This event already exists in the scheduler.";
     public static final String MESSAGE_EVENT_EXIST_AT_TIME = "Another event already exists at the chosen time";
+    public static final String MESSAGE_OCCURRENCE_EXIST_AT_TIME = "This event recurs, and another event already "
+            + "exists at the chosen time on a date it recurs on";
 
     private final Index index;
     private final EditEventDescriptor editEventDescriptor;
@@ -99,17 +105,51 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_EVENT);
         } else if (model.hasEventAtTime(eventToEdit, editedEvent)) {
             throw new CommandException(MESSAGE_EVENT_EXIST_AT_TIME);
-        } else {
-            model.clearRecent();
-            model.addRecentCommand(this);
+        }
+
+        List<RecurringEvent> recurringEventsToEdit = model.getRecurringEventList().stream()
+                .filter(recurringEvent -> recurringEvent.isRecurrenceOf(eventToEdit))
+                .collect(Collectors.toList());
+        if (hasClashingOccurrence(model, eventToEdit, editedEvent, recurringEventsToEdit)) {
+            throw new CommandException(MESSAGE_OCCURRENCE_EXIST_AT_TIME);
+        }
+
+        model.beginTransaction(COMMAND_WORD);
+        try {
             model.setEvent(eventToEdit, editedEvent);
-            model.updateFilteredEventList(Model.PREDICATE_SHOW_ALL_EVENTS);
-            model.addRecentEvent(eventToEdit);
-            model.addRecentEvent(editedEvent);
+            for (RecurringEvent recurringEvent : recurringEventsToEdit) {
+                model.deleteRecurringEvent(recurringEvent);
+                model.addRecurringEvent(recurringEvent.withEvent(editedEvent));
+            }
+            model.commitTransaction();
+        } catch (RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
         }
+        model.updateFilteredEventList(Model.PREDICATE_SHOW_ALL_EVENTS);
         return new CommandResult(String.format(MESSAGE_EDIT_EVENT_SUCCESS, editedEvent));
     }
 
+    /**
+     * Returns true if an occurrence of {@code recurringEventsToEdit}, once they repeat {@code editedEvent}, would
+     * clash with another event or with an occurrence of another recurring event.
+     * {@code eventToEdit} and the recurring events that repeat it are left out of the check, since they all move.
+     * The occurrences start the day after {@code editedEvent}, so they cannot clash with it.
+     */
+    private static boolean hasClashingOccurrence(Model model, Event eventToEdit, Event editedEvent,
+            List<RecurringEvent> recurringEventsToEdit) {
+        LocalDate firstDate = editedEvent.getDate().date.plusDays(1);
+        for (RecurringEvent recurringEvent : recurringEventsToEdit) {
+            RecurringEvent editedRecurringEvent = recurringEvent.withEvent(editedEvent);
+            List<Event> occurrences = editedRecurringEvent.getOccurrencesBetween(firstDate,
+                    editedRecurringEvent.getEndDate().date);
+            if (!model.getClashes(occurrences, eventToEdit).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -6,9 +6,11 @@ import static ezschedule.logic.parser.CliSyntax.PREFIX_NAME;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
+import ezschedule.commons.util.StringUtil;
 import ezschedule.model.Model;
 import ezschedule.model.event.Date;
 import ezschedule.model.event.Event;
@@ -48,13 +50,15 @@ public class FindCommand extends Command {
         requireNonNull(model);
         Predicate<Event> predicate;
         if (findEventDescriptor.getName().isPresent() && findEventDescriptor.getDate().isPresent()) {
-            String[] names = findEventDescriptor.getName().get().toString().split("\\s+");
+            List<String> keywords = getKeywords(findEventDescriptor.getName().get());
             Date date = findEventDescriptor.getDate().get();
-            predicate = new EventMatchesKeywordsAndDatePredicate(Arrays.asList(names), date);
+            predicate = new EventMatchesKeywordsAndDatePredicate(keywords,
+                    model.getNamesContainingAny(StringUtil.toLowerCaseWords(keywords)), date);
 
         } else if (findEventDescriptor.getName().isPresent()) {
-            String[] names = findEventDescriptor.getName().get().toString().split("\\s+");
-            predicate = new EventContainsKeywordsPredicate(Arrays.asList(names));
+            List<String> keywords = getKeywords(findEventDescriptor.getName().get());
+            predicate = new EventContainsKeywordsPredicate(keywords,
+                    model.getNamesContainingAny(StringUtil.toLowerCaseWords(keywords)));
 
         } else {
             Date date = findEventDescriptor.getDate().get();
@@ -67,6 +71,10 @@ public class FindCommand extends Command {
                 String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventList().size()));
     }
 
+    private static List<String> getKeywords(Name name) {
+        return Arrays.asList(name.toString().split("\\s+"));
+    }
+
     @Override
     public String commandWord() {
         return COMMAND_WORD;
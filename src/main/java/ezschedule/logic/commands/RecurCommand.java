@@ -5,7 +5,9 @@ import static ezschedule.logic.parser.CliSyntax.PREFIX_DATE;
 import static ezschedule.logic.parser.CliSyntax.PREFIX_EVERY;
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.StringJoiner;
 
 import ezschedule.commons.core.index.Index;
 import ezschedule.logic.commands.exceptions.CommandException;
@@ -13,6 +15,8 @@ import ezschedule.model.Model;
 import ezschedule.model.event.Date;
 import ezschedule.model.event.Event;
 import ezschedule.model.event.RecurFactor;
+import ezschedule.model.event.RecurrenceRule;
+import ezschedule.model.event.RecurringEvent;
 
 /**
  * Recurs an existing {@code Event} in the {@code Scheduler}.
@@ -25,34 +29,48 @@ public class RecurCommand extends Command {
             + "the index number used in the displayed event list. "
             + "\nParameters: INDEX (must exist)\n "
             + PREFIX_DATE + "ending date\n "
-            + PREFIX_EVERY + "{day, week, month} "
+            + PREFIX_EVERY + "{day, week, month} or an RFC 5545 RRULE without COUNT or UNTIL "
             + "\nExample: \n" + COMMAND_WORD + " 1 "
             + PREFIX_DATE + "2024-02-20 "
-            + PREFIX_EVERY + "month ";
+            + PREFIX_EVERY + "month \n"
+            + COMMAND_WORD + " 1 "
+            + PREFIX_DATE + "2024-02-20 "
+            + PREFIX_EVERY + "FREQ=MONTHLY;BYDAY=FR;BYSETPOS=-1";
 
     public static final String MESSAGE_SUCCESS = "Recurring event added: %1$s";
     public static final String MESSAGE_FAILURE_PAST_DATE = "End date indicated is in the past\n"
             + "Ensure end date of recurrence has not past.";
-    public static final String MESSAGE_RECUR_FACTOR_CAP = "Recur factor '%s' may only be used for the next %d %ss";
-    public static final String MESSAGE_FAILURE_DAY_NOT_EXIST_MONTH = "Unable to recur by month.\n"
-            + "%s does not have day %d";
     public static final String MESSAGE_FAILURE_EVENT_CLASH = "Unable to recur.\n"
-            + "%d %s has a clashing event.";
+            + "These dates have a clashing event: %s";
+    public static final String MESSAGE_CLASH_DATE = "%d %s %d";
+    public static final String MESSAGE_DUPLICATE_RECURRING_EVENT =
+            "This recurring event already exists in the scheduler";
+    public static final String MESSAGE_RULE_WITH_END = "The recurrence ends on the date given by " + PREFIX_DATE
+            + ", so the rule cannot have COUNT or UNTIL";
 
     private final Index index;
     private final Date endDate;
-    private final RecurFactor factor;
+    private final RecurrenceRule rule;
 
     /**
-     * Creates an {@code AddCommand} to add the specified {@code Event}
+     * Creates a {@code RecurCommand} to recur the specified {@code Event} every day, week or month until
+     * {@code endDate}.
      */
     public RecurCommand(Index index, Date endDate, RecurFactor factor) {
+        this(index, endDate, RecurrenceRule.of(requireNonNull(factor)));
+    }
+
+    /**
+     * Creates a {@code RecurCommand} to recur the specified {@code Event} by {@code rule} until {@code endDate}.
+     * {@code rule} must not be limited by a count.
+     */
+    public RecurCommand(Index index, Date endDate, RecurrenceRule rule) {
         requireNonNull(index);
         requireNonNull(endDate);
-        requireNonNull(factor);
+        requireNonNull(rule);
         this.index = index;
         this.endDate = endDate;
-        this.factor = factor;
+        this.rule = rule.withUntil(endDate.date);
     }
 
     @Override
@@ -69,192 +87,59 @@ public class RecurCommand extends Command {
             throw new CommandException(String.format(MESSAGE_INVALID_EVENT_DISPLAYED_INDEX, index.getZeroBased() + 1));
         }
 
-        if (endDate.isPastDate()) {
+        if (endDate.isPastDate(model.getCurrentDateTime().toLocalDate())) {
             throw new CommandException(MESSAGE_FAILURE_PAST_DATE);
         }
 
         Event eventToRecur = lastShownList.get(index.getZeroBased());
-        model.clearRecent();
-
-        switch (factor.toString()) {
-
-        case "day":
-            addEventPerDay(model, eventToRecur);
-            break;
-
-        case "week":
-            addEventPerWeek(model, eventToRecur);
-            break;
-
-        case "month":
-            addEventPerMonth(model, eventToRecur);
-            break;
-
-        default:
-            break;
+        model.beginTransaction(COMMAND_WORD);
+        try {
+            addRecurringEvent(model, eventToRecur);
+            model.commitTransaction();
+        } catch (CommandException | RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
         }
-        model.addRecentCommand(this);
         model.updateFilteredEventList(Model.PREDICATE_SHOW_ALL_EVENTS);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, eventToRecur));
     }
 
     /**
-     * Adds new events to every day until endDate.
+     * Adds a recurring event that repeats {@code eventToRecur} by the rule until endDate.
+     * The occurrences are not added as events; they are worked out from the recurring event when needed.
+     * Every occurrence is checked for clashes in one batch, and all the clashing dates are reported.
      *
      * @param model        model to add
      * @param eventToRecur event to recur in the model
      */
-    public void addEventPerDay(Model model, Event eventToRecur) throws CommandException {
-
-        String month;
-        int maxDaysInMonth = 30;
+    public void addRecurringEvent(Model model, Event eventToRecur) throws CommandException {
+        RecurringEvent recurringEvent = toRecurringEvent(eventToRecur);
 
-        Date baseDate = eventToRecur.getDate();
-        int daysDiff = (int) baseDate.getDaysBetween(endDate.date);
-
-        Event[] eventsToAdd = new Event[daysDiff];
-
-        if (daysDiff > maxDaysInMonth) {
-            throw new CommandException(String.format(MESSAGE_RECUR_FACTOR_CAP,
-                    factor.toString(), maxDaysInMonth, factor));
+        if (model.getRecurringEventList().contains(recurringEvent)) {
+            throw new CommandException(MESSAGE_DUPLICATE_RECURRING_EVENT);
         }
 
-        Date newDate = new Date(eventToRecur.getDate().date.plusDays(1).toString());
-        Event nextEventToRecur =
-                new Event(eventToRecur.getName(), newDate,
-                        eventToRecur.getStartTime(), eventToRecur.getEndTime());
-
-        for (int i = 0; i < daysDiff; i++) {
-
-            month = intToStringMonth(newDate.getMonth());
-
-            //for undo
-            model.addRecentEvent(nextEventToRecur);
-
-            if (model.hasEventAtTime(nextEventToRecur)) {
-                throw new CommandException(String.format(MESSAGE_FAILURE_EVENT_CLASH, newDate.getDay(), month));
+        LocalDate firstDate = eventToRecur.getDate().date.plusDays(1);
+        List<Event> clashes = model.getClashes(recurringEvent.getOccurrencesBetween(firstDate, endDate.date));
+        if (!clashes.isEmpty()) {
+            StringJoiner clashDates = new StringJoiner(", ");
+            for (Event clash : clashes) {
+                Date clashDate = clash.getDate();
+                clashDates.add(String.format(MESSAGE_CLASH_DATE, clashDate.getDay(),
+                        intToStringMonth(clashDate.getMonth()), clashDate.date.getYear()));
             }
-
-            eventsToAdd[i] = nextEventToRecur;
-            newDate = new Date(nextEventToRecur.getDate().date.plusDays(1).toString());
-            nextEventToRecur =
-                    new Event(eventToRecur.getName(), newDate,
-                            eventToRecur.getStartTime(), eventToRecur.getEndTime());
+            throw new CommandException(String.format(MESSAGE_FAILURE_EVENT_CLASH, clashDates));
         }
 
-        // if successful, add all events
-        for (int i = 0; i < daysDiff; i++) {
-            model.addEvent(eventsToAdd[i]);
-        }
+        model.addRecurringEvent(recurringEvent);
     }
 
     /**
-     * Adds new events to every week until endDate.
-     *
-     * @param model        model to add
-     * @param eventToRecur event to recur in the model
+     * Returns the recurring event that this command adds for {@code eventToRecur}.
      */
-    public void addEventPerWeek(Model model, Event eventToRecur) throws CommandException {
-
-        String month;
-        int daysPerWeek = 7;
-        int maxWeeksInYear = 52;
-
-        Date baseDate = eventToRecur.getDate();
-        int weeksDiff = (int) baseDate.getDaysBetween(endDate.date) / daysPerWeek;
-
-        Event[] eventsToAdd = new Event[weeksDiff];
-
-        Date newDate = new Date(eventToRecur.getDate().date.plusWeeks(1).toString());
-        Event nextEventToRecur =
-                new Event(eventToRecur.getName(), newDate,
-                        eventToRecur.getStartTime(), eventToRecur.getEndTime());
-
-        if (weeksDiff > maxWeeksInYear) {
-            throw new CommandException(String.format(MESSAGE_RECUR_FACTOR_CAP,
-                    factor.toString(), maxWeeksInYear, factor));
-        }
-
-        for (int i = 0; i < weeksDiff; i++) {
-
-            month = intToStringMonth(newDate.getMonth());
-
-            // for undo
-            model.addRecentEvent(nextEventToRecur);
-
-            if (model.hasEventAtTime(nextEventToRecur)) {
-                throw new CommandException(String.format(MESSAGE_FAILURE_EVENT_CLASH, newDate.getDay(), month));
-            }
-
-            eventsToAdd[i] = nextEventToRecur;
-            newDate = new Date(nextEventToRecur.getDate().date.plusWeeks(1).toString());
-            nextEventToRecur =
-                    new Event(eventToRecur.getName(), newDate,
-                            eventToRecur.getStartTime(), eventToRecur.getEndTime());
-        }
-
-        // if successful, add all events
-        for (int i = 0; i < weeksDiff; i++) {
-            model.addEvent(eventsToAdd[i]);
-        }
-    }
-
-    /**
-     * Adds new events to every month until endDate.
-     *
-     * @param model        model to add
-     * @param eventToRecur event to recur in the model
-     */
-    public void addEventPerMonth(Model model, Event eventToRecur) throws CommandException {
-
-        String month;
-        int maxMonthInYear = 12;
-
-        Date baseDate = eventToRecur.getDate();
-        int dayOfMonth = baseDate.getDay();
-        int monthsDiff = (int) baseDate.getMonthsBetween(endDate.date);
-
-        Event[] eventsToAdd = new Event[monthsDiff];
-
-        Date newDate = new Date(eventToRecur.getDate().date.plusMonths(1).toString());
-        Event nextEventToRecur =
-                new Event(eventToRecur.getName(), newDate,
-                        eventToRecur.getStartTime(), eventToRecur.getEndTime());
-
-        if (monthsDiff > maxMonthInYear) {
-            throw new CommandException(String.format(MESSAGE_RECUR_FACTOR_CAP,
-                    factor.toString(), maxMonthInYear, factor));
-        }
-
-        for (int i = 0; i < monthsDiff; i++) {
-
-            month = intToStringMonth(newDate.getMonth());
-
-            // for undo
-            model.addRecentEvent(nextEventToRecur);
-
-            // if curr day does not exist for next month
-            if (newDate.getDay() != dayOfMonth) {
-                throw new CommandException(String.format(MESSAGE_FAILURE_DAY_NOT_EXIST_MONTH, month, dayOfMonth));
-            } else {
-
-                if (model.hasEventAtTime(nextEventToRecur)) {
-                    throw new CommandException(String.format(MESSAGE_FAILURE_EVENT_CLASH, newDate.getDay(), month));
-                }
-
-                eventsToAdd[i] = nextEventToRecur;
-                newDate = new Date(nextEventToRecur.getDate().date.plusMonths(1).toString());
-                nextEventToRecur =
-                        new Event(eventToRecur.getName(), newDate,
-                                eventToRecur.getStartTime(), eventToRecur.getEndTime());
-            }
-        }
-
-        // if successful, add all events
-        for (int i = 0; i < monthsDiff; i++) {
-            model.addEvent(eventsToAdd[i]);
-        }
+    private RecurringEvent toRecurringEvent(Event eventToRecur) {
+        return new RecurringEvent(eventToRecur, rule);
     }
 
     /**
@@ -316,11 +201,11 @@ public class RecurCommand extends Command {
     }
 
     /**
-     * Gets recur factor.
-     * @return factor
+     * Gets recurrence rule, which ends on the end date.
+     * @return rule
      */
-    public RecurFactor getFactor() {
-        return factor;
+    public RecurrenceRule getRule() {
+        return rule;
     }
 
     @Override
@@ -339,6 +224,6 @@ public class RecurCommand extends Command {
         RecurCommand e = (RecurCommand) other;
         return index.equals(e.index)
                 && endDate.equals(e.endDate)
-                && factor.equals(e.factor);
+                && rule.equals(e.rule);
     }
 }
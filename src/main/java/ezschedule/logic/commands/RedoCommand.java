@@ -0,0 +1,38 @@
+package ezschedule.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import ezschedule.logic.commands.exceptions.CommandException;
+import ezschedule.model.Model;
+
+/**
+ * Redoes the most recently undone change to the {@code Scheduler}.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Redo the most recently undone action. Can be repeated to redo later actions.\n"
+            + "Example: " + COMMAND_WORD;
+    public static final String MESSAGE_REDONE_SUCCESS = "Action redone: %1$s";
+    public static final String MESSAGE_REDO_ERROR = "Redo cannot be done at this moment.";
+
+    @Override
+    public String commandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Optional<String> redoneAction = model.redo();
+        if (redoneAction.isEmpty()) {
+            throw new CommandException(MESSAGE_REDO_ERROR);
+        }
+
+        return new CommandResult(String.format(MESSAGE_REDONE_SUCCESS, redoneAction.get()));
+    }
+}
@@ -5,7 +5,6 @@ import static java.util.Objects.requireNonNull;
 
 import ezschedule.logic.commands.exceptions.CommandException;
 import ezschedule.model.Model;
-import ezschedule.model.event.UpcomingEventPredicate;
 
 /**
  * List the next (or next few) upcoming {@code Event}.
@@ -21,10 +20,16 @@ public class ShowNextCommand extends Command {
             + "\nParameter: COUNT (must be a positive integer)"
             + "\nExample: " + COMMAND_WORD + " 3";
 
-    private final UpcomingEventPredicate predicate;
+    private final int count;
 
-    public ShowNextCommand(UpcomingEventPredicate predicate) {
-        this.predicate = predicate;
+    /**
+     * Creates a ShowNextCommand to show the next {@code count} upcoming events.
+     */
+    public ShowNextCommand(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive.");
+        }
+        this.count = count;
     }
 
     @Override
@@ -35,7 +40,7 @@ public class ShowNextCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateUpcomingEventList(predicate);
+        model.updateUpcomingEventList(count);
         return new CommandResult(
                 String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, model.getUpcomingEventList().size()));
     }
@@ -44,6 +49,6 @@ public class ShowNextCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ShowNextCommand // instanceof handles nulls
-                && predicate.equals(((ShowNextCommand) other).predicate)); // state check
+                && count == ((ShowNextCommand) other).count); // state check
     }
 }
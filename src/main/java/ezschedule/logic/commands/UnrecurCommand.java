@@ -0,0 +1,80 @@
+package ezschedule.logic.commands;
+
+import static ezschedule.commons.core.Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import ezschedule.commons.core.index.Index;
+import ezschedule.logic.commands.exceptions.CommandException;
+import ezschedule.model.Model;
+import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurringEvent;
+
+/**
+ * Stops an {@code Event} identified using its displayed index from recurring. The event itself is kept.
+ */
+public class UnrecurCommand extends Command {
+
+    public static final String COMMAND_WORD = "unrecur";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Stops the event identified by the index number used in the displayed event list from recurring.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_SUCCESS = "Event no longer recurs: %1$s";
+    public static final String MESSAGE_NOT_RECURRING = "This event does not recur";
+
+    private final Index targetIndex;
+
+    /**
+     * Creates an UnrecurCommand to stop the event at {@code targetIndex} from recurring.
+     */
+    public UnrecurCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public String commandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Event> lastShownList = model.getFilteredEventList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(
+                    String.format(MESSAGE_INVALID_EVENT_DISPLAYED_INDEX, targetIndex.getZeroBased() + 1));
+        }
+
+        Event eventToUnrecur = lastShownList.get(targetIndex.getZeroBased());
+        List<RecurringEvent> recurringEventsToDelete = model.getRecurringEventList().stream()
+                .filter(recurringEvent -> recurringEvent.isRecurrenceOf(eventToUnrecur))
+                .collect(Collectors.toList());
+        if (recurringEventsToDelete.isEmpty()) {
+            throw new CommandException(MESSAGE_NOT_RECURRING);
+        }
+
+        model.beginTransaction(COMMAND_WORD);
+        try {
+            recurringEventsToDelete.forEach(model::deleteRecurringEvent);
+            model.commitTransaction();
+        } catch (RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, eventToUnrecur));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof UnrecurCommand // instanceof handles nulls
+                && targetIndex.equals(((UnrecurCommand) other).targetIndex)); // state check
+    }
+}
@@ -11,6 +11,7 @@ import ezschedule.logic.parser.exceptions.ParseException;
 import ezschedule.model.event.Date;
 import ezschedule.model.event.Name;
 import ezschedule.model.event.RecurFactor;
+import ezschedule.model.event.RecurrenceRule;
 import ezschedule.model.event.Time;
 
 /**
@@ -19,6 +20,8 @@ import ezschedule.model.event.Time;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_RECURRENCE = RecurFactor.MESSAGE_CONSTRAINTS
+            + ", or a recurrence rule.\n" + RecurrenceRule.MESSAGE_CONSTRAINTS;
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it.
@@ -65,7 +68,7 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return Name.of(trimmedName);
     }
 
     /**
@@ -80,7 +83,7 @@ public class ParserUtil {
         if (!Date.isValidDate(trimmedDate)) {
             throw new ParseException(Date.MESSAGE_CONSTRAINTS);
         }
-        return new Date(trimmedDate);
+        return Date.of(trimmedDate);
     }
 
     /**
@@ -95,7 +98,7 @@ public class ParserUtil {
         if (!Time.isValidTime(trimmedTime)) {
             throw new ParseException(Time.MESSAGE_CONSTRAINTS);
         }
-        return new Time(trimmedTime);
+        return Time.of(trimmedTime);
     }
 
     /**
@@ -112,4 +115,23 @@ public class ParserUtil {
         }
         return new RecurFactor(trimmedRecurFactor);
     }
+
+    /**
+     * Parses a {@code String recurrenceRule} into a {@code RecurrenceRule}.
+     * The rule may be a recur factor (day, week or month), or a rule in RRULE syntax.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code recurrenceRule} is invalid.
+     */
+    public static RecurrenceRule parseRecurrenceRule(String recurrenceRule) throws ParseException {
+        requireNonNull(recurrenceRule);
+        String trimmedRecurrenceRule = recurrenceRule.trim();
+        if (RecurFactor.isValidRecurFactor(trimmedRecurrenceRule)) {
+            return RecurrenceRule.of(new RecurFactor(trimmedRecurrenceRule));
+        }
+        if (!RecurrenceRule.isValidRule(trimmedRecurrenceRule)) {
+            throw new ParseException(MESSAGE_INVALID_RECURRENCE);
+        }
+        return new RecurrenceRule(trimmedRecurrenceRule);
+    }
 }
@@ -11,7 +11,7 @@ import ezschedule.commons.core.index.Index;
 import ezschedule.logic.commands.RecurCommand;
 import ezschedule.logic.parser.exceptions.ParseException;
 import ezschedule.model.event.Date;
-import ezschedule.model.event.RecurFactor;
+import ezschedule.model.event.RecurrenceRule;
 
 /**
  * Parses input arguments and creates a new RecurCommand object.
@@ -39,7 +39,7 @@ public class RecurCommandParser implements Parser<RecurCommand> {
 
         Index index;
         Date endDate;
-        RecurFactor recurFactor;
+        RecurrenceRule rule;
 
         if (!arePrefixesPresent(argMultimap, PREFIX_DATE, PREFIX_EVERY)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RecurCommand.MESSAGE_USAGE));
@@ -53,8 +53,11 @@ public class RecurCommandParser implements Parser<RecurCommand> {
         }
 
         endDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
-        recurFactor = ParserUtil.parseRecurFactor(argMultimap.getValue(PREFIX_EVERY).get());
+        rule = ParserUtil.parseRecurrenceRule(argMultimap.getValue(PREFIX_EVERY).get());
+        if (rule.hasEnd()) {
+            throw new ParseException(RecurCommand.MESSAGE_RULE_WITH_END);
+        }
 
-        return new RecurCommand(index, endDate, recurFactor);
+        return new RecurCommand(index, endDate, rule);
     }
 }
@@ -16,8 +16,10 @@ import ezschedule.logic.commands.FindCommand;
 import ezschedule.logic.commands.HelpCommand;
 import ezschedule.logic.commands.ListCommand;
 import ezschedule.logic.commands.RecurCommand;
+import ezschedule.logic.commands.RedoCommand;
 import ezschedule.logic.commands.ShowNextCommand;
 import ezschedule.logic.commands.UndoCommand;
+import ezschedule.logic.commands.UnrecurCommand;
 import ezschedule.logic.parser.exceptions.ParseException;
 
 /**
@@ -59,6 +61,9 @@ public class SchedulerParser {
         case RecurCommand.COMMAND_WORD:
             return new RecurCommandParser().parse(arguments);
 
+        case UnrecurCommand.COMMAND_WORD:
+            return new UnrecurCommandParser().parse(arguments);
+
         case ShowNextCommand.COMMAND_WORD:
             return new ShowNextCommandParser().parse(arguments);
 
@@ -72,6 +77,13 @@ public class SchedulerParser {
                 return new UndoCommand();
             }
 
+        case RedoCommand.COMMAND_WORD:
+            if (!arguments.equals("")) {
+                throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+            } else {
+                return new RedoCommand();
+            }
+
         case ListCommand.COMMAND_WORD:
             if (!arguments.equals("")) {
                 throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
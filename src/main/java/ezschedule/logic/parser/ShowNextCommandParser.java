@@ -5,7 +5,6 @@ import static ezschedule.logic.commands.ShowNextCommand.SHOW_UPCOMING_COUNT_ONE;
 
 import ezschedule.logic.commands.ShowNextCommand;
 import ezschedule.logic.parser.exceptions.ParseException;
-import ezschedule.model.event.UpcomingEventPredicate;
 
 /**
  * Parses input arguments and creates a new ShowNextCommandParser object
@@ -22,13 +21,13 @@ public class ShowNextCommandParser implements Parser<ShowNextCommand> {
     public ShowNextCommand parse(String userInput) throws ParseException {
         // No argument provided, just show the next one
         if (userInput.isBlank()) {
-            return new ShowNextCommand(new UpcomingEventPredicate(SHOW_UPCOMING_COUNT_ONE));
+            return new ShowNextCommand(SHOW_UPCOMING_COUNT_ONE);
         }
 
         try {
             int count = Integer.parseInt(userInput.trim());
             if (count > 0) {
-                return new ShowNextCommand(new UpcomingEventPredicate(count));
+                return new ShowNextCommand(count);
             }
         } catch (NumberFormatException e) {
             // Empty here; another exception is throw outside.
@@ -0,0 +1,29 @@
+package ezschedule.logic.parser;
+
+import static ezschedule.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import ezschedule.commons.core.index.Index;
+import ezschedule.logic.commands.UnrecurCommand;
+import ezschedule.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UnrecurCommand object
+ */
+public class UnrecurCommandParser implements Parser<UnrecurCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UnrecurCommand
+     * and returns an UnrecurCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UnrecurCommand parse(String args) throws ParseException {
+        try {
+            Index index = ParserUtil.parseIndex(args);
+            return new UnrecurCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnrecurCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
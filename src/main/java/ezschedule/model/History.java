@@ -0,0 +1,100 @@
+package ezschedule.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+import ezschedule.commons.util.AppUtil;
+
+/**
+ * The changes to a {@code Scheduler} that can be undone, and the undone changes that can be redone.
+ * <p>
+ * Each change is kept as the {@link Transaction} that made it, which holds only the events it removed and added, so
+ * undoing or redoing a change takes time proportional to its size. At most {@code depth} changes are kept for
+ * undoing, and the oldest are dropped early once the changes kept hold more than {@link #MAX_SIZE} events, so the
+ * memory used stays bounded however many commands are run.
+ */
+class History {
+
+    static final String MESSAGE_CONSTRAINTS = "Undo history depth must be a positive integer";
+
+    /** The number of events the changes kept may hold in total, beyond which only the latest change is kept. */
+    static final int MAX_SIZE = 100_000;
+
+    private final Deque<Transaction> undoable = new ArrayDeque<>(); // latest change first
+    private final Deque<Transaction> redoable = new ArrayDeque<>(); // latest undone change first
+    private int depth;
+    private long size;
+
+    History(int depth) {
+        setDepth(depth);
+    }
+
+    /**
+     * Sets the number of changes kept for undoing, dropping the oldest changes if there are more.
+     */
+    void setDepth(int depth) {
+        AppUtil.checkArgument(depth > 0, MESSAGE_CONSTRAINTS);
+        this.depth = depth;
+        trim();
+    }
+
+    /**
+     * Records {@code change} as the latest change, which can no longer be followed by redoing undone changes.
+     */
+    void record(Transaction change) {
+        requireNonNull(change);
+        for (Transaction undone : redoable) {
+            size -= undone.size();
+        }
+        redoable.clear();
+        undoable.push(change);
+        size += change.size();
+        trim();
+    }
+
+    /**
+     * Returns the latest change that has not been undone, if any.
+     */
+    Optional<Transaction> getUndoable() {
+        return Optional.ofNullable(undoable.peek());
+    }
+
+    /**
+     * Returns the latest undone change, if any.
+     */
+    Optional<Transaction> getRedoable() {
+        return Optional.ofNullable(redoable.peek());
+    }
+
+    /**
+     * Marks the change returned by {@link #getUndoable()} as undone.
+     */
+    void markUndone() {
+        redoable.push(undoable.pop());
+    }
+
+    /**
+     * Marks the change returned by {@link #getRedoable()} as redone.
+     */
+    void markRedone() {
+        undoable.push(redoable.pop());
+    }
+
+    /**
+     * Forgets every change.
+     */
+    void clear() {
+        undoable.clear();
+        redoable.clear();
+        size = 0;
+    }
+
+    private void trim() {
+        while (undoable.size() > depth || size > MAX_SIZE && undoable.size() > 1) {
+            size -= undoable.removeLast().size();
+        }
+    }
+}
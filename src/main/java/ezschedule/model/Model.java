@@ -1,12 +1,17 @@
 package ezschedule.model;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import ezschedule.commons.core.GuiSettings;
-import ezschedule.logic.commands.Command;
 import ezschedule.model.event.Event;
+import ezschedule.model.event.Name;
+import ezschedule.model.event.RecurringEvent;
 import javafx.collections.ObservableList;
 
 /**
@@ -76,23 +81,55 @@ public interface Model {
 
 
     /**
-     * Returns true if another event exists (excluding {@code currentEvent})
+     * Returns true if another event exists (excluding {@code currentEvent} and the recurring events that repeat it)
      * at the same time as {@code event} in the scheduler.
      */
     boolean hasEventAtTime(Event currentEvent, Event eventToCheck);
 
+    /**
+     * Returns the current date and time, as told by the clock of the model.
+     * Callers that check many events against the current time should get it once and reuse it.
+     */
+    LocalDateTime getCurrentDateTime();
+
+    /**
+     * Returns the events in the scheduler from {@code startDate} to {@code endDate} inclusive,
+     * in chronological order.
+     */
+    List<Event> getEventsBetween(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns the names of the events in the scheduler that contain any of {@code keywords}, ignoring case.
+     * The returned set stays current as the scheduler changes.
+     *
+     * @param keywords Non-empty keywords that are already in lower case.
+     */
+    Set<Name> getNamesContainingAny(List<String> keywords);
+
     /**
      * Adds the given event.
      * {@code event} must not already exist in the scheduler.
      */
     void addEvent(Event event);
 
+    /**
+     * Adds all of the given events in a single update.
+     * None of {@code events} may already exist in the scheduler.
+     */
+    void addEvents(List<Event> events);
+
     /**
      * Deletes the given event.
      * {@code event} must exist in the scheduler.
      */
     void deleteEvent(Event event);
 
+    /**
+     * Deletes all of the given events in a single update.
+     * Every event in {@code events} must exist in the scheduler.
+     */
+    void deleteEvents(List<Event> events);
+
     /**
      * Replaces the given event {@code target} with {@code editedEvent}.
      * {@code target} must exist in the scheduler.
@@ -101,28 +138,90 @@ public interface Model {
     void setEvent(Event target, Event editedEvent);
 
     /**
-     * Adds the given event as recent event.
+     * Returns the events in {@code candidates} that clash with an event, or with an occurrence of a recurring event,
+     * in the scheduler. {@code candidates} must be in chronological order.
      */
-    void addRecentEvent(Event event);
+    List<Event> getClashes(List<Event> candidates);
+
     /**
-     * Adds the given command as most recently executed command
+     * Returns the events in {@code candidates} that clash with an event, or with an occurrence of a recurring event,
+     * in the scheduler, excluding {@code currentEvent} and the recurring events that repeat it.
+     * {@code candidates} must be in chronological order.
      */
-    void addRecentCommand(Command command);
+    List<Event> getClashes(List<Event> candidates, Event currentEvent);
 
     /**
-     * Clears the recent event.
+     * Adds the given recurring event.
+     * {@code recurringEvent} must not already exist in the scheduler.
      */
-    void clearRecent();
+    void addRecurringEvent(RecurringEvent recurringEvent);
 
-    ArrayList<Command> recentCommands();
+    /**
+     * Deletes the given recurring event.
+     * {@code recurringEvent} must exist in the scheduler.
+     */
+    void deleteRecurringEvent(RecurringEvent recurringEvent);
 
-    ArrayList<Event> recentEvent();
+    /**
+     * Begins a transaction described by {@code description}, such as the word of the command making it.
+     * Until it is committed or rolled back, the events and recurring events added, deleted and replaced, and the
+     * scheduler being replaced, are staged instead of changing the scheduler, so queries do not see them yet.
+     * <p>
+     * Only the changes made in transactions can be undone. A change made outside of one clears the undo history,
+     * since the changes in it may no longer apply.
+     *
+     * @throws IllegalStateException if a transaction is already open.
+     */
+    void beginTransaction(String description);
+
+    /**
+     * Applies the changes staged by the open transaction to the scheduler in a single update, closes it, and records
+     * it in the undo history if it changed anything. Redoing the changes undone before it is no longer possible.
+     * If the changes cannot all be applied, none are, and the transaction is closed before the exception is rethrown.
+     *
+     * @throws IllegalStateException if no transaction is open.
+     */
+    void commitTransaction();
+
+    /**
+     * Discards the changes staged by the open transaction, and closes it. Does nothing if no transaction is open.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Undoes the latest change in the undo history that has not been undone, in time proportional to its size.
+     *
+     * @return the description of the change undone, or an empty {@code Optional} if there is none.
+     * @throws IllegalStateException if a transaction is open.
+     */
+    Optional<String> undo();
+
+    /**
+     * Redoes the latest change undone by {@link #undo()}, if no transaction has been committed since.
+     *
+     * @return the description of the change redone, or an empty {@code Optional} if there is none.
+     * @throws IllegalStateException if a transaction is open.
+     */
+    Optional<String> redo();
+
+    /**
+     * Returns the changes applied to the scheduler by committed transactions, undo and redo since this was last
+     * called, in the order they were applied, and starts collecting afresh.
+     * Returns an empty {@code Optional} if the scheduler was also changed outside of a transaction in that time, as
+     * such a change is not recorded.
+     */
+    Optional<List<Transaction>> takeAppliedChanges();
 
     /**
      * Returns an unmodifiable view of the event list
      */
     ObservableList<Event> getEventList();
 
+    /**
+     * Returns an unmodifiable view of the recurring event list
+     */
+    ObservableList<RecurringEvent> getRecurringEventList();
+
     /**
      * Returns an unmodifiable view of the filtered event list
      */
@@ -146,11 +245,16 @@ public interface Model {
     void updateFilteredEventList(Predicate<Event> predicate);
 
     /**
-     * Updates the filter of the upcoming event list to filter by the given {@code predicate}.
+     * Updates the upcoming event list to show the next {@code count} events that are not completed.
      *
-     * @throws NullPointerException if {@code predicate} is null.
+     * @throws IllegalArgumentException if {@code count} is not positive.
+     */
+    void updateUpcomingEventList(int count);
+
+    /**
+     * Brings the upcoming event list up to date with the current time.
      */
-    void updateUpcomingEventList(Predicate<Event> predicate);
+    void refreshUpcomingEventList();
 
     /**
      * Updates the filter of the find event list to filter by the given {@code predicate}.
@@ -5,15 +5,22 @@ import static ezschedule.logic.commands.ShowNextCommand.SHOW_UPCOMING_COUNT_ONE;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import ezschedule.commons.core.GuiSettings;
 import ezschedule.commons.core.LogsCenter;
-import ezschedule.logic.commands.Command;
 import ezschedule.model.event.Event;
-import ezschedule.model.event.UpcomingEventPredicate;
+import ezschedule.model.event.Name;
+import ezschedule.model.event.RecurringEvent;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 
@@ -25,27 +32,38 @@ public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final Scheduler scheduler;
+    private final Clock clock;
     private final UserPrefs userPrefs;
     private final FilteredList<Event> filteredEvents;
-    private final FilteredList<Event> upcomingEvents;
+    private final ObservableList<Event> upcomingEvents = FXCollections.observableArrayList();
+    private final ObservableList<Event> unmodifiableUpcomingEvents =
+            FXCollections.unmodifiableObservableList(upcomingEvents);
     private final FilteredList<Event> findEvents;
-    private ArrayList<Command> recentCommand;
-    private ArrayList<Event> recentEvent;
+    private final History history;
+    private int upcomingEventCount = SHOW_UPCOMING_COUNT_ONE;
+    private Transaction transaction; // null if no transaction is open
+    private List<Transaction> appliedChanges = new ArrayList<>(); // null if a change was made outside a transaction
 
     /**
-     * Initializes a ModelManager with the given scheduler and userPrefs.
+     * Initializes a ModelManager with the given scheduler and userPrefs, telling the time by the system clock.
      */
     public ModelManager(ReadOnlyScheduler scheduler, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(scheduler, userPrefs);
+        this(scheduler, userPrefs, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Initializes a ModelManager with the given scheduler and userPrefs, telling the time by {@code clock}.
+     */
+    public ModelManager(ReadOnlyScheduler scheduler, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        requireAllNonNull(scheduler, userPrefs, clock);
         logger.fine("Initializing with scheduler: " + scheduler + " and user prefs " + userPrefs);
         this.scheduler = new Scheduler(scheduler);
+        this.clock = clock;
         this.userPrefs = new UserPrefs(userPrefs);
         filteredEvents = new FilteredList<>(this.scheduler.getEventList());
-        upcomingEvents = new FilteredList<>(this.scheduler.getEventList());
         findEvents = new FilteredList<>(this.scheduler.getEventList());
-        recentCommand = new ArrayList<>();
-        recentEvent = new ArrayList<>();
-        updateUpcomingEventList(new UpcomingEventPredicate(SHOW_UPCOMING_COUNT_ONE));
+        history = new History(this.userPrefs.getUndoHistoryDepth());
+        refreshUpcomingEventList();
         updateFindEventList(PREDICATE_SHOW_NO_EVENTS);
     }
 
@@ -53,15 +71,6 @@ public class ModelManager implements Model {
         this(new Scheduler(), new UserPrefs());
     }
 
-    /**
-     * Constructs a ModelManager.
-     */
-    public ModelManager(ArrayList<Command> command, ArrayList<Event> event) {
-        this(new Scheduler(), new UserPrefs());
-        recentCommand = command;
-        recentEvent = event;
-    }
-
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -73,6 +82,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        history.setDepth(this.userPrefs.getUndoHistoryDepth());
     }
 
     @Override
@@ -106,7 +116,17 @@ public class ModelManager implements Model {
 
     @Override
     public void setScheduler(ReadOnlyScheduler scheduler) {
+        requireNonNull(scheduler);
+        if (transaction != null) {
+            transaction.removeEvents(new ArrayList<>(this.scheduler.getEventList()));
+            this.scheduler.getRecurringEventList().forEach(transaction::removeRecurringEvent);
+            transaction.addEvents(scheduler.getEventList());
+            scheduler.getRecurringEventList().forEach(transaction::addRecurringEvent);
+            return;
+        }
+        forgetChanges();
         this.scheduler.resetData(scheduler);
+        refreshUpcomingEventList();
     }
 
     @Override
@@ -128,52 +148,209 @@ public class ModelManager implements Model {
         return scheduler.hasEventAtTime(current, toCheck);
     }
 
+    @Override
+    public LocalDateTime getCurrentDateTime() {
+        return LocalDateTime.now(clock);
+    }
+
+    @Override
+    public List<Event> getEventsBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        return scheduler.getEventsBetween(startDate, endDate);
+    }
+
+    @Override
+    public Set<Name> getNamesContainingAny(List<String> keywords) {
+        requireNonNull(keywords);
+        return scheduler.getNamesContainingAny(keywords);
+    }
+
     @Override
     public void deleteEvent(Event target) {
+        if (transaction != null) {
+            transaction.removeEvents(List.of(target));
+            return;
+        }
+        forgetChanges();
         scheduler.removeEvent(target);
-        updateUpcomingEventList(new UpcomingEventPredicate());
+        refreshUpcomingEventList();
+        updateFindEventList(PREDICATE_SHOW_NO_EVENTS);
+    }
+
+    @Override
+    public void deleteEvents(List<Event> targets) {
+        requireNonNull(targets);
+        if (transaction != null) {
+            transaction.removeEvents(targets);
+            return;
+        }
+        forgetChanges();
+        scheduler.removeEvents(targets);
+        refreshUpcomingEventList();
         updateFindEventList(PREDICATE_SHOW_NO_EVENTS);
     }
 
     @Override
     public void addEvent(Event event) {
+        if (transaction != null) {
+            transaction.addEvents(List.of(event));
+            return;
+        }
+        forgetChanges();
         scheduler.addEvent(event);
         updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
-        updateUpcomingEventList(new UpcomingEventPredicate());
+        refreshUpcomingEventList();
+        updateFindEventList(PREDICATE_SHOW_NO_EVENTS);
+    }
+
+    @Override
+    public void addEvents(List<Event> events) {
+        requireNonNull(events);
+        if (transaction != null) {
+            transaction.addEvents(events);
+            return;
+        }
+        forgetChanges();
+        scheduler.addEvents(events);
+        updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
+        refreshUpcomingEventList();
         updateFindEventList(PREDICATE_SHOW_NO_EVENTS);
     }
 
     @Override
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
+        if (transaction != null) {
+            transaction.removeEvents(List.of(target));
+            transaction.addEvents(List.of(editedEvent));
+            return;
+        }
+        forgetChanges();
         scheduler.setEvent(target, editedEvent);
-        updateUpcomingEventList(new UpcomingEventPredicate());
+        refreshUpcomingEventList();
         updateFindEventList(PREDICATE_SHOW_NO_EVENTS);
     }
 
     @Override
-    public ArrayList<Command> recentCommands() {
-        return recentCommand;
+    public List<Event> getClashes(List<Event> candidates) {
+        requireNonNull(candidates);
+        return scheduler.getClashes(candidates);
     }
 
     @Override
-    public ArrayList<Event> recentEvent() {
-        return recentEvent;
+    public List<Event> getClashes(List<Event> candidates, Event currentEvent) {
+        requireAllNonNull(candidates, currentEvent);
+        return scheduler.getClashes(candidates, currentEvent);
     }
 
     @Override
-    public void addRecentEvent(Event event) {
-        recentEvent.add(event);
+    public void addRecurringEvent(RecurringEvent recurringEvent) {
+        requireNonNull(recurringEvent);
+        if (transaction != null) {
+            transaction.addRecurringEvent(recurringEvent);
+            return;
+        }
+        forgetChanges();
+        scheduler.addRecurringEvent(recurringEvent);
+        refreshUpcomingEventList();
+    }
+
+    @Override
+    public void deleteRecurringEvent(RecurringEvent recurringEvent) {
+        requireNonNull(recurringEvent);
+        if (transaction != null) {
+            transaction.removeRecurringEvent(recurringEvent);
+            return;
+        }
+        forgetChanges();
+        scheduler.removeRecurringEvent(recurringEvent);
+        refreshUpcomingEventList();
     }
+
     @Override
-    public void addRecentCommand(Command command) {
-        recentCommand.add(command);
+    public void beginTransaction(String description) {
+        requireNonNull(description);
+        if (transaction != null) {
+            throw new IllegalStateException("A transaction is already open.");
+        }
+        transaction = new Transaction(description);
     }
 
     @Override
-    public void clearRecent() {
-        recentCommand.clear();
-        recentEvent.clear();
+    public void commitTransaction() {
+        if (transaction == null) {
+            throw new IllegalStateException("No transaction is open.");
+        }
+
+        Transaction committed = transaction;
+        transaction = null;
+        if (!committed.isEmpty()) {
+            apply(committed);
+            history.record(committed);
+        }
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        transaction = null;
+    }
+
+    @Override
+    public Optional<String> undo() {
+        checkNoTransaction();
+        Optional<Transaction> change = history.getUndoable();
+        change.ifPresent(undone -> {
+            apply(undone.inverse());
+            history.markUndone();
+        });
+        return change.map(Transaction::getDescription);
+    }
+
+    @Override
+    public Optional<String> redo() {
+        checkNoTransaction();
+        Optional<Transaction> change = history.getRedoable();
+        change.ifPresent(redone -> {
+            apply(redone);
+            history.markRedone();
+        });
+        return change.map(Transaction::getDescription);
+    }
+
+    @Override
+    public Optional<List<Transaction>> takeAppliedChanges() {
+        List<Transaction> changes = appliedChanges;
+        appliedChanges = new ArrayList<>();
+        return Optional.ofNullable(changes);
+    }
+
+    /**
+     * Clears the undo history and the applied changes, after a change made outside of a transaction.
+     */
+    private void forgetChanges() {
+        history.clear();
+        appliedChanges = null;
+    }
+
+    private void checkNoTransaction() {
+        if (transaction != null) {
+            throw new IllegalStateException("A transaction is open.");
+        }
+    }
+
+    /**
+     * Applies {@code change} to the scheduler in a single update, and brings the other lists up to date with it.
+     */
+    private void apply(Transaction change) {
+        scheduler.apply(change);
+        if (appliedChanges != null) {
+            appliedChanges.add(change);
+        }
+        if (!change.getEventsToAdd().isEmpty()) {
+            updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
+        }
+        refreshUpcomingEventList();
+        updateFindEventList(PREDICATE_SHOW_NO_EVENTS);
     }
 
     //=========== Event List Accessors =============================================================
@@ -186,6 +363,11 @@ public class ModelManager implements Model {
         return scheduler.getEventList();
     }
 
+    @Override
+    public ObservableList<RecurringEvent> getRecurringEventList() {
+        return scheduler.getRecurringEventList();
+    }
+
     @Override
     public ObservableList<Event> getFilteredEventList() {
         return filteredEvents;
@@ -193,7 +375,7 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Event> getUpcomingEventList() {
-        return upcomingEvents;
+        return unmodifiableUpcomingEvents;
     }
 
     @Override
@@ -204,19 +386,46 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredEventList(Predicate<Event> predicate) {
         requireNonNull(predicate);
-        filteredEvents.setPredicate(predicate);
+        setPredicateIfChanged(filteredEvents, predicate);
     }
 
     @Override
-    public void updateUpcomingEventList(Predicate<Event> predicate) {
-        requireNonNull(predicate);
-        upcomingEvents.setPredicate(predicate);
+    public void updateUpcomingEventList(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive.");
+        }
+        upcomingEventCount = count;
+        refreshUpcomingEventList();
     }
 
     @Override
     public void updateFindEventList(Predicate<Event> predicate) {
         requireNonNull(predicate);
-        findEvents.setPredicate(predicate);
+        setPredicateIfChanged(findEvents, predicate);
+    }
+
+    /**
+     * Sets the predicate of {@code events}, unless it is already {@code predicate}.
+     * A filtered list applies its predicate to each change in the scheduler as it happens, so it only needs to be
+     * refiltered as a whole when its predicate is replaced.
+     */
+    private static void setPredicateIfChanged(FilteredList<Event> events, Predicate<Event> predicate) {
+        if (events.getPredicate() != predicate) {
+            events.setPredicate(predicate);
+        }
+    }
+
+    /**
+     * Brings the upcoming event list up to date with the scheduler and the current time.
+     * The upcoming events are looked up from the current time rather than filtered from every event, and the list
+     * is only changed if they are no longer the same.
+     */
+    @Override
+    public void refreshUpcomingEventList() {
+        List<Event> expectedUpcomingEvents = scheduler.getUpcomingEvents(getCurrentDateTime(), upcomingEventCount);
+        if (!expectedUpcomingEvents.equals(upcomingEvents)) {
+            upcomingEvents.setAll(expectedUpcomingEvents);
+        }
     }
 
     @Override
@@ -1,6 +1,7 @@
 package ezschedule.model;
 
 import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurringEvent;
 import javafx.collections.ObservableList;
 
 /**
@@ -13,4 +14,10 @@ public interface ReadOnlyScheduler {
      * This list will not contain any duplicate events.
      */
     ObservableList<Event> getEventList();
+
+    /**
+     * Returns an unmodifiable view of the recurring events list.
+     * This list will not contain any duplicate recurring events.
+     */
+    ObservableList<RecurringEvent> getRecurringEventList();
 }
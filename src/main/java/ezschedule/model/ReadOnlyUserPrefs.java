@@ -3,6 +3,7 @@ package ezschedule.model;
 import java.nio.file.Path;
 
 import ezschedule.commons.core.GuiSettings;
+import ezschedule.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -12,4 +13,8 @@ public interface ReadOnlyUserPrefs {
     GuiSettings getGuiSettings();
 
     Path getSchedulerFilePath();
+
+    StorageFormat getSchedulerFileFormat();
+
+    int getUndoHistoryDepth();
 }
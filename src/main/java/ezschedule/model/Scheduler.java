@@ -2,10 +2,21 @@ package ezschedule.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import ezschedule.model.event.Event;
+import ezschedule.model.event.Name;
+import ezschedule.model.event.RecurringEvent;
 import ezschedule.model.event.UniqueEventList;
+import ezschedule.model.event.exceptions.DuplicateEventException;
+import ezschedule.model.event.exceptions.EventNotFoundException;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 /**
@@ -15,6 +26,9 @@ import javafx.collections.ObservableList;
 public class Scheduler implements ReadOnlyScheduler {
 
     private final UniqueEventList events;
+    private final ObservableList<RecurringEvent> recurringEvents = FXCollections.observableArrayList();
+    private final ObservableList<RecurringEvent> unmodifiableRecurringEvents =
+            FXCollections.unmodifiableObservableList(recurringEvents);
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -27,21 +41,7 @@ public class Scheduler implements ReadOnlyScheduler {
         events = new UniqueEventList();
     }
 
-    /**
-     * Construct an instance of Scheduler object.
-     * Listeners are attached in here.
-     */
-    public Scheduler() {
-
-        // Attach a listener to auto-sort events in chronological order
-        events.addListChangeListener(c -> {
-            while (c.next()) {
-                if (!c.wasPermutated()) {
-                    events.sortByChronologicalOrder();
-                }
-            }
-        });
-    }
+    public Scheduler() {}
 
     /**
      * Creates a Scheduler using the Events in the {@code toBeCopied}
@@ -61,12 +61,41 @@ public class Scheduler implements ReadOnlyScheduler {
         this.events.setEvents(events);
     }
 
+    /**
+     * Replaces the contents of the event list with {@code events}, sorting {@code events} itself instead of a copy.
+     * This is for loading many events at once. {@code events} must be modifiable and must not contain duplicate
+     * events.
+     *
+     * @see UniqueEventList#loadEvents(List)
+     */
+    public void loadEvents(List<Event> events) {
+        this.events.loadEvents(events);
+    }
+
+    /**
+     * Replaces the contents of the recurring event list with {@code recurringEvents}.
+     * {@code recurringEvents} must not contain duplicate recurring events.
+     */
+    public void setRecurringEvents(List<RecurringEvent> recurringEvents) {
+        requireNonNull(recurringEvents);
+        if (new HashSet<>(recurringEvents).size() != recurringEvents.size()) {
+            throw new DuplicateEventException();
+        }
+        this.recurringEvents.setAll(recurringEvents);
+    }
+
     /**
      * Resets the existing data of this {@code Scheduler} with {@code newData}.
      */
     public void resetData(ReadOnlyScheduler newData) {
         requireNonNull(newData);
-        setEvents(newData.getEventList());
+        if (newData instanceof Scheduler) {
+            // Already sorted and free of duplicates, so the packed events are copied as they are
+            events.setEvents(((Scheduler) newData).events);
+        } else {
+            setEvents(newData.getEventList());
+        }
+        setRecurringEvents(newData.getRecurringEventList());
     }
 
     //// event-level operations
@@ -80,11 +109,164 @@ public class Scheduler implements ReadOnlyScheduler {
     }
 
     /**
-     * Returns true if another event exists at the given date and time in the Scheduler.
+     * Returns the names of the events in the Scheduler that contain any of {@code keywords}, ignoring case.
+     * The returned set stays current as the Scheduler changes.
+     *
+     * @param keywords Non-empty keywords that are already in lower case.
+     */
+    public Set<Name> getNamesContainingAny(List<String> keywords) {
+        requireNonNull(keywords);
+        return events.getNamesContainingAny(keywords);
+    }
+
+    /**
+     * Returns the events in the Scheduler from {@code startDate} to {@code endDate} inclusive,
+     * in chronological order. The occurrences of recurring events in that range are included.
+     */
+    public List<Event> getEventsBetween(LocalDate startDate, LocalDate endDate) {
+        List<Event> eventsBetween = events.getEventsBetween(startDate, endDate);
+        if (recurringEvents.isEmpty()) {
+            return eventsBetween;
+        }
+
+        List<Event> allEventsBetween = new ArrayList<>(eventsBetween);
+        for (RecurringEvent recurringEvent : recurringEvents) {
+            allEventsBetween.addAll(recurringEvent.getOccurrencesBetween(startDate, endDate));
+        }
+        Collections.sort(allEventsBetween);
+        return allEventsBetween;
+    }
+
+    /**
+     * Returns the first {@code count} events in the Scheduler, in chronological order, that are not completed at
+     * {@code now}. The occurrences of recurring events are included.
+     */
+    public List<Event> getUpcomingEvents(LocalDateTime now, int count) {
+        List<Event> upcomingEvents = events.getUpcomingEvents(now, count);
+        if (recurringEvents.isEmpty()) {
+            return upcomingEvents;
+        }
+
+        // A recurring event occurs at most once a day, so at most one of its first count + 1 occurrences
+        // from today can already be completed
+        List<Event> allUpcomingEvents = new ArrayList<>(upcomingEvents);
+        for (RecurringEvent recurringEvent : recurringEvents) {
+            for (Event occurrence : recurringEvent.getOccurrencesFrom(now.toLocalDate(), count + 1)) {
+                if (!occurrence.isCompletedAt(now)) {
+                    allUpcomingEvents.add(occurrence);
+                }
+            }
+        }
+        Collections.sort(allUpcomingEvents);
+        return new ArrayList<>(allUpcomingEvents.subList(0, Math.min(count, allUpcomingEvents.size())));
+    }
+
+    /**
+     * Returns true if another event, or an occurrence of a recurring event, exists at the given date and time in
+     * the Scheduler. {@code currentEvent} and the recurring events that repeat it are excluded, since they move
+     * with it when it is edited.
      */
     public boolean hasEventAtTime(Event currentEvent, Event eventToCheck) {
         requireNonNull(eventToCheck);
-        return events.existsAtTime(currentEvent, eventToCheck);
+        if (events.existsAtTime(currentEvent, eventToCheck)) {
+            return true;
+        }
+        for (RecurringEvent recurringEvent : recurringEvents) {
+            if (!recurringEvent.isRecurrenceOf(currentEvent) && recurringEvent.isOccurrenceOverlap(eventToCheck)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the events in {@code candidates} that clash with an event, or with an occurrence of a recurring event,
+     * in the Scheduler, in the order of {@code candidates}.
+     * {@code candidates} must be in chronological order. They are checked in one sweep alongside the events over
+     * the same dates, and one sweep alongside the occurrences of each recurring event over those dates.
+     */
+    public List<Event> getClashes(List<Event> candidates) {
+        return getClashes(candidates, null);
+    }
+
+    /**
+     * Returns the events in {@code candidates} that clash with an event, or with an occurrence of a recurring event,
+     * in the Scheduler, like {@link #getClashes(List)}. {@code currentEvent} and the recurring events that repeat it
+     * are excluded, since they move with it when it is edited.
+     */
+    public List<Event> getClashes(List<Event> candidates, Event currentEvent) {
+        requireNonNull(candidates);
+        if (candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        LocalDate startDate = candidates.get(0).getDate().date;
+        LocalDate endDate = candidates.get(candidates.size() - 1).getDate().date;
+        boolean[] isClash = new boolean[candidates.size()];
+        List<Event> eventsBetween = events.getEventsBetween(startDate, endDate);
+        eventsBetween.remove(currentEvent);
+        markClashes(candidates, eventsBetween, isClash);
+        for (RecurringEvent recurringEvent : recurringEvents) {
+            if (!recurringEvent.isRecurrenceOf(currentEvent)) {
+                markClashes(candidates, recurringEvent.getOccurrencesBetween(startDate, endDate), isClash);
+            }
+        }
+
+        List<Event> clashes = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (isClash[i]) {
+                clashes.add(candidates.get(i));
+            }
+        }
+        return clashes;
+    }
+
+    /**
+     * Marks the candidates that overlap an event in {@code sortedEvents}, both being in chronological order.
+     */
+    private static void markClashes(List<Event> candidates, List<Event> sortedEvents, boolean[] isClash) {
+        int firstOnDate = 0; // first event on or after the date of the current candidate
+        for (int i = 0; i < candidates.size(); i++) {
+            Event candidate = candidates.get(i);
+            while (firstOnDate < sortedEvents.size()
+                    && sortedEvents.get(firstOnDate).getDate().compareTo(candidate.getDate()) < 0) {
+                firstOnDate++;
+            }
+            for (int j = firstOnDate; !isClash[i] && j < sortedEvents.size()
+                    && sortedEvents.get(j).getDate().equals(candidate.getDate()); j++) {
+                isClash[i] = sortedEvents.get(j).isEventOverlap(candidate);
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code recurringEvent} exists in the scheduler.
+     */
+    public boolean hasRecurringEvent(RecurringEvent recurringEvent) {
+        requireNonNull(recurringEvent);
+        return recurringEvents.contains(recurringEvent);
+    }
+
+    /**
+     * Adds a recurring event to the scheduler.
+     * The recurring event must not already exist in the scheduler.
+     */
+    public void addRecurringEvent(RecurringEvent recurringEvent) {
+        if (hasRecurringEvent(recurringEvent)) {
+            throw new DuplicateEventException();
+        }
+        recurringEvents.add(recurringEvent);
+    }
+
+    /**
+     * Removes {@code recurringEvent} from this {@code Scheduler}.
+     * {@code recurringEvent} must exist in the scheduler.
+     */
+    public void removeRecurringEvent(RecurringEvent recurringEvent) {
+        requireNonNull(recurringEvent);
+        if (!recurringEvents.remove(recurringEvent)) {
+            throw new EventNotFoundException();
+        }
     }
 
     /**
@@ -95,6 +277,14 @@ public class Scheduler implements ReadOnlyScheduler {
         events.add(e);
     }
 
+    /**
+     * Adds all of {@code events} to the scheduler in a single update.
+     * None of the events may already exist in the scheduler.
+     */
+    public void addEvents(List<Event> events) {
+        this.events.addAll(events);
+    }
+
     /**
      * Replaces the given event {@code target} in the list with {@code editedEvent}.
      * {@code target} must exist in the scheduler.
@@ -113,6 +303,42 @@ public class Scheduler implements ReadOnlyScheduler {
         events.remove(key);
     }
 
+    /**
+     * Removes all of {@code keys} from this {@code Scheduler} in a single update.
+     * Every key must exist in the scheduler.
+     */
+    public void removeEvents(List<Event> keys) {
+        events.removeAll(keys);
+    }
+
+    /**
+     * Applies the changes staged by {@code transaction} in a single update of the event list and a single update
+     * of the recurring event list.
+     * Every event and recurring event to remove must exist in the scheduler, and none to add may remain in it after
+     * the removals. All the changes are checked before any is applied, so the scheduler is left unchanged if a check
+     * fails.
+     */
+    void apply(Transaction transaction) {
+        requireNonNull(transaction);
+        List<RecurringEvent> updatedRecurringEvents = new ArrayList<>(recurringEvents);
+        for (RecurringEvent recurringEvent : transaction.getRecurringEventsToRemove()) {
+            if (!updatedRecurringEvents.remove(recurringEvent)) {
+                throw new EventNotFoundException();
+            }
+        }
+        for (RecurringEvent recurringEvent : transaction.getRecurringEventsToAdd()) {
+            if (updatedRecurringEvents.contains(recurringEvent)) {
+                throw new DuplicateEventException();
+            }
+            updatedRecurringEvents.add(recurringEvent);
+        }
+
+        events.update(transaction.getEventsToRemove(), transaction.getEventsToAdd());
+        if (!transaction.getRecurringEventsToRemove().isEmpty() || !transaction.getRecurringEventsToAdd().isEmpty()) {
+            recurringEvents.setAll(updatedRecurringEvents);
+        }
+    }
+
     //// util methods
     @Override
     public String toString() {
@@ -125,15 +351,21 @@ public class Scheduler implements ReadOnlyScheduler {
         return events.asUnmodifiableObservableList();
     }
 
+    @Override
+    public ObservableList<RecurringEvent> getRecurringEventList() {
+        return unmodifiableRecurringEvents;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Scheduler // instanceof handles nulls
-                && events.equals(((Scheduler) other).events));
+                && events.equals(((Scheduler) other).events)
+                && new HashSet<>(recurringEvents).equals(new HashSet<>(((Scheduler) other).recurringEvents)));
     }
 
     @Override
     public int hashCode() {
-        return events.hashCode();
+        return events.hashCode() + new HashSet<>(recurringEvents).hashCode();
     }
 }
@@ -0,0 +1,111 @@
+package ezschedule.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurringEvent;
+
+/**
+ * A change to a {@code Scheduler}, as the events and recurring events it removes and adds.
+ * An open transaction stages its changes here; once committed, it is kept in the {@link History} so that it can be
+ * undone by applying its {@link #inverse()}. Committed changes are also handed to storage, which may save them
+ * instead of the whole scheduler.
+ */
+public class Transaction {
+
+    private final String description;
+    private final List<Event> eventsToRemove;
+    private final List<Event> eventsToAdd;
+    private final List<RecurringEvent> recurringEventsToRemove;
+    private final List<RecurringEvent> recurringEventsToAdd;
+
+    Transaction(String description) {
+        this(description, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
+
+    private Transaction(String description, List<Event> eventsToRemove, List<Event> eventsToAdd,
+                        List<RecurringEvent> recurringEventsToRemove, List<RecurringEvent> recurringEventsToAdd) {
+        this.description = description;
+        this.eventsToRemove = eventsToRemove;
+        this.eventsToAdd = eventsToAdd;
+        this.recurringEventsToRemove = recurringEventsToRemove;
+        this.recurringEventsToAdd = recurringEventsToAdd;
+    }
+
+    /**
+     * Stages the removal of {@code events}. An event staged to be added is unstaged instead.
+     */
+    void removeEvents(List<Event> events) {
+        for (Event event : events) {
+            if (!eventsToAdd.remove(event)) {
+                eventsToRemove.add(event);
+            }
+        }
+    }
+
+    /**
+     * Stages the addition of {@code events}.
+     */
+    void addEvents(List<Event> events) {
+        eventsToAdd.addAll(events);
+    }
+
+    /**
+     * Stages the removal of {@code recurringEvent}. A recurring event staged to be added is unstaged instead.
+     */
+    void removeRecurringEvent(RecurringEvent recurringEvent) {
+        if (!recurringEventsToAdd.remove(recurringEvent)) {
+            recurringEventsToRemove.add(recurringEvent);
+        }
+    }
+
+    /**
+     * Stages the addition of {@code recurringEvent}.
+     */
+    void addRecurringEvent(RecurringEvent recurringEvent) {
+        recurringEventsToAdd.add(recurringEvent);
+    }
+
+    /**
+     * Returns the change that undoes this one: it adds what this one removes, and removes what this one adds.
+     * The lists are shared rather than copied, so this transaction must no longer be staging changes.
+     */
+    Transaction inverse() {
+        return new Transaction(description, eventsToAdd, eventsToRemove, recurringEventsToAdd,
+                recurringEventsToRemove);
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public List<Event> getEventsToRemove() {
+        return Collections.unmodifiableList(eventsToRemove);
+    }
+
+    public List<Event> getEventsToAdd() {
+        return Collections.unmodifiableList(eventsToAdd);
+    }
+
+    public List<RecurringEvent> getRecurringEventsToRemove() {
+        return Collections.unmodifiableList(recurringEventsToRemove);
+    }
+
+    public List<RecurringEvent> getRecurringEventsToAdd() {
+        return Collections.unmodifiableList(recurringEventsToAdd);
+    }
+
+    /**
+     * Returns the number of events and recurring events removed and added.
+     */
+    public int size() {
+        return eventsToRemove.size() + eventsToAdd.size() + recurringEventsToRemove.size()
+                + recurringEventsToAdd.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
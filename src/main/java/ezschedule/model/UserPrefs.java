@@ -7,14 +7,20 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import ezschedule.commons.core.GuiSettings;
+import ezschedule.commons.core.StorageFormat;
+import ezschedule.commons.util.AppUtil;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 100;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path schedulerFilePath = Paths.get("data", "scheduler.json");
+    private StorageFormat schedulerFileFormat = StorageFormat.JSON;
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +42,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setSchedulerFilePath(newUserPrefs.getSchedulerFilePath());
+        setSchedulerFileFormat(newUserPrefs.getSchedulerFileFormat());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.schedulerFilePath = schedulerFilePath;
     }
 
+    public StorageFormat getSchedulerFileFormat() {
+        return schedulerFileFormat;
+    }
+
+    public void setSchedulerFileFormat(StorageFormat schedulerFileFormat) {
+        requireNonNull(schedulerFileFormat);
+        this.schedulerFileFormat = schedulerFileFormat;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        AppUtil.checkArgument(undoHistoryDepth > 0, History.MESSAGE_CONSTRAINTS);
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +94,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && schedulerFilePath.equals(o.schedulerFilePath);
+                && schedulerFilePath.equals(o.schedulerFilePath)
+                && schedulerFileFormat == o.schedulerFileFormat
+                && undoHistoryDepth == o.undoHistoryDepth;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, schedulerFilePath);
+        return Objects.hash(guiSettings, schedulerFilePath, schedulerFileFormat, undoHistoryDepth);
     }
 
     @Override
@@ -81,6 +109,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + schedulerFilePath);
+        sb.append("\nLocal data file format : " + schedulerFileFormat);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
         return sb.toString();
     }
 }
@@ -4,12 +4,11 @@ import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.MONTHS;
 import static java.util.Objects.requireNonNull;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
 
 import ezschedule.commons.util.AppUtil;
+import ezschedule.commons.util.StringUtil;
 import ezschedule.model.event.exceptions.InvalidDateException;
 
 /**
@@ -24,6 +23,16 @@ public class Date implements Comparable<Date> {
 
     public static final String VALIDATION_REGEX = "((000[1-9]|[1-9]\\d{3})-(0[1-9]|1[0-2])-(0[1-9]|[12]\\d|3[01]))";
 
+    // Layout of a yyyy-MM-dd date string
+    private static final int LENGTH = 10;
+    private static final int MONTH_SEPARATOR_INDEX = 4;
+    private static final int DAY_SEPARATOR_INDEX = 7;
+
+    // Recently used dates, each in the slot given by the low bits of its epoch day. A Date is immutable and its
+    // field is final, so the slots can be read and replaced from any thread without locking.
+    private static final int CACHE_SIZE = 1024;
+    private static final Date[] cache = new Date[CACHE_SIZE];
+
     public final LocalDate date;
 
     /**
@@ -32,12 +41,78 @@ public class Date implements Comparable<Date> {
      * @param date A valid date.
      */
     public Date(String date) {
+        this.date = toLocalDate(date);
+    }
+
+    /**
+     * Constructs a {@code Date} from a {@code LocalDate}.
+     *
+     * @param date A date with a year from 0001 to 9999.
+     */
+    public Date(LocalDate date) {
+        requireNonNull(date);
+        AppUtil.checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
+        this.date = date;
+    }
+
+    /**
+     * Returns a {@code Date} equal to {@code new Date(date)}, reusing a recently used instance if there is one.
+     *
+     * @param date A valid date.
+     */
+    public static Date of(String date) {
+        return of(toLocalDate(date));
+    }
+
+    /**
+     * Returns a {@code Date} equal to {@code new Date(date)}, reusing a recently used instance if there is one.
+     *
+     * @param date A date with a year from 0001 to 9999.
+     */
+    public static Date of(LocalDate date) {
+        requireNonNull(date);
+        Date cached = cache[getCacheSlot(date.toEpochDay())];
+        if (cached != null && cached.date.equals(date)) {
+            return cached;
+        }
+        return cache(new Date(date));
+    }
+
+    /**
+     * Returns the {@code Date} of the day {@code epochDay} days after 1970-01-01, reusing a recently used instance
+     * if there is one.
+     *
+     * @param epochDay The epoch day of a date with a year from 0001 to 9999.
+     */
+    public static Date ofEpochDay(long epochDay) {
+        Date cached = cache[getCacheSlot(epochDay)];
+        if (cached != null && cached.date.toEpochDay() == epochDay) {
+            return cached;
+        }
+        return cache(new Date(LocalDate.ofEpochDay(epochDay)));
+    }
+
+    private static Date cache(Date date) {
+        cache[getCacheSlot(date.date.toEpochDay())] = date;
+        return date;
+    }
+
+    private static int getCacheSlot(long epochDay) {
+        return (int) epochDay & (CACHE_SIZE - 1);
+    }
+
+    /**
+     * Returns the {@code LocalDate} represented by {@code date}.
+     *
+     * @throws IllegalArgumentException if {@code date} is not a valid date string.
+     * @throws InvalidDateException if {@code date} is a valid date string for a day that does not exist.
+     */
+    private static LocalDate toLocalDate(String date) {
         requireNonNull(date);
         AppUtil.checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd");
         try {
-            this.date = LocalDate.parse(date, formatter.withResolverStyle(ResolverStyle.STRICT));
-        } catch (DateTimeParseException e) {
+            return LocalDate.of(parseYear(date), parseMonth(date), parseDay(date));
+        } catch (DateTimeException e) {
             String message = String.format("Date %1$s is invalid", date);
             throw new InvalidDateException(message);
         }
@@ -45,9 +120,39 @@ public class Date implements Comparable<Date> {
 
     /**
      * Returns true if a given string is a valid date.
+     * Accepts exactly the strings matched by {@link #VALIDATION_REGEX}, without allocating.
      */
     public static boolean isValidDate(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() != LENGTH
+                || test.charAt(MONTH_SEPARATOR_INDEX) != '-' || test.charAt(DAY_SEPARATOR_INDEX) != '-') {
+            return false;
+        }
+
+        int year = parseYear(test);
+        int month = parseMonth(test);
+        int day = parseDay(test);
+        // As in the regex, a year with a leading zero must be from 0001 to 0009
+        boolean isValidYear = year >= 1000 || (year >= 1 && year <= 9);
+        return isValidYear && month >= 1 && month <= 12 && day >= 1 && day <= 31;
+    }
+
+    /**
+     * Returns true if a given {@code LocalDate} is within the range of valid dates.
+     */
+    public static boolean isValidDate(LocalDate test) {
+        return test.getYear() >= 1 && test.getYear() <= 9999;
+    }
+
+    private static int parseYear(String date) {
+        return StringUtil.parseDigits(date, 0, MONTH_SEPARATOR_INDEX);
+    }
+
+    private static int parseMonth(String date) {
+        return StringUtil.parseDigits(date, MONTH_SEPARATOR_INDEX + 1, DAY_SEPARATOR_INDEX);
+    }
+
+    private static int parseDay(String date) {
+        return StringUtil.parseDigits(date, DAY_SEPARATOR_INDEX + 1, LENGTH);
     }
 
     /**
@@ -68,14 +173,28 @@ public class Date implements Comparable<Date> {
      * Returns true if date has passed.
      */
     public boolean isPastDate() {
-        return date.isBefore(LocalDate.now());
+        return isPastDate(LocalDate.now());
+    }
+
+    /**
+     * Returns true if date is before {@code today}.
+     */
+    public boolean isPastDate(LocalDate today) {
+        return date.isBefore(today);
     }
 
     /**
      * Returns true if date has yet to pass.
      */
     public boolean isFutureDate() {
-        return date.isAfter(LocalDate.now());
+        return isFutureDate(LocalDate.now());
+    }
+
+    /**
+     * Returns true if date is after {@code today}.
+     */
+    public boolean isFutureDate(LocalDate today) {
+        return date.isAfter(today);
     }
 
     /**
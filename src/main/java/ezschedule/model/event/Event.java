@@ -1,5 +1,9 @@
 package ezschedule.model.event;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
 /**
  * Represents an Event in the scheduler.
  * When comparing, earlier events come first, then later events (chronological order)
@@ -44,14 +48,25 @@ public class Event implements Comparable<Event> {
      * @return true if event is completed.
      */
     public boolean isCompleted() {
-        if (date.isPastDate()) {
+        return isCompletedAt(LocalDateTime.now());
+    }
+
+    /**
+     * Returns true if the event has been completed/is over at the given date and time.
+     *
+     * @param now the date and time to check against.
+     * @return true if event is completed at {@code now}.
+     */
+    public boolean isCompletedAt(LocalDateTime now) {
+        LocalDate today = now.toLocalDate();
+        if (date.isPastDate(today)) {
             return true; // Event is before today
-        } else if (date.isFutureDate()) {
+        } else if (date.isFutureDate(today)) {
             return false; // Event is after today
         } else {
             // Event is sometime today
             // Is current time passed the event end time?
-            return endTime.isPastTime();
+            return endTime.isPastTime(now.toLocalTime());
         }
     }
 
@@ -96,6 +111,12 @@ public class Event implements Comparable<Event> {
                 && otherEvent.getEndTime().equals(getEndTime());
     }
 
+    @Override
+    public int hashCode() {
+        // use this method for custom fields hashing instead of implementing your own
+        return Objects.hash(name, date, startTime, endTime);
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder();
@@ -1,6 +1,9 @@
 package ezschedule.model.event;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import ezschedule.commons.util.StringUtil;
@@ -11,6 +14,8 @@ import ezschedule.commons.util.StringUtil;
 public class EventContainsKeywordsPredicate implements Predicate<Event> {
 
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
+    private final Set<Name> matchingNames; // null if each name is searched for the keywords
 
     /**
      * Constructs a {@code EventContainsKeywordsPredicate}.
@@ -19,12 +24,39 @@ public class EventContainsKeywordsPredicate implements Predicate<Event> {
      */
     public EventContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = StringUtil.toLowerCaseWords(keywords);
+        this.matchingNames = null;
+    }
+
+    /**
+     * Constructs a {@code EventContainsKeywordsPredicate} that looks names up in {@code matchingNames}, the names
+     * that contain any of the keywords, instead of searching each name for the keywords. Names not in
+     * {@code matchingNames} do not match, so it must stay current as events are added and renamed, as the set from
+     * {@link UniqueEventList#getNamesContainingAny(List)} does.
+     *
+     * @param keywords      The given words to be matched with.
+     * @param matchingNames The names that contain any of {@code keywords}.
+     */
+    public EventContainsKeywordsPredicate(List<String> keywords, Set<Name> matchingNames) {
+        requireNonNull(matchingNames);
+        this.keywords = keywords;
+        this.lowerCaseKeywords = StringUtil.toLowerCaseWords(keywords);
+        this.matchingNames = matchingNames;
     }
 
     @Override
     public boolean test(Event event) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(event.getName().fullName, keyword));
+        Name name = event.getName();
+        if (matchingNames != null) {
+            return matchingNames.contains(name);
+        }
+
+        for (String keyword : lowerCaseKeywords) {
+            if (name.containsIgnoreCase(keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -2,11 +2,23 @@ package ezschedule.model.event;
 
 import static java.util.Objects.requireNonNull;
 
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+
 import ezschedule.commons.util.AppUtil;
 
 /**
  * Represents an Event's name in the scheduler.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
+ * <p>
+ * Each name caches its lower case form and the words in it, so keyword searches do not convert the name for every
+ * keyword. Names created through {@link #of(String)} are pooled, so events that share a name also share one
+ * {@code Name} for as long as any of them is in use.
  */
 public class Name {
 
@@ -19,7 +31,13 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Pattern WORD_SEPARATOR = Pattern.compile(" +");
+
+    private static final Map<String, WeakReference<Name>> pool = new WeakHashMap<>();
+
     public final String fullName;
+    private final String lowerCaseName;
+    private final List<String> lowerCaseWords;
 
     /**
      * Constructs a {@code Name}.
@@ -30,13 +48,64 @@ public class Name {
         requireNonNull(name);
         AppUtil.checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        lowerCaseName = name.toLowerCase();
+        lowerCaseWords = Collections.unmodifiableList(Arrays.asList(WORD_SEPARATOR.split(lowerCaseName)));
+    }
+
+    /**
+     * Returns the pooled {@code Name} for {@code name}, creating it if there is none.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        requireNonNull(name);
+        synchronized (pool) {
+            WeakReference<Name> pooledReference = pool.get(name);
+            Name pooledName = pooledReference == null ? null : pooledReference.get();
+            if (pooledName == null) {
+                pooledName = new Name(name);
+                // Keyed by the name's own string, so the entry lasts exactly as long as the name
+                pool.put(pooledName.fullName, new WeakReference<>(pooledName));
+            }
+            return pooledName;
+        }
     }
 
     /**
      * Returns true if a given string is a valid name.
+     * Accepts exactly the strings matched by {@link #VALIDATION_REGEX}, without allocating.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || test.charAt(0) == ' ') {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAsciiAlphanumeric(c) && c != ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Returns true if the name contains {@code lowerCaseKeyword}, ignoring case.
+     *
+     * @param lowerCaseKeyword A keyword that is already in lower case.
+     */
+    public boolean containsIgnoreCase(String lowerCaseKeyword) {
+        return lowerCaseName.contains(lowerCaseKeyword);
+    }
+
+    /**
+     * Returns the words in the name, in lower case.
+     */
+    public List<String> getLowerCaseWords() {
+        return lowerCaseWords;
     }
 
     @Override
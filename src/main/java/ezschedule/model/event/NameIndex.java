@@ -0,0 +1,91 @@
+package ezschedule.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the lower case n-grams of names to the names containing them, for finding the names that
+ * contain a keyword without checking every name.
+ * <p>
+ * Every substring of up to {@link #GRAM_LENGTH} characters of each name is indexed. A keyword that short is looked
+ * up directly. A longer keyword is looked up by the rarest of its n-grams, and only the names under that n-gram are
+ * checked for the whole keyword, so a query costs time proportional to the number of candidate names rather than
+ * to the number of names indexed.
+ */
+class NameIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Name>> postings = new HashMap<>();
+
+    /**
+     * Adds {@code name} to the index.
+     */
+    void add(Name name) {
+        requireNonNull(name);
+        for (String gram : getGrams(name)) {
+            postings.computeIfAbsent(gram, unused -> new HashSet<>()).add(name);
+        }
+    }
+
+    /**
+     * Removes {@code name} from the index, if present.
+     */
+    void remove(Name name) {
+        requireNonNull(name);
+        for (String gram : getGrams(name)) {
+            Set<Name> names = postings.get(gram);
+            if (names != null && names.remove(name) && names.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the indexed names that contain {@code lowerCaseKeyword}, as {@link Name#containsIgnoreCase(String)}
+     * would find them.
+     *
+     * @param lowerCaseKeyword A non-empty keyword that is already in lower case.
+     */
+    Set<Name> getNamesContaining(String lowerCaseKeyword) {
+        requireNonNull(lowerCaseKeyword);
+        if (lowerCaseKeyword.length() <= GRAM_LENGTH) {
+            return Collections.unmodifiableSet(postings.getOrDefault(lowerCaseKeyword, Collections.emptySet()));
+        }
+
+        Set<Name> candidates = null;
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseKeyword.length(); i++) {
+            Set<Name> names = postings.get(lowerCaseKeyword.substring(i, i + GRAM_LENGTH));
+            if (names == null) {
+                return Collections.emptySet();
+            }
+            if (candidates == null || names.size() < candidates.size()) {
+                candidates = names;
+            }
+        }
+
+        Set<Name> matches = new HashSet<>();
+        for (Name candidate : candidates) {
+            if (candidate.containsIgnoreCase(lowerCaseKeyword)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    private static Set<String> getGrams(Name name) {
+        String lowerCaseName = name.fullName.toLowerCase();
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start < lowerCaseName.length(); start++) {
+            for (int end = start + 1; end <= Math.min(start + GRAM_LENGTH, lowerCaseName.length()); end++) {
+                grams.add(lowerCaseName.substring(start, end));
+            }
+        }
+        return grams;
+    }
+}
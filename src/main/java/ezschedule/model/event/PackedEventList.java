@@ -0,0 +1,424 @@
+package ezschedule.model.event;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An observable list of events that stores each event as primitives rather than as an {@code Event} object graph.
+ * <p>
+ * Each event takes up one slot in each of four parallel arrays: the id of its name in a pool of distinct names,
+ * its date as an epoch day, and its start and end times as minutes of the day. {@link #get(int)} decodes an
+ * {@code Event} from its slot, and keeps the most recently decoded events in a small cache, so that repeated
+ * accesses to the same slots (such as by the cells of a list view) do not allocate. Callers should not rely on the
+ * identity of the events returned. Comparisons that only need the date and times, such as
+ * {@link #compareAt(int, Event)}, read the arrays directly without decoding.
+ * <p>
+ * For overlap checks, each slot also holds bounds over the run of slots on its date: the latest of the start and
+ * end times of the events from the first slot on the date up to it, and the earliest of the start and end times
+ * of the events from it to the last slot on the date.
+ * <p>
+ * The list cannot be modified through the {@code List} interface; its owner modifies it with the package-private
+ * methods, which report each modification to listeners.
+ */
+class PackedEventList extends ObservableListBase<Event> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int DECODED_CACHE_SIZE = 1024; // a power of two
+
+    private final NamePool names = new NamePool();
+
+    private int[] nameIds = new int[INITIAL_CAPACITY];
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private short[] startMinutes = new short[INITIAL_CAPACITY];
+    private short[] endMinutes = new short[INITIAL_CAPACITY];
+    private short[] latestBoundsOnDay = new short[INITIAL_CAPACITY];
+    private short[] earliestBoundsOnDay = new short[INITIAL_CAPACITY];
+    private int size;
+
+    // Decoded events, each in the cache slot given by the low bits of its index
+    private final Event[] decodedEvents = new Event[DECODED_CACHE_SIZE];
+
+    @Override
+    public Event get(int index) {
+        Objects.checkIndex(index, size);
+        int cacheSlot = index & (DECODED_CACHE_SIZE - 1);
+        Event cached = decodedEvents[cacheSlot];
+        if (cached != null && isDecodedAt(index, cached)) {
+            return cached;
+        }
+
+        Event decoded = new Event(names.get(nameIds[index]), Date.ofEpochDay(epochDays[index]),
+                Time.ofMinuteOfDay(startMinutes[index]), Time.ofMinuteOfDay(endMinutes[index]));
+        decodedEvents[cacheSlot] = decoded;
+        return decoded;
+    }
+
+    /**
+     * Returns true if {@code event} was decoded from the current contents of the slot at {@code index}.
+     */
+    private boolean isDecodedAt(int index, Event event) {
+        return event.getName() == names.get(nameIds[index])
+                && toEpochDay(event) == epochDays[index]
+                && event.getStartTime().getMinuteOfDay() == startMinutes[index]
+                && event.getEndTime().getMinuteOfDay() == endMinutes[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    int epochDayAt(int index) {
+        return epochDays[index];
+    }
+
+    int startMinuteAt(int index) {
+        return startMinutes[index];
+    }
+
+    int endMinuteAt(int index) {
+        return endMinutes[index];
+    }
+
+    /**
+     * Returns the latest start or end time of the events from the first slot on the date of the event at
+     * {@code index} up to {@code index}.
+     */
+    int latestBoundOnDayUpTo(int index) {
+        return latestBoundsOnDay[index];
+    }
+
+    /**
+     * Returns the earliest start or end time of the events from {@code index} to the last slot on the date of the
+     * event at {@code index}.
+     */
+    int earliestBoundOnDayFrom(int index) {
+        return earliestBoundsOnDay[index];
+    }
+
+    /**
+     * Compares the event at {@code index} with {@code event} in the order defined by {@link Event#compareTo(Event)}.
+     */
+    int compareAt(int index, Event event) {
+        int daysDelta = Integer.compare(epochDays[index], toEpochDay(event));
+        if (daysDelta != 0) {
+            return daysDelta;
+        }
+        return Integer.compare(startMinutes[index], event.getStartTime().getMinuteOfDay());
+    }
+
+    /**
+     * Returns true if the event at {@code index} is equal to {@code event}.
+     */
+    boolean equalsAt(int index, Event event) {
+        return compareAt(index, event) == 0
+                && endMinutes[index] == event.getEndTime().getMinuteOfDay()
+                && names.get(nameIds[index]).equals(event.getName());
+    }
+
+    /**
+     * Returns the names of the events in the list that contain {@code lowerCaseKeyword}, ignoring case.
+     *
+     * @see NameIndex#getNamesContaining(String)
+     */
+    Set<Name> getNamesContaining(String lowerCaseKeyword) {
+        return names.index.getNamesContaining(lowerCaseKeyword);
+    }
+
+    /**
+     * Returns a number that changes whenever a name is added to or removed from the names of the events in the
+     * list, so that results of {@link #getNamesContaining(String)} can be kept until it changes.
+     */
+    int getNamesVersion() {
+        return names.version;
+    }
+
+    /**
+     * Inserts {@code event} at {@code index}.
+     */
+    void insert(int index, Event event) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        shift(index, size, 1);
+        size++;
+        store(index, event);
+        updateBoundsOnDays(index - 1, index + 2);
+
+        beginChange();
+        nextAdd(index, index + 1);
+        endChange();
+    }
+
+    /**
+     * Merges {@code sortedEvents}, which must be in chronological order, into this list, which must also be in
+     * chronological order. Events already in the list are placed before chronologically tied events being added.
+     */
+    void insertAllSorted(List<Event> sortedEvents) {
+        if (sortedEvents.isEmpty()) {
+            return;
+        }
+
+        ensureCapacity(size + sortedEvents.size());
+        // Merge from the back so that no existing event is overwritten before it has been moved
+        int existing = size - 1;
+        int added = sortedEvents.size() - 1;
+        int[] addedIndexes = new int[sortedEvents.size()];
+        for (int target = size + sortedEvents.size() - 1; added >= 0; target--) {
+            if (existing >= 0 && compareAt(existing, sortedEvents.get(added)) > 0) {
+                copySlot(existing--, target);
+            } else {
+                store(target, sortedEvents.get(added));
+                addedIndexes[added--] = target;
+            }
+        }
+        size += sortedEvents.size();
+        updateBoundsOnDays(0, size);
+
+        beginChange();
+        for (int index : addedIndexes) {
+            nextAdd(index, index + 1);
+        }
+        endChange();
+    }
+
+    /**
+     * Replaces the event at {@code index} with {@code event}.
+     */
+    void replace(int index, Event event) {
+        Event removed = get(index);
+        names.release(nameIds[index]);
+        store(index, event);
+        updateBoundsOnDays(index - 1, index + 2);
+
+        beginChange();
+        nextSet(index, removed);
+        endChange();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code events}, in the given order.
+     */
+    void replaceAll(List<Event> events) {
+        List<Event> removed = new ArrayList<>(this);
+        List<Event> added = events == this ? removed : events;
+        for (int i = 0; i < size; i++) {
+            names.release(nameIds[i]);
+        }
+
+        size = 0;
+        ensureCapacity(added.size());
+        for (Event event : added) {
+            store(size++, event);
+        }
+        updateBoundsOnDays(0, size);
+
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    /**
+     * Removes the event at {@code index}.
+     */
+    void delete(int index) {
+        Event removed = get(index);
+        names.release(nameIds[index]);
+        shift(index + 1, size, -1);
+        size--;
+        updateBoundsOnDays(index - 1, index + 1);
+
+        beginChange();
+        nextRemove(index, removed);
+        endChange();
+    }
+
+    /**
+     * Removes the events at {@code sortedIndexes}, which must be distinct and in ascending order.
+     */
+    void deleteAll(int[] sortedIndexes) {
+        if (sortedIndexes.length == 0) {
+            return;
+        }
+
+        Event[] removed = new Event[sortedIndexes.length];
+        for (int i = 0; i < sortedIndexes.length; i++) {
+            removed[i] = get(sortedIndexes[i]);
+            names.release(nameIds[sortedIndexes[i]]);
+        }
+
+        int target = sortedIndexes[0];
+        int next = 0;
+        for (int source = sortedIndexes[0]; source < size; source++) {
+            if (next < sortedIndexes.length && sortedIndexes[next] == source) {
+                next++;
+            } else {
+                copySlot(source, target++);
+            }
+        }
+        size = target;
+        updateBoundsOnDays(sortedIndexes[0] - 1, size);
+
+        // Reported from the back, so each index still refers to the list as it was before the removals
+        beginChange();
+        for (int i = sortedIndexes.length - 1; i >= 0; i--) {
+            nextRemove(sortedIndexes[i], removed[i]);
+        }
+        endChange();
+    }
+
+    /**
+     * Starts a batch of modifications that is reported to listeners as a single change when {@link #endBatch()}
+     * is called. Batches may be nested; only the outermost one is reported.
+     */
+    void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the batch of modifications started by the matching {@link #beginBatch()}.
+     */
+    void endBatch() {
+        endChange();
+    }
+
+    private void store(int index, Event event) {
+        nameIds[index] = names.acquire(event.getName());
+        epochDays[index] = toEpochDay(event);
+        startMinutes[index] = (short) event.getStartTime().getMinuteOfDay();
+        endMinutes[index] = (short) event.getEndTime().getMinuteOfDay();
+    }
+
+    private void copySlot(int from, int to) {
+        nameIds[to] = nameIds[from];
+        epochDays[to] = epochDays[from];
+        startMinutes[to] = startMinutes[from];
+        endMinutes[to] = endMinutes[from];
+    }
+
+    /**
+     * Moves the slots from {@code from} (inclusive) to {@code to} (exclusive) by {@code distance} slots.
+     */
+    private void shift(int from, int to, int distance) {
+        int length = to - from;
+        System.arraycopy(nameIds, from, nameIds, from + distance, length);
+        System.arraycopy(epochDays, from, epochDays, from + distance, length);
+        System.arraycopy(startMinutes, from, startMinutes, from + distance, length);
+        System.arraycopy(endMinutes, from, endMinutes, from + distance, length);
+        System.arraycopy(latestBoundsOnDay, from, latestBoundsOnDay, from + distance, length);
+        System.arraycopy(earliestBoundsOnDay, from, earliestBoundsOnDay, from + distance, length);
+    }
+
+    /**
+     * Recomputes the bounds on each date with an event in the slots from {@code from} (inclusive) to {@code to}
+     * (exclusive), which are clamped to the list. Every slot on those dates is recomputed, including the slots
+     * outside the range.
+     */
+    private void updateBoundsOnDays(int from, int to) {
+        if (size == 0) {
+            return;
+        }
+        from = Math.max(0, Math.min(from, size - 1));
+        to = Math.min(size, Math.max(to, from + 1));
+        while (from > 0 && epochDays[from - 1] == epochDays[from]) {
+            from--;
+        }
+        while (to < size && epochDays[to] == epochDays[to - 1]) {
+            to++;
+        }
+
+        for (int i = from; i < to; i++) {
+            short latest = (short) Math.max(startMinutes[i], endMinutes[i]);
+            boolean isFirstOnDay = i == from || epochDays[i - 1] != epochDays[i];
+            latestBoundsOnDay[i] = isFirstOnDay ? latest : (short) Math.max(latestBoundsOnDay[i - 1], latest);
+        }
+        for (int i = to - 1; i >= from; i--) {
+            short earliest = (short) Math.min(startMinutes[i], endMinutes[i]);
+            boolean isLastOnDay = i == to - 1 || epochDays[i + 1] != epochDays[i];
+            earliestBoundsOnDay[i] = isLastOnDay ? earliest : (short) Math.min(earliestBoundsOnDay[i + 1], earliest);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= nameIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, nameIds.length + (nameIds.length >> 1));
+        nameIds = Arrays.copyOf(nameIds, newCapacity);
+        epochDays = Arrays.copyOf(epochDays, newCapacity);
+        startMinutes = Arrays.copyOf(startMinutes, newCapacity);
+        endMinutes = Arrays.copyOf(endMinutes, newCapacity);
+        latestBoundsOnDay = Arrays.copyOf(latestBoundsOnDay, newCapacity);
+        earliestBoundsOnDay = Arrays.copyOf(earliestBoundsOnDay, newCapacity);
+    }
+
+    private static int toEpochDay(Event event) {
+        return Math.toIntExact(event.getDate().date.toEpochDay());
+    }
+
+    /**
+     * The distinct names of the events in the list, each with an id and a count of the events using it.
+     * Ids of names no longer in use are reused. The names in use are kept in a {@link NameIndex}.
+     */
+    private static class NamePool {
+        private final NameIndex index = new NameIndex();
+        private final Map<Name, Integer> ids = new HashMap<>();
+        private final List<Name> names = new ArrayList<>();
+        private final Deque<Integer> freeIds = new ArrayDeque<>();
+        private int[] useCounts = new int[INITIAL_CAPACITY];
+        private int version;
+
+        Name get(int id) {
+            return names.get(id);
+        }
+
+        /**
+         * Returns the id of {@code name}, adding it to the pool if needed, and counts one more use of it.
+         */
+        int acquire(Name name) {
+            Integer id = ids.get(name);
+            if (id == null) {
+                id = freeIds.isEmpty() ? names.size() : freeIds.pop();
+                if (id == names.size()) {
+                    names.add(name);
+                } else {
+                    names.set(id, name);
+                }
+                ids.put(name, id);
+                index.add(name);
+                version++;
+                if (useCounts.length <= id) {
+                    useCounts = Arrays.copyOf(useCounts, useCounts.length * 2);
+                }
+            }
+            useCounts[id]++;
+            return id;
+        }
+
+        /**
+         * Counts one less use of the name with {@code id}, removing it from the pool if it is no longer used.
+         */
+        void release(int id) {
+            if (--useCounts[id] == 0) {
+                ids.remove(names.get(id));
+                index.remove(names.get(id));
+                names.set(id, null);
+                freeIds.push(id);
+                version++;
+            }
+        }
+    }
+}
@@ -2,6 +2,8 @@ package ezschedule.model.event;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.temporal.ChronoUnit;
+
 import ezschedule.commons.util.AppUtil;
 
 /**
@@ -40,6 +42,20 @@ public class RecurFactor {
                 | test.matches(VALIDATION_REGEX_MONTH));
     }
 
+    /**
+     * Returns the unit of time between consecutive occurrences.
+     */
+    public ChronoUnit getUnit() {
+        switch (factor) {
+        case VALIDATION_REGEX_DAY:
+            return ChronoUnit.DAYS;
+        case VALIDATION_REGEX_WEEK:
+            return ChronoUnit.WEEKS;
+        default:
+            return ChronoUnit.MONTHS;
+        }
+    }
+
     @Override
     public String toString() {
         return factor;
@@ -0,0 +1,611 @@
+package ezschedule.model.event;
+
+import static ezschedule.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import ezschedule.commons.util.AppUtil;
+import ezschedule.commons.util.StringUtil;
+
+/**
+ * Represents when an Event recurs, as a rule in the subset of the iCalendar (RFC 5545) RRULE syntax made up of the
+ * parts FREQ, INTERVAL, COUNT, UNTIL, BYDAY, BYMONTHDAY and BYSETPOS.
+ * <p>
+ * A rule is expanded from a start date, which is always the first occurrence, as DTSTART is in RFC 5545.
+ * {@link #iterator(LocalDate, LocalDate, LocalDate, Set)} produces the occurrences in a window one at a time,
+ * without collecting them, and skips the periods before the window unless COUNT needs them to be counted.
+ * Dates that do not exist, such as the 31st of a shorter month, are left out rather than moved.
+ * Guarantees: immutable; is valid as declared in {@link #isValidRule(String)}
+ */
+public class RecurrenceRule {
+
+    public static final String MESSAGE_CONSTRAINTS = "Recurrence rule should be an RFC 5545 RRULE made up of the "
+            + "parts FREQ (DAILY, WEEKLY, MONTHLY or YEARLY), INTERVAL, COUNT or UNTIL (yyyyMMdd), "
+            + "BYDAY (e.g. MO,WE or -1FR), BYMONTHDAY and BYSETPOS, separated by ';'.\n"
+            + "For example: FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1";
+
+    private static final String PART_SEPARATOR = ";";
+    private static final String VALUE_SEPARATOR = "=";
+    private static final String LIST_SEPARATOR = ",";
+
+    private static final String PART_FREQ = "FREQ";
+    private static final String PART_INTERVAL = "INTERVAL";
+    private static final String PART_COUNT = "COUNT";
+    private static final String PART_UNTIL = "UNTIL";
+    private static final String PART_BYDAY = "BYDAY";
+    private static final String PART_BYMONTHDAY = "BYMONTHDAY";
+    private static final String PART_BYSETPOS = "BYSETPOS";
+
+    private static final int MAX_WEEK_OF_MONTH = 5;
+    private static final int MAX_DAY_OF_MONTH = 31;
+    private static final int MAX_SET_POSITION = 366;
+
+    /** The last date a {@code Date} can hold. No occurrence is produced after it. */
+    private static final LocalDate LAST_DATE = LocalDate.of(9999, 12, 31);
+
+    private final Frequency frequency;
+    private final int interval;
+    private final int count; // 0 if the rule is not limited by a count
+    private final LocalDate until; // null if the rule is not limited by an end date
+    private final SortedSet<WeekdayNum> byDay;
+    private final SortedSet<Integer> byMonthDay;
+    private final SortedSet<Integer> bySetPos;
+
+    /**
+     * Constructs a {@code RecurrenceRule}.
+     *
+     * @param rule A valid rule.
+     */
+    public RecurrenceRule(String rule) {
+        requireNonNull(rule);
+        AppUtil.checkArgument(isValidRule(rule), MESSAGE_CONSTRAINTS);
+        Map<String, String> parts = getParts(rule);
+        frequency = Frequency.valueOf(parts.get(PART_FREQ));
+        interval = parts.containsKey(PART_INTERVAL) ? Integer.parseInt(parts.get(PART_INTERVAL)) : 1;
+        count = parts.containsKey(PART_COUNT) ? Integer.parseInt(parts.get(PART_COUNT)) : 0;
+        until = parts.containsKey(PART_UNTIL) ? parseUntil(parts.get(PART_UNTIL)) : null;
+        byDay = parseList(parts.get(PART_BYDAY), WeekdayNum::parse);
+        byMonthDay = parseList(parts.get(PART_BYMONTHDAY), Integer::parseInt);
+        bySetPos = parseList(parts.get(PART_BYSETPOS), Integer::parseInt);
+    }
+
+    private RecurrenceRule(RecurrenceRule rule, LocalDate until) {
+        frequency = rule.frequency;
+        interval = rule.interval;
+        count = rule.count;
+        this.until = until;
+        byDay = rule.byDay;
+        byMonthDay = rule.byMonthDay;
+        bySetPos = rule.bySetPos;
+    }
+
+    /**
+     * Returns the rule that recurs every day, week or month, as given by {@code factor}, without end.
+     */
+    public static RecurrenceRule of(RecurFactor factor) {
+        requireNonNull(factor);
+        switch (factor.getUnit()) {
+        case DAYS:
+            return new RecurrenceRule(PART_FREQ + VALUE_SEPARATOR + Frequency.DAILY);
+        case WEEKS:
+            return new RecurrenceRule(PART_FREQ + VALUE_SEPARATOR + Frequency.WEEKLY);
+        default:
+            return new RecurrenceRule(PART_FREQ + VALUE_SEPARATOR + Frequency.MONTHLY);
+        }
+    }
+
+    /**
+     * Returns true if a given string is a valid rule.
+     * Part names and values are not case sensitive, and each part may be given at most once. FREQ is required;
+     * COUNT and UNTIL may not both be given; BYDAY with a week number (e.g. 2MO) is only allowed with FREQ=MONTHLY;
+     * BYMONTHDAY is not allowed with FREQ=WEEKLY; FREQ=YEARLY allows no BYxxx parts; and BYSETPOS must come with
+     * another BYxxx part.
+     */
+    public static boolean isValidRule(String test) {
+        requireNonNull(test);
+        try {
+            Map<String, String> parts = getParts(test);
+            if (!parts.containsKey(PART_FREQ)) {
+                return false;
+            }
+            Frequency frequency = Frequency.valueOf(parts.get(PART_FREQ));
+            if (parts.containsKey(PART_INTERVAL) && Integer.parseInt(parts.get(PART_INTERVAL)) < 1) {
+                return false;
+            }
+            if (parts.containsKey(PART_COUNT) && (Integer.parseInt(parts.get(PART_COUNT)) < 1
+                    || parts.containsKey(PART_UNTIL))) {
+                return false;
+            }
+            if (parts.containsKey(PART_UNTIL)) {
+                parseUntil(parts.get(PART_UNTIL));
+            }
+
+            Set<WeekdayNum> byDay = parseList(parts.get(PART_BYDAY), WeekdayNum::parse);
+            Set<Integer> byMonthDay = parseList(parts.get(PART_BYMONTHDAY), Integer::parseInt);
+            Set<Integer> bySetPos = parseList(parts.get(PART_BYSETPOS), Integer::parseInt);
+            boolean hasWeekNumber = byDay.stream().anyMatch(weekdayNum -> weekdayNum.weekNumber != 0);
+            return (!hasWeekNumber || frequency == Frequency.MONTHLY)
+                    && (byMonthDay.isEmpty() || frequency != Frequency.WEEKLY)
+                    && (frequency != Frequency.YEARLY || byDay.isEmpty() && byMonthDay.isEmpty() && bySetPos.isEmpty())
+                    && (bySetPos.isEmpty() || !byDay.isEmpty() || !byMonthDay.isEmpty())
+                    && byMonthDay.stream().allMatch(day -> isInRange(day, MAX_DAY_OF_MONTH))
+                    && bySetPos.stream().allMatch(position -> isInRange(position, MAX_SET_POSITION));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Splits {@code rule} into its parts, keyed by upper case part name.
+     *
+     * @throws IllegalArgumentException if a part is malformed, unknown or repeated.
+     */
+    private static Map<String, String> getParts(String rule) {
+        Map<String, String> parts = new HashMap<>();
+        for (String part : rule.trim().toUpperCase(Locale.ROOT).split(PART_SEPARATOR, -1)) {
+            int separatorIndex = part.indexOf(VALUE_SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+            }
+            String name = part.substring(0, separatorIndex);
+            String value = part.substring(separatorIndex + 1);
+            if (!isPartName(name) || value.isEmpty() || parts.put(name, value) != null) {
+                throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+            }
+        }
+        return parts;
+    }
+
+    private static boolean isPartName(String name) {
+        switch (name) {
+        case PART_FREQ:
+        case PART_INTERVAL:
+        case PART_COUNT:
+        case PART_UNTIL:
+        case PART_BYDAY:
+        case PART_BYMONTHDAY:
+        case PART_BYSETPOS:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Parses an UNTIL value, which is a date in the form yyyyMMdd, optionally followed by a time that is ignored.
+     */
+    private static LocalDate parseUntil(String value) {
+        if (value.length() < 8 || value.length() > 8 && value.charAt(8) != 'T') {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        int year = StringUtil.parseDigits(value, 0, 4);
+        int month = StringUtil.parseDigits(value, 4, 6);
+        int day = StringUtil.parseDigits(value, 6, 8);
+        if (year < 0 || month < 0 || day < 0) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        LocalDate date = LocalDate.of(year, month, day);
+        if (!Date.isValidDate(date)) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        return date;
+    }
+
+    /**
+     * Parses a comma separated list of values with {@code parser}, returning an empty set if {@code values} is null.
+     */
+    private static <T extends Comparable<T>> SortedSet<T> parseList(String values, Function<String, T> parser) {
+        SortedSet<T> parsed = new TreeSet<>();
+        if (values != null) {
+            for (String value : values.split(LIST_SEPARATOR, -1)) {
+                parsed.add(parser.apply(value));
+            }
+        }
+        return Collections.unmodifiableSortedSet(parsed);
+    }
+
+    /**
+     * Returns true if {@code value} is from -{@code max} to {@code max} inclusive, and is not 0.
+     */
+    private static boolean isInRange(int value, int max) {
+        return value != 0 && Math.abs(value) <= max;
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Returns the number of occurrences the rule is limited to, or 0 if it is not limited by a count.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns true if the rule is limited by a count or an end date.
+     */
+    public boolean hasEnd() {
+        return count != 0 || until != null;
+    }
+
+    /**
+     * Returns a copy of this rule that ends on {@code until} instead.
+     * This rule must not be limited by a count.
+     */
+    public RecurrenceRule withUntil(LocalDate until) {
+        requireNonNull(until);
+        AppUtil.checkArgument(count == 0, "A rule cannot have both COUNT and UNTIL.");
+        return new RecurrenceRule(this, until);
+    }
+
+    /**
+     * Returns the date on or before which every occurrence of the rule started at {@code start} falls.
+     */
+    public LocalDate getEndDate(LocalDate start) {
+        requireNonNull(start);
+        if (until != null) {
+            return until;
+        }
+        if (count == 0) {
+            return LAST_DATE;
+        }
+
+        LocalDate last = start;
+        for (Iterator<LocalDate> occurrences = iterator(start, start, LAST_DATE, Collections.emptySet());
+                occurrences.hasNext();) {
+            last = occurrences.next();
+        }
+        return last;
+    }
+
+    /**
+     * Returns an iterator over the occurrences of the rule started at {@code start} from {@code from} to
+     * {@code to} inclusive, in chronological order, leaving out the dates in {@code exceptions}.
+     * The left out dates still count towards COUNT, as EXDATE does in RFC 5545.
+     */
+    public Iterator<LocalDate> iterator(LocalDate start, LocalDate from, LocalDate to, Set<Date> exceptions) {
+        requireAllNonNull(start, from, to, exceptions);
+        return new Expansion(start, from, to, exceptions);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof RecurrenceRule)) {
+            return false;
+        }
+
+        RecurrenceRule otherRule = (RecurrenceRule) other;
+        return frequency == otherRule.frequency
+                && interval == otherRule.interval
+                && count == otherRule.count
+                && Objects.equals(until, otherRule.until)
+                && byDay.equals(otherRule.byDay)
+                && byMonthDay.equals(otherRule.byMonthDay)
+                && bySetPos.equals(otherRule.bySetPos);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(frequency, interval, count, until, byDay, byMonthDay, bySetPos);
+    }
+
+    /**
+     * Returns the rule in RRULE syntax, with its parts in a fixed order.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(PART_FREQ).append(VALUE_SEPARATOR).append(frequency);
+        if (interval != 1) {
+            appendPart(sb, PART_INTERVAL, String.valueOf(interval));
+        }
+        if (count != 0) {
+            appendPart(sb, PART_COUNT, String.valueOf(count));
+        }
+        if (until != null) {
+            appendPart(sb, PART_UNTIL, String.format("%04d%02d%02d", until.getYear(), until.getMonthValue(),
+                    until.getDayOfMonth()));
+        }
+        appendList(sb, PART_BYDAY, byDay);
+        appendList(sb, PART_BYMONTHDAY, byMonthDay);
+        appendList(sb, PART_BYSETPOS, bySetPos);
+        return sb.toString();
+    }
+
+    private static void appendPart(StringBuilder sb, String name, String value) {
+        sb.append(PART_SEPARATOR).append(name).append(VALUE_SEPARATOR).append(value);
+    }
+
+    private static void appendList(StringBuilder sb, String name, Set<?> values) {
+        if (!values.isEmpty()) {
+            appendPart(sb, name, values.stream().map(Object::toString).collect(Collectors.joining(LIST_SEPARATOR)));
+        }
+    }
+
+    /**
+     * How often a rule recurs. Each frequency divides time into periods, in which the BYxxx parts pick the days.
+     */
+    public enum Frequency {
+        DAILY(ChronoUnit.DAYS),
+        WEEKLY(ChronoUnit.WEEKS),
+        MONTHLY(ChronoUnit.MONTHS),
+        YEARLY(ChronoUnit.YEARS);
+
+        private final ChronoUnit unit;
+
+        Frequency(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        /**
+         * Returns the first day of the period containing {@code date}. Weeks start on Monday.
+         */
+        LocalDate getPeriodStart(LocalDate date) {
+            switch (this) {
+            case WEEKLY:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY:
+                return date.withDayOfMonth(1);
+            case YEARLY:
+                return date.withDayOfYear(1);
+            default:
+                return date;
+            }
+        }
+    }
+
+    /**
+     * A BYDAY entry: a day of the week, optionally with the number of the week in the month it falls in.
+     * A negative week number counts from the end of the month, and 0 means every week.
+     */
+    private static class WeekdayNum implements Comparable<WeekdayNum> {
+        private static final String[] DAY_CODES = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+
+        private final int weekNumber;
+        private final DayOfWeek dayOfWeek;
+
+        WeekdayNum(int weekNumber, DayOfWeek dayOfWeek) {
+            this.weekNumber = weekNumber;
+            this.dayOfWeek = dayOfWeek;
+        }
+
+        static WeekdayNum parse(String value) {
+            if (value.length() < 2) {
+                throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+            }
+            String dayCode = value.substring(value.length() - 2);
+            String weekNumberPart = value.substring(0, value.length() - 2);
+            int weekNumber = weekNumberPart.isEmpty() ? 0 : Integer.parseInt(weekNumberPart);
+            if (!weekNumberPart.isEmpty() && !isInRange(weekNumber, MAX_WEEK_OF_MONTH)) {
+                throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+            }
+            for (int i = 0; i < DAY_CODES.length; i++) {
+                if (DAY_CODES[i].equals(dayCode)) {
+                    return new WeekdayNum(weekNumber, DayOfWeek.of(i + 1));
+                }
+            }
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+
+        /**
+         * Returns true if {@code date} is this day of the week, in this week of its month.
+         */
+        boolean matches(LocalDate date) {
+            if (date.getDayOfWeek() != dayOfWeek) {
+                return false;
+            }
+            if (weekNumber > 0) {
+                return (date.getDayOfMonth() - 1) / 7 + 1 == weekNumber;
+            } else if (weekNumber < 0) {
+                return -((date.lengthOfMonth() - date.getDayOfMonth()) / 7 + 1) == weekNumber;
+            }
+            return true;
+        }
+
+        @Override
+        public int compareTo(WeekdayNum other) {
+            int weekNumberDelta = Integer.compare(weekNumber, other.weekNumber);
+            return weekNumberDelta != 0 ? weekNumberDelta : dayOfWeek.compareTo(other.dayOfWeek);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof WeekdayNum // instanceof handles nulls
+                    && weekNumber == ((WeekdayNum) other).weekNumber
+                    && dayOfWeek == ((WeekdayNum) other).dayOfWeek);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(weekNumber, dayOfWeek);
+        }
+
+        @Override
+        public String toString() {
+            return (weekNumber == 0 ? "" : String.valueOf(weekNumber)) + DAY_CODES[dayOfWeek.getValue() - 1];
+        }
+    }
+
+    /**
+     * Produces the occurrences of the rule one period at a time, checking each day of the period in turn.
+     * Only BYSETPOS needs to know how many days of a period are picked, which is counted when the period starts.
+     */
+    private class Expansion implements Iterator<LocalDate> {
+        private final LocalDate start;
+        private final LocalDate from;
+        private final LocalDate last;
+        private final Set<Date> exceptions;
+        private final LocalDate firstPeriodStart;
+
+        private long periodIndex;
+        private LocalDate periodEnd;
+        private LocalDate cursor;
+        private int positionInPeriod;
+        private int candidatesInPeriod;
+        private int counted; // occurrences counted towards COUNT, including those before the window
+        private boolean isStartCounted;
+        private LocalDate next;
+
+        Expansion(LocalDate start, LocalDate from, LocalDate to, Set<Date> exceptions) {
+            this.start = start;
+            this.from = from;
+            this.exceptions = exceptions;
+            LocalDate end = until == null ? LAST_DATE : until;
+            last = to.isBefore(end) ? to : end;
+            firstPeriodStart = frequency.getPeriodStart(start);
+            if (from.isAfter(last)) {
+                return;
+            }
+
+            long firstPeriodIndex = 0;
+            if (count == 0 && from.isAfter(start)) {
+                // Without a count, the periods before the window need not be expanded at all
+                isStartCounted = true;
+                firstPeriodIndex = frequency.unit.between(firstPeriodStart, frequency.getPeriodStart(from)) / interval;
+            }
+            startPeriod(firstPeriodIndex);
+            next = computeNext();
+        }
+
+        private void startPeriod(long index) {
+            periodIndex = index;
+            cursor = firstPeriodStart.plus(index * interval, frequency.unit);
+            periodEnd = cursor.plus(1, frequency.unit).minusDays(1);
+            positionInPeriod = 0;
+            candidatesInPeriod = 0;
+            if (!bySetPos.isEmpty()) {
+                for (LocalDate date = cursor; !date.isAfter(periodEnd); date = date.plusDays(1)) {
+                    if (isCandidate(date)) {
+                        candidatesInPeriod++;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns true if the BYxxx parts, or the start date in their absence, pick {@code date} in its period.
+         */
+        private boolean isCandidate(LocalDate date) {
+            switch (frequency) {
+            case YEARLY:
+                return date.getMonth() == start.getMonth() && date.getDayOfMonth() == start.getDayOfMonth();
+            case MONTHLY:
+                if (byDay.isEmpty() && byMonthDay.isEmpty()) {
+                    return date.getDayOfMonth() == start.getDayOfMonth();
+                }
+                break;
+            case WEEKLY:
+                if (byDay.isEmpty()) {
+                    return date.getDayOfWeek() == start.getDayOfWeek();
+                }
+                break;
+            default:
+                break;
+            }
+            return matchesByDay(date) && matchesByMonthDay(date);
+        }
+
+        private boolean matchesByDay(LocalDate date) {
+            if (byDay.isEmpty()) {
+                return true;
+            }
+            for (WeekdayNum weekdayNum : byDay) {
+                if (weekdayNum.matches(date)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean matchesByMonthDay(LocalDate date) {
+            return byMonthDay.isEmpty()
+                    || byMonthDay.contains(date.getDayOfMonth())
+                    || byMonthDay.contains(date.getDayOfMonth() - date.lengthOfMonth() - 1);
+        }
+
+        private boolean matchesBySetPos() {
+            return bySetPos.isEmpty()
+                    || bySetPos.contains(positionInPeriod)
+                    || bySetPos.contains(positionInPeriod - candidatesInPeriod - 1);
+        }
+
+        private LocalDate computeNext() {
+            if (!isStartCounted) {
+                isStartCounted = true;
+                counted++;
+                if (!start.isBefore(from) && !start.isAfter(last) && !isException(start)) {
+                    return start;
+                }
+            }
+
+            while (true) {
+                if (cursor.isAfter(periodEnd)) {
+                    startPeriod(periodIndex + 1);
+                }
+                if (cursor.isAfter(last) || count != 0 && counted >= count) {
+                    return null;
+                }
+
+                LocalDate date = cursor;
+                cursor = cursor.plusDays(1);
+                if (!isCandidate(date)) {
+                    continue;
+                }
+                positionInPeriod++;
+                if (!matchesBySetPos() || !date.isAfter(start)) {
+                    continue;
+                }
+                counted++;
+                if (!date.isBefore(from) && !isException(date)) {
+                    return date;
+                }
+            }
+        }
+
+        private boolean isException(LocalDate date) {
+            return !exceptions.isEmpty() && exceptions.contains(Date.of(date));
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public LocalDate next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            LocalDate current = next;
+            next = computeNext();
+            return current;
+        }
+    }
+}
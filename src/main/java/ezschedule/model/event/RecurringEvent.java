@@ -0,0 +1,192 @@
+package ezschedule.model.event;
+
+import static ezschedule.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Represents an Event that recurs in the scheduler: a base event repeated by a {@link RecurrenceRule} on dates
+ * after its own, except on the dates in its exceptions.
+ * <p>
+ * The occurrences are not stored. They are worked out from the rule when they are asked for, so a series takes up
+ * the same space however long it runs. The base event is the first instance of the rule, but is not an occurrence.
+ * Guarantees: details are present and not null, field values are validated, immutable.
+ */
+public class RecurringEvent {
+
+    private final Event event;
+    private final RecurrenceRule rule;
+    private final Set<Date> exceptions;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public RecurringEvent(Event event, RecurFactor factor, Date endDate) {
+        this(event, RecurrenceRule.of(requireNonNull(factor)).withUntil(requireNonNull(endDate).date));
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public RecurringEvent(Event event, RecurrenceRule rule) {
+        this(event, rule, Collections.emptySet());
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public RecurringEvent(Event event, RecurrenceRule rule, Set<Date> exceptions) {
+        requireAllNonNull(event, rule, exceptions);
+        this.event = event;
+        this.rule = rule;
+        this.exceptions = Collections.unmodifiableSet(new HashSet<>(exceptions));
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    public RecurrenceRule getRule() {
+        return rule;
+    }
+
+    /**
+     * Returns the date on or before which every occurrence falls.
+     */
+    public Date getEndDate() {
+        return Date.of(rule.getEndDate(event.getDate().date));
+    }
+
+    /**
+     * Returns an immutable set of the dates on which the event does not recur.
+     */
+    public Set<Date> getExceptions() {
+        return exceptions;
+    }
+
+    /**
+     * Returns a copy of this recurring event that does not recur on {@code date}.
+     */
+    public RecurringEvent withException(Date date) {
+        requireNonNull(date);
+        Set<Date> newExceptions = new HashSet<>(exceptions);
+        newExceptions.add(date);
+        return new RecurringEvent(event, rule, newExceptions);
+    }
+
+    /**
+     * Returns true if {@code otherEvent} is the base event that this recurring event repeats.
+     */
+    public boolean isRecurrenceOf(Event otherEvent) {
+        return event.equals(otherEvent);
+    }
+
+    /**
+     * Returns a copy of this recurring event that repeats {@code newEvent} instead, by the same rule and with the
+     * same exceptions.
+     */
+    public RecurringEvent withEvent(Event newEvent) {
+        requireNonNull(newEvent);
+        return new RecurringEvent(newEvent, rule, exceptions);
+    }
+
+    /**
+     * Returns true if the event recurs on {@code date}.
+     */
+    public boolean occursOn(LocalDate date) {
+        requireNonNull(date);
+        return date.isAfter(event.getDate().date) && occurrenceDates(date, date).hasNext();
+    }
+
+    /**
+     * Returns true if the event recurs on the date of {@code otherEvent}, at a time that overlaps it.
+     */
+    public boolean isOccurrenceOverlap(Event otherEvent) {
+        requireNonNull(otherEvent);
+        LocalDate date = otherEvent.getDate().date;
+        return occursOn(date) && toOccurrence(date).isEventOverlap(otherEvent);
+    }
+
+    /**
+     * Returns the occurrences from {@code startDate} to {@code endDate} inclusive, in chronological order.
+     */
+    public List<Event> getOccurrencesBetween(LocalDate startDate, LocalDate endDate) {
+        return getOccurrences(startDate, endDate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the first {@code count} occurrences on or after {@code startDate}, in chronological order.
+     */
+    public List<Event> getOccurrencesFrom(LocalDate startDate, int count) {
+        return getOccurrences(startDate, LocalDate.MAX, count);
+    }
+
+    /**
+     * Returns up to {@code limit} occurrences from {@code startDate} to {@code endDate} inclusive.
+     */
+    private List<Event> getOccurrences(LocalDate startDate, LocalDate endDate, int limit) {
+        requireAllNonNull(startDate, endDate);
+        List<Event> occurrences = new ArrayList<>();
+        for (Iterator<LocalDate> dates = occurrenceDates(startDate, endDate);
+                dates.hasNext() && occurrences.size() < limit;) {
+            occurrences.add(toOccurrence(dates.next()));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns an iterator over the dates of the occurrences from {@code startDate} to {@code endDate} inclusive.
+     * The base event is left out.
+     */
+    private Iterator<LocalDate> occurrenceDates(LocalDate startDate, LocalDate endDate) {
+        LocalDate firstDate = event.getDate().date.plusDays(1);
+        return rule.iterator(event.getDate().date, startDate.isAfter(firstDate) ? startDate : firstDate, endDate,
+                exceptions);
+    }
+
+    private Event toOccurrence(LocalDate date) {
+        return new Event(event.getName(), Date.of(date), event.getStartTime(), event.getEndTime());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof RecurringEvent)) {
+            return false;
+        }
+
+        RecurringEvent otherRecurringEvent = (RecurringEvent) other;
+        return otherRecurringEvent.getEvent().equals(getEvent())
+                && otherRecurringEvent.getRule().equals(getRule())
+                && otherRecurringEvent.getExceptions().equals(getExceptions());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(event, rule, exceptions);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(getEvent())
+                .append("\nRecurs: ")
+                .append(getRule());
+        if (!exceptions.isEmpty()) {
+            sb.append("\nExcept: ")
+                    .append(getExceptions());
+        }
+        return sb.toString();
+    }
+}
@@ -3,9 +3,9 @@ package ezschedule.model.event;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 
 import ezschedule.commons.util.AppUtil;
+import ezschedule.commons.util.StringUtil;
 
 /**
  * Represents an Event's time in the scheduler.
@@ -18,6 +18,17 @@ public class Time implements Comparable<Time> {
 
     public static final String VALIDATION_REGEX = "^(0[0-9]|1[0-9]|2[0-3]):[0-5][0-9]$";
 
+    // Layout of a HH:mm time string
+    private static final int LENGTH = 5;
+    private static final int SEPARATOR_INDEX = 2;
+
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+
+    // Every time used so far, by minute of the day. A Time is immutable and its field is final, so the slots can be
+    // read and filled from any thread without locking.
+    private static final Time[] cache = new Time[MINUTES_PER_DAY];
+
     public final LocalTime time;
 
     /**
@@ -28,22 +39,99 @@ public class Time implements Comparable<Time> {
     public Time(String time) {
         requireNonNull(time);
         AppUtil.checkArgument(isValidTime(time), MESSAGE_CONSTRAINTS);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
-        this.time = LocalTime.parse(time, formatter);
+        this.time = LocalTime.of(getHour(time), getMinute(time));
+    }
+
+    /**
+     * Constructs a {@code Time} from a {@code LocalTime}.
+     *
+     * @param time A time with no seconds or smaller units.
+     */
+    public Time(LocalTime time) {
+        requireNonNull(time);
+        AppUtil.checkArgument(time.getSecond() == 0 && time.getNano() == 0, MESSAGE_CONSTRAINTS);
+        this.time = time;
+    }
+
+    /**
+     * Returns the {@code Time} equal to {@code new Time(time)}, creating it only the first time it is needed.
+     *
+     * @param time A valid time.
+     */
+    public static Time of(String time) {
+        requireNonNull(time);
+        AppUtil.checkArgument(isValidTime(time), MESSAGE_CONSTRAINTS);
+        return ofMinuteOfDay(getHour(time) * MINUTES_PER_HOUR + getMinute(time));
+    }
+
+    /**
+     * Returns the {@code Time} equal to {@code new Time(time)}, creating it only the first time it is needed.
+     *
+     * @param time A time with no seconds or smaller units.
+     */
+    public static Time of(LocalTime time) {
+        requireNonNull(time);
+        AppUtil.checkArgument(time.getSecond() == 0 && time.getNano() == 0, MESSAGE_CONSTRAINTS);
+        return ofMinuteOfDay(time.getHour() * MINUTES_PER_HOUR + time.getMinute());
+    }
+
+    /**
+     * Returns the {@code Time} that is {@code minuteOfDay} minutes after midnight, creating it only the first time
+     * it is needed.
+     *
+     * @param minuteOfDay A minute from 0 to 1439.
+     */
+    public static Time ofMinuteOfDay(int minuteOfDay) {
+        AppUtil.checkArgument(minuteOfDay >= 0 && minuteOfDay < MINUTES_PER_DAY, MESSAGE_CONSTRAINTS);
+        Time cached = cache[minuteOfDay];
+        if (cached == null) {
+            cached = new Time(LocalTime.of(minuteOfDay / MINUTES_PER_HOUR, minuteOfDay % MINUTES_PER_HOUR));
+            cache[minuteOfDay] = cached;
+        }
+        return cached;
     }
 
     /**
      * Returns true if a given string is a valid time.
+     * Accepts exactly the strings matched by {@link #VALIDATION_REGEX}, without allocating.
      */
     public static boolean isValidTime(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() != LENGTH || test.charAt(SEPARATOR_INDEX) != ':') {
+            return false;
+        }
+
+        int hour = getHour(test);
+        int minute = getMinute(test);
+        return hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59;
+    }
+
+    private static int getHour(String time) {
+        return StringUtil.parseDigits(time, 0, SEPARATOR_INDEX);
+    }
+
+    private static int getMinute(String time) {
+        return StringUtil.parseDigits(time, SEPARATOR_INDEX + 1, LENGTH);
     }
 
     /**
      * Returns true if this time has past current present time.
      */
     public boolean isPastTime() {
-        return time.isBefore(LocalTime.now());
+        return isPastTime(LocalTime.now());
+    }
+
+    /**
+     * Returns true if this time is before {@code now}.
+     */
+    public boolean isPastTime(LocalTime now) {
+        return time.isBefore(now);
+    }
+
+    /**
+     * Returns the number of minutes from midnight to this time.
+     */
+    public int getMinuteOfDay() {
+        return time.getHour() * MINUTES_PER_HOUR + time.getMinute();
     }
 
     /**
@@ -2,14 +2,22 @@ package ezschedule.model.event;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import ezschedule.commons.util.CollectionUtil;
 import ezschedule.model.event.exceptions.DuplicateEventException;
 import ezschedule.model.event.exceptions.EventNotFoundException;
 import javafx.collections.FXCollections;
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 /**
@@ -19,11 +27,23 @@ import javafx.collections.ObservableList;
  * unique in terms of identity in the UniqueEventList. However, the removal of a event uses Event#equals(Object) so
  * as to ensure that the event with exactly the same fields will be removed.
  * <p>
+ * Events are kept in chronological order (as defined by {@link Event#compareTo(Event)}) at all times.
+ * New events are inserted at their sorted position, so each change is reported to listeners as a single
+ * element change rather than as a re-sort of the whole list.
+ * <p>
+ * Events are stored as primitives in a {@link PackedEventList}, so lookups and overlap checks binary search
+ * the stored dates and times instead of comparing {@code Event} objects.
+ * <p>
  * Supports a minimal set of list operations.
  */
 public class UniqueEventList implements Iterable<Event> {
 
-    private final ObservableList<Event> internalList = FXCollections.observableArrayList();
+    // Chronological order, with ties broken by all the other fields compared by Event#equals(Object)
+    private static final Comparator<Event> FULL_ORDER = Comparator.<Event>naturalOrder()
+            .thenComparingInt(event -> event.getEndTime().getMinuteOfDay())
+            .thenComparing(event -> event.getName().fullName);
+
+    private final PackedEventList internalList = new PackedEventList();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -32,35 +52,102 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return indexOf(toCheck) != -1;
     }
 
     /**
      * Returns true if the list contains an event (excluding {@code current}) at the given date and time.
+     * Only events on the same date can overlap, and they sit next to each other in order of start time. The events
+     * starting no later than {@code toCheck} ends are checked backwards from the last of them, until none before can
+     * end late enough; the events starting after it are checked forwards, until none after can end early enough.
+     * <p>
+     * This takes O(log n) time when no two events on that date overlap and none ends before it starts, which the
+     * add and edit commands ensure: the walk then stops after an event or two either way. Events that nest or overlap,
+     * such as those read from an edited data file, are not indexed further, so in the worst case the walk checks
+     * every event on that date.
      */
     public boolean existsAtTime(Event current, Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().filter(e -> !e.equals(current)).anyMatch(toCheck::isEventOverlap);
+        int queryStart = lowerBoundOf(toCheck.getStartTime().getMinuteOfDay(), toCheck.getEndTime().getMinuteOfDay());
+        int queryEnd = upperBoundOf(toCheck.getStartTime().getMinuteOfDay(), toCheck.getEndTime().getMinuteOfDay());
+        long epochDay = toCheck.getDate().date.toEpochDay();
+        int dayStart = firstIndexOnDay(epochDay);
+        int dayEnd = firstIndexOnDay(epochDay + 1);
+        int split = firstIndexStartingAfter(dayStart, dayEnd, queryEnd);
+
+        for (int i = split - 1; i >= dayStart && internalList.latestBoundOnDayUpTo(i) >= queryStart; i--) {
+            if (isOverlapAt(i, current, toCheck, queryStart, queryEnd)) {
+                return true;
+            }
+        }
+        for (int i = split; i < dayEnd && internalList.earliestBoundOnDayFrom(i) <= queryEnd; i++) {
+            if (isOverlapAt(i, current, toCheck, queryStart, queryEnd)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the event at {@code index} is not {@code current} and overlaps {@code toCheck}, which spans
+     * from {@code queryStart} to {@code queryEnd}.
+     */
+    private boolean isOverlapAt(int index, Event current, Event toCheck, int queryStart, int queryEnd) {
+        int start = internalList.startMinuteAt(index);
+        int end = internalList.endMinuteAt(index);
+        if (lowerBoundOf(start, end) > queryEnd || upperBoundOf(start, end) < queryStart) {
+            return false;
+        }
+        if (current != null && internalList.equalsAt(index, current)) {
+            return false;
+        }
+        return toCheck.isEventOverlap(internalList.get(index));
     }
 
     /**
-     * Attach {@code listener}, which is called whenever internalList is changed.
+     * Returns the first {@code count} events, in chronological order, that are not completed at {@code now}.
+     * Every event before the date of {@code now} is completed and every event after it is not, so only the events
+     * on that date are checked, after a binary search for the first of them.
+     */
+    public List<Event> getUpcomingEvents(LocalDateTime now, int count) {
+        requireNonNull(now);
+        long today = now.toLocalDate().toEpochDay();
+        List<Event> upcomingEvents = new ArrayList<>();
+        for (int i = firstIndexOnDay(today); i < internalList.size() && upcomingEvents.size() < count; i++) {
+            Event event = internalList.get(i);
+            if (internalList.epochDayAt(i) != today || !event.isCompletedAt(now)) {
+                upcomingEvents.add(event);
+            }
+        }
+        return upcomingEvents;
+    }
+
+    /**
+     * Returns the names of the events in the list that contain any of {@code keywords}, ignoring case.
+     * The returned set is a view that stays current as the list changes. It is looked up in the name index when
+     * first used, and again only after names have been added to or removed from the list, which takes time
+     * proportional to the number of candidate names, not to the number of events.
      *
-     * @param listener A ListChangeListener to be called.
+     * @param keywords Non-empty keywords that are already in lower case.
      */
-    public void addListChangeListener(ListChangeListener<Event> listener) {
-        internalList.addListener(listener);
+    public Set<Name> getNamesContainingAny(List<String> keywords) {
+        requireNonNull(keywords);
+        return new NamesContainingAny(new ArrayList<>(keywords));
     }
 
     /**
-     * Sorts all events in chronological order.
+     * Returns the events from {@code startDate} to {@code endDate} inclusive, in chronological order.
+     * Takes time proportional to the number of events returned, after a binary search for the first of them.
      */
-    public void sortByChronologicalOrder() {
-        FXCollections.sort(internalList);
+    public List<Event> getEventsBetween(LocalDate startDate, LocalDate endDate) {
+        CollectionUtil.requireAllNonNull(startDate, endDate);
+        int from = firstIndexOnDay(startDate.toEpochDay());
+        int to = firstIndexOnDay(endDate.toEpochDay() + 1);
+        return new ArrayList<>(internalList.subList(from, Math.max(from, to)));
     }
 
     /**
-     * Adds an event to the list.
+     * Adds an event to the list at its chronological position.
      * The event must not already exist in the list.
      */
     public void add(Event toAdd) {
@@ -68,7 +155,32 @@ public class UniqueEventList implements Iterable<Event> {
         if (contains(toAdd)) {
             throw new DuplicateEventException();
         }
-        internalList.add(toAdd);
+        internalList.insert(insertionIndexOf(toAdd), toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list, keeping it in chronological order.
+     * The whole batch is reported to listeners as a single change.
+     * None of the events may already exist in the list, and {@code toAdd} must not contain duplicate events.
+     */
+    public void addAll(List<Event> toAdd) {
+        CollectionUtil.requireAllNonNull(toAdd);
+        Set<Event> uniqueEvents = new HashSet<>(toAdd);
+        if (uniqueEvents.size() != toAdd.size()) {
+            throw new DuplicateEventException();
+        }
+        for (Event event : toAdd) {
+            if (contains(event)) {
+                throw new DuplicateEventException();
+            }
+        }
+        if (toAdd.isEmpty()) {
+            return;
+        }
+
+        List<Event> sortedBatch = new ArrayList<>(toAdd);
+        sortedBatch.sort(null);
+        internalList.insertAllSorted(sortedBatch);
     }
 
     /**
@@ -79,7 +191,7 @@ public class UniqueEventList implements Iterable<Event> {
     public void setEvent(Event target, Event editedEvent) {
         CollectionUtil.requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new EventNotFoundException();
         }
@@ -87,7 +199,13 @@ public class UniqueEventList implements Iterable<Event> {
         if (!target.equals(editedEvent) && contains(editedEvent)) {
             throw new DuplicateEventException();
         }
-        internalList.set(index, editedEvent);
+
+        if (isInOrderAt(index, editedEvent)) {
+            internalList.replace(index, editedEvent);
+        } else {
+            internalList.delete(index);
+            internalList.insert(insertionIndexOf(editedEvent), editedEvent);
+        }
     }
 
     /**
@@ -96,26 +214,109 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new EventNotFoundException();
         }
+        internalList.delete(index);
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list.
+     * The whole batch is reported to listeners as a single change.
+     * Every event must exist in the list.
+     */
+    public void removeAll(List<Event> toRemove) {
+        CollectionUtil.requireAllNonNull(toRemove);
+        Set<Event> eventsToRemove = new HashSet<>(toRemove);
+        int[] indexes = new int[eventsToRemove.size()];
+        int count = 0;
+        for (Event event : eventsToRemove) {
+            int index = indexOf(event);
+            if (index == -1) {
+                throw new EventNotFoundException();
+            }
+            indexes[count++] = index;
+        }
+
+        Arrays.sort(indexes);
+        internalList.deleteAll(indexes);
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list and adds all of {@code toAdd}, keeping it in chronological
+     * order. The whole update is reported to listeners as a single change.
+     * Every event to remove must exist in the list, and no event to add may remain in the list after the removals,
+     * or be in {@code toAdd} more than once. Both are checked before the list is modified, so the list is left
+     * unchanged if either check fails.
+     */
+    public void update(List<Event> toRemove, List<Event> toAdd) {
+        CollectionUtil.requireAllNonNull(toRemove, toAdd);
+        Set<Event> eventsToRemove = new HashSet<>(toRemove);
+        int[] indexes = new int[eventsToRemove.size()];
+        int count = 0;
+        for (Event event : eventsToRemove) {
+            int index = indexOf(event);
+            if (index == -1) {
+                throw new EventNotFoundException();
+            }
+            indexes[count++] = index;
+        }
+
+        Set<Event> uniqueEvents = new HashSet<>(toAdd);
+        if (uniqueEvents.size() != toAdd.size()) {
+            throw new DuplicateEventException();
+        }
+        for (Event event : toAdd) {
+            if (contains(event) && !eventsToRemove.contains(event)) {
+                throw new DuplicateEventException();
+            }
+        }
+
+        Arrays.sort(indexes);
+        List<Event> sortedBatch = new ArrayList<>(toAdd);
+        sortedBatch.sort(null);
+        internalList.beginBatch();
+        try {
+            internalList.deleteAll(indexes);
+            internalList.insertAllSorted(sortedBatch);
+        } finally {
+            internalList.endBatch();
+        }
     }
 
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.replaceAll(replacement.internalList);
     }
 
     /**
-     * Replaces the contents of this list with {@code events}.
+     * Replaces the contents of this list with {@code events}, sorted in chronological order.
      * {@code events} must not contain duplicate events.
      */
     public void setEvents(List<Event> events) {
         CollectionUtil.requireAllNonNull(events);
-        if (!eventsAreUnique(events)) {
-            throw new DuplicateEventException();
+        loadEvents(new ArrayList<>(events));
+    }
+
+    /**
+     * Replaces the contents of this list with {@code events}, like {@link #setEvents(List)}, but sorts
+     * {@code events} itself instead of a copy of it, so that loading many events keeps no copy of them besides the
+     * packed list. {@code events} must be modifiable, and is left sorted.
+     * <p>
+     * Duplicates are found as neighbours after the sort, since events are sorted by all their fields.
+     *
+     * @throws DuplicateEventException naming one of the duplicated events, if {@code events} contains duplicates.
+     */
+    public void loadEvents(List<Event> events) {
+        CollectionUtil.requireAllNonNull(events);
+        events.sort(FULL_ORDER);
+        for (int i = 1; i < events.size(); i++) {
+            if (events.get(i).equals(events.get(i - 1))) {
+                throw new DuplicateEventException(events.get(i));
+            }
         }
-        internalList.setAll(events);
+        internalList.replaceAll(events);
     }
 
     /**
@@ -143,16 +344,136 @@ public class UniqueEventList implements Iterable<Event> {
     }
 
     /**
-     * Returns true if {@code events} contains only unique events.
+     * Returns the index at which {@code event} should be inserted to keep the list in chronological order.
+     * Events that are chronologically tied keep their insertion order, as a stable sort would.
+     */
+    private int insertionIndexOf(Event event) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalList.compareAt(mid, event) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the event equal to {@code event}, or -1 if there is no such event.
+     */
+    private int indexOf(Event event) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalList.compareAt(mid, event) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        // Chronologically tied events sit next to each other
+        for (int i = low; i < internalList.size() && internalList.compareAt(i, event) == 0; i++) {
+            if (internalList.equalsAt(i, event)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first event on or after the date with {@code epochDay}.
+     */
+    private int firstIndexOnDay(long epochDay) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalList.epochDayAt(mid) < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first event from {@code from} (inclusive) to {@code to} (exclusive), all on one date,
+     * that starts after {@code minuteOfDay}, or {@code to} if there is none.
+     */
+    private int firstIndexStartingAfter(int from, int to, int minuteOfDay) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalList.startMinuteAt(mid) <= minuteOfDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int lowerBoundOf(int startMinute, int endMinute) {
+        return Math.min(startMinute, endMinute);
+    }
+
+    private static int upperBoundOf(int startMinute, int endMinute) {
+        return Math.max(startMinute, endMinute);
+    }
+
+    /**
+     * Returns true if {@code event} can replace the event at {@code index} without breaking chronological order.
      */
-    private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).equals(events.get(j))) {
-                    return false;
+    private boolean isInOrderAt(int index, Event event) {
+        boolean isAfterPrevious = index == 0 || internalList.compareAt(index - 1, event) <= 0;
+        boolean isBeforeNext = index == internalList.size() - 1 || internalList.compareAt(index + 1, event) > 0;
+        return isAfterPrevious && isBeforeNext;
+    }
+
+    /**
+     * The names of the events in the list that contain any of the keywords, looked up again whenever the names in
+     * the list have changed since the last lookup.
+     */
+    private class NamesContainingAny extends AbstractSet<Name> {
+        private final List<String> keywords;
+        private Set<Name> names;
+        private int namesVersion;
+
+        NamesContainingAny(List<String> keywords) {
+            this.keywords = keywords;
+        }
+
+        private Set<Name> getNames() {
+            if (names == null || namesVersion != internalList.getNamesVersion()) {
+                names = new HashSet<>();
+                for (String keyword : keywords) {
+                    names.addAll(internalList.getNamesContaining(keyword));
                 }
+                namesVersion = internalList.getNamesVersion();
             }
+            return names;
+        }
+
+        @Override
+        public boolean contains(Object name) {
+            return getNames().contains(name);
+        }
+
+        @Override
+        public Iterator<Name> iterator() {
+            return Collections.unmodifiableSet(getNames()).iterator();
+        }
+
+        @Override
+        public int size() {
+            return getNames().size();
         }
-        return true;
     }
 }
@@ -1,11 +1,36 @@
 package ezschedule.model.event.exceptions;
 
+import java.util.Optional;
+
+import ezschedule.model.event.Event;
+
 /**
  * Signals that the operation will result in duplicate Events
  * (Events are considered duplicates if they have the same identity).
  */
 public class DuplicateEventException extends RuntimeException {
+    private final Event duplicate;
+
+    /**
+     * Creates a DuplicateEventException for an operation that would result in duplicate events.
+     */
     public DuplicateEventException() {
         super("Operation would result in duplicate events");
+        duplicate = null;
+    }
+
+    /**
+     * Creates a DuplicateEventException for an operation that would result in more than one {@code duplicate}.
+     */
+    public DuplicateEventException(Event duplicate) {
+        super("Operation would result in duplicate events: " + duplicate);
+        this.duplicate = duplicate;
+    }
+
+    /**
+     * Returns the event that would be duplicated, if it is known.
+     */
+    public Optional<Event> getDuplicate() {
+        return Optional.ofNullable(duplicate);
     }
 }
@@ -14,9 +14,9 @@ public class SampleDataUtil {
 
     public static Event[] getSampleEvents() {
         return new Event[]{
-            new Event(new Name("Tennis"), new Date("2024-01-01"), new Time("18:00"), new Time("20:00")),
-            new Event(new Name("Basketball"), new Date("2024-02-02"), new Time("18:00"), new Time("20:00")),
-            new Event(new Name("Bowling"), new Date("2024-03-03"), new Time("18:00"), new Time("20:00"))
+            new Event(Name.of("Tennis"), Date.of("2024-01-01"), Time.of("18:00"), Time.of("20:00")),
+            new Event(Name.of("Basketball"), Date.of("2024-02-02"), Time.of("18:00"), Time.of("20:00")),
+            new Event(Name.of("Bowling"), Date.of("2024-03-03"), Time.of("18:00"), Time.of("20:00"))
         };
     }
 
@@ -0,0 +1,166 @@
+package ezschedule.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import ezschedule.commons.core.LogsCenter;
+import ezschedule.commons.util.StringUtil;
+import ezschedule.model.ReadOnlyScheduler;
+import ezschedule.model.Transaction;
+
+/**
+ * Saves scheduler data on a background thread.
+ * <p>
+ * A save is only written after {@code delay} has passed since it was first requested. Requests made while a
+ * save is waiting are gathered into it: a whole scheduler replaces everything requested before it, and changes are
+ * saved after it in the order they were requested, so a burst of changes results in a single write. A failed
+ * write is passed to the failure handler as soon as it happens, and the result of the most recent write is kept
+ * until it is collected with {@link #takeFailure()}.
+ */
+public class BackgroundSchedulerSaver {
+
+    public static final Duration DEFAULT_DELAY = Duration.ofMillis(500);
+    public static final String MESSAGE_CHANGES_NOT_SAVED = "Changes could not be saved on their own, as an earlier "
+            + "save failed";
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSchedulerSaver.class);
+
+    private final SchedulerStorage storage;
+    private final Duration delay;
+    private final ScheduledThreadPoolExecutor executor;
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+    private volatile Consumer<IOException> failureHandler = unused -> {};
+
+    // The saves waiting to be written, guarded by this saver's lock
+    private ReadOnlyScheduler pendingScheduler; // null if no whole scheduler is waiting
+    private final List<Transaction> pendingChanges = new ArrayList<>(); // saved after pendingScheduler
+    private boolean isSaveScheduled;
+
+    /**
+     * Creates a {@code BackgroundSchedulerSaver} that writes to {@code storage} {@code delay} after a save is
+     * requested.
+     */
+    public BackgroundSchedulerSaver(SchedulerStorage storage, Duration delay) {
+        requireNonNull(storage);
+        requireNonNull(delay);
+        this.storage = storage;
+        this.delay = delay;
+
+        executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "scheduler-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setKeepAliveTime(1, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Sets the handler called, on the background thread, with the error of each write that fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Requests that {@code scheduler} be saved, replacing any save waiting to be written.
+     * {@code scheduler} should not be modified afterwards, as it is read on the background thread.
+     */
+    public synchronized void requestSave(ReadOnlyScheduler scheduler) {
+        requireNonNull(scheduler);
+        pendingScheduler = scheduler;
+        pendingChanges.clear();
+        scheduleSave();
+    }
+
+    /**
+     * Requests that {@code changes}, made to the scheduler as last requested to be saved or as last saved, be saved
+     * without writing the whole scheduler. Should only be used if {@link #canSaveChanges()} is true.
+     */
+    public synchronized void requestSaveChanges(List<Transaction> changes) {
+        requireNonNull(changes);
+        pendingChanges.addAll(changes);
+        scheduleSave();
+    }
+
+    /**
+     * Returns true if changes requested now can be saved on their own, because a whole scheduler is waiting to be
+     * saved before them or the storage can save changes.
+     */
+    public synchronized boolean canSaveChanges() {
+        return pendingScheduler != null || storage.canSaveChanges();
+    }
+
+    /**
+     * Writes any pending save immediately, and waits for all writes to finish.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::savePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // savePending does not throw checked exceptions
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the error from the most recent write if it failed, and clears it.
+     */
+    public Optional<IOException> takeFailure() {
+        return Optional.ofNullable(failure.getAndSet(null));
+    }
+
+    private void scheduleSave() {
+        assert Thread.holdsLock(this);
+        if (!isSaveScheduled) {
+            isSaveScheduled = true;
+            executor.schedule(this::savePending, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void savePending() {
+        ReadOnlyScheduler scheduler;
+        List<Transaction> changes;
+        synchronized (this) {
+            scheduler = pendingScheduler;
+            changes = new ArrayList<>(pendingChanges);
+            pendingScheduler = null;
+            pendingChanges.clear();
+            isSaveScheduled = false;
+        }
+        if (scheduler == null && changes.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (scheduler != null) {
+                storage.saveScheduler(scheduler);
+            }
+            if (!changes.isEmpty()) {
+                if (!storage.canSaveChanges()) {
+                    throw new IOException(MESSAGE_CHANGES_NOT_SAVED);
+                }
+                storage.saveChanges(changes);
+            }
+            failure.set(null);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save scheduler: " + StringUtil.getDetails(ioe));
+            failure.set(ioe);
+            failureHandler.accept(ioe);
+        }
+    }
+}
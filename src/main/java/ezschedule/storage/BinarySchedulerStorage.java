@@ -0,0 +1,338 @@
+package ezschedule.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import ezschedule.commons.core.LogsCenter;
+import ezschedule.commons.exceptions.DataConversionException;
+import ezschedule.commons.exceptions.IllegalValueException;
+import ezschedule.commons.util.FileUtil;
+import ezschedule.model.ReadOnlyScheduler;
+import ezschedule.model.Scheduler;
+import ezschedule.model.event.Date;
+import ezschedule.model.event.Event;
+import ezschedule.model.event.Name;
+import ezschedule.model.event.RecurrenceRule;
+import ezschedule.model.event.RecurringEvent;
+import ezschedule.model.event.Time;
+
+/**
+ * A class to access Scheduler data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a header of {@link #MAGIC_NUMBER} and {@link #FORMAT_VERSION}. It is followed by a table
+ * of the distinct event names, and then one fixed-width record per event: the index of its name in the table,
+ * its date as an epoch day, and its start and end times as minutes of the day.
+ * <p>
+ * Since version 2, the event records are followed by one record per recurring event: the record of its base
+ * event, its recurrence rule in RRULE syntax, and the epoch days of its exceptions. Files of version 1, which has
+ * no recurring events, can still be read.
+ */
+public class BinarySchedulerStorage implements SchedulerStorage {
+
+    public static final int MAGIC_NUMBER = 0x455A5343; // "EZSC"
+    public static final short FORMAT_VERSION = 2;
+    public static final short FIRST_VERSION_WITH_RECURRING_EVENTS = 2;
+
+    public static final String MESSAGE_NOT_BINARY_SCHEDULER = "File is not a binary scheduler file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary scheduler file version %d is not supported";
+    public static final String MESSAGE_INVALID_NAME_INDEX = "Event %d refers to a name that does not exist";
+    public static final String MESSAGE_INVALID_TIME = "Event %d has a time outside of the day";
+    public static final String MESSAGE_INVALID_EVENT = "Event %d: %s";
+    public static final String MESSAGE_INVALID_RECURRING_EVENT = "Recurring event %d: %s";
+    public static final String MESSAGE_INVALID_RECURRENCE_RULE = "Recurring event %d has an invalid recurrence rule";
+    public static final String MESSAGE_INVALID_COUNT = "File claims %d %s, which it cannot hold";
+
+    private static final Logger logger = LogsCenter.getLogger(BinarySchedulerStorage.class);
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    // The fewest bytes that each kind of record can take up, used to bound the counts read from a file
+    private static final int MIN_NAME_BYTES = 2;
+    private static final int EVENT_RECORD_BYTES = 12;
+    private static final int MIN_RECURRING_EVENT_RECORD_BYTES = EVENT_RECORD_BYTES + 2 + 4;
+    private static final int EXCEPTION_BYTES = 4;
+
+    private final Path filePath;
+
+    public BinarySchedulerStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getSchedulerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduler> readScheduler() throws DataConversionException {
+        return readScheduler(filePath);
+    }
+
+    /**
+     * Similar to {@link #readScheduler()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyScheduler> readScheduler(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(readScheduler(new DataInputStream(in), Files.size(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (RuntimeException e) {
+            // A file that passes the checks can still hold values that the model rejects
+            logger.info("Illegal values found in " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads a scheduler from {@code in}, which holds a file of {@code fileSize} bytes.
+     */
+    private static Scheduler readScheduler(DataInputStream in, long fileSize) throws IOException,
+            IllegalValueException {
+        short version = readVersion(in);
+        Name[] names = readNames(in, fileSize);
+
+        int eventCount = readCount(in, fileSize, EVENT_RECORD_BYTES, "events");
+        List<Event> events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            events.add(toEvent(names, in.readInt(), in.readInt(), in.readShort(), in.readShort(), i + 1));
+        }
+
+        List<RecurringEvent> recurringEvents = version >= FIRST_VERSION_WITH_RECURRING_EVENTS
+                ? readRecurringEvents(in, names, fileSize)
+                : new ArrayList<>();
+        return JsonSerializableScheduler.toModelType(events, recurringEvents);
+    }
+
+    /**
+     * Reads the header from {@code in}, leaving {@code in} at the name table.
+     *
+     * @return the format version of the file.
+     * @throws IllegalValueException if the header is not that of a supported binary scheduler file.
+     */
+    private static short readVersion(DataInputStream in) throws IOException, IllegalValueException {
+        int magicNumber;
+        try {
+            magicNumber = in.readInt();
+        } catch (EOFException e) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_SCHEDULER);
+        }
+        if (magicNumber != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_SCHEDULER);
+        }
+
+        short version = in.readShort();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        return version;
+    }
+
+    /**
+     * Reads the name table from {@code in}, leaving {@code in} at the event count.
+     *
+     * @throws IllegalValueException if a name is invalid.
+     */
+    private static Name[] readNames(DataInputStream in, long fileSize) throws IOException, IllegalValueException {
+        // Each name is validated once, however many events share it
+        Name[] names = new Name[readCount(in, fileSize, MIN_NAME_BYTES, "names")];
+        for (int i = 0; i < names.length; i++) {
+            String name = in.readUTF();
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            names[i] = Name.of(name);
+        }
+        return names;
+    }
+
+    /**
+     * Converts the fields of the event record numbered {@code recordNumber} into the model's {@code Event} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    private static Event toEvent(Name[] names, int nameIndex, long epochDay, int startMinute, int endMinute,
+                         int recordNumber) throws IllegalValueException {
+        if (nameIndex < 0 || nameIndex >= names.length) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_NAME_INDEX, recordNumber));
+        }
+        if (!isMinuteOfDay(startMinute) || !isMinuteOfDay(endMinute)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TIME, recordNumber));
+        }
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        if (!Date.isValidDate(date)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_EVENT, recordNumber,
+                    Date.MESSAGE_CONSTRAINTS));
+        }
+
+        return new Event(names[nameIndex], Date.of(date), Time.ofMinuteOfDay(startMinute),
+                Time.ofMinuteOfDay(endMinute));
+    }
+
+    /**
+     * Reads the recurring event records from {@code in}, which must be at the recurring event count.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the records.
+     */
+    private static List<RecurringEvent> readRecurringEvents(DataInputStream in, Name[] names, long fileSize)
+            throws IOException, IllegalValueException {
+        int recurringEventCount = readCount(in, fileSize, MIN_RECURRING_EVENT_RECORD_BYTES, "recurring events");
+        List<RecurringEvent> recurringEvents = new ArrayList<>();
+        Set<RecurringEvent> uniqueRecurringEvents = new HashSet<>();
+        for (int i = 0; i < recurringEventCount; i++) {
+            RecurringEvent recurringEvent = readRecurringEvent(in, names, i + 1, fileSize);
+            if (!uniqueRecurringEvents.add(recurringEvent)) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECURRING_EVENT, i + 1,
+                        JsonSerializableScheduler.MESSAGE_DUPLICATE_RECURRING_EVENT));
+            }
+            recurringEvents.add(recurringEvent);
+        }
+        return recurringEvents;
+    }
+
+    private static RecurringEvent readRecurringEvent(DataInputStream in, Name[] names, int recordNumber,
+            long fileSize) throws IOException, IllegalValueException {
+        Event event;
+        try {
+            event = toEvent(names, in.readInt(), in.readInt(), in.readShort(), in.readShort(), recordNumber);
+        } catch (IllegalValueException ive) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECURRING_EVENT, recordNumber,
+                    ive.getMessage()));
+        }
+
+        String rule = in.readUTF();
+        if (!RecurrenceRule.isValidRule(rule)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECURRENCE_RULE, recordNumber));
+        }
+
+        int exceptionCount = readCount(in, fileSize, EXCEPTION_BYTES, "exceptions");
+        Set<Date> exceptions = new HashSet<>();
+        for (int i = 0; i < exceptionCount; i++) {
+            exceptions.add(toDate(in.readInt(), recordNumber));
+        }
+        return new RecurringEvent(event, new RecurrenceRule(rule), exceptions);
+    }
+
+    /**
+     * Reads the count of a kind of record from {@code in}, which holds a file of {@code fileSize} bytes.
+     * Counts are checked before anything is allocated for them, so a corrupted count cannot exhaust memory.
+     *
+     * @param minRecordBytes the fewest bytes that each record counted can take up.
+     * @param records what is counted, for the error message.
+     * @throws IllegalValueException if the count is negative, or more records than the file can hold.
+     */
+    private static int readCount(DataInputStream in, long fileSize, int minRecordBytes, String records)
+            throws IOException, IllegalValueException {
+        int count = in.readInt();
+        if (count < 0 || count > fileSize / minRecordBytes) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_COUNT, count, records));
+        }
+        return count;
+    }
+
+    private static Date toDate(long epochDay, int recordNumber) throws IllegalValueException {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        if (!Date.isValidDate(date)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECURRING_EVENT, recordNumber,
+                    Date.MESSAGE_CONSTRAINTS));
+        }
+        return Date.of(date);
+    }
+
+    private static boolean isMinuteOfDay(int minute) {
+        return minute >= 0 && minute < MINUTES_PER_DAY;
+    }
+
+    @Override
+    public void saveScheduler(ReadOnlyScheduler scheduler) throws IOException {
+        saveScheduler(scheduler, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveScheduler(ReadOnlyScheduler)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveScheduler(ReadOnlyScheduler scheduler, Path filePath) throws IOException {
+        requireNonNull(scheduler);
+        requireNonNull(filePath);
+
+        List<Event> events = scheduler.getEventList();
+        List<RecurringEvent> recurringEvents = scheduler.getRecurringEventList();
+        Map<String, Integer> nameIndexes = new LinkedHashMap<>();
+        for (Event event : events) {
+            nameIndexes.putIfAbsent(event.getName().fullName, nameIndexes.size());
+        }
+        for (RecurringEvent recurringEvent : recurringEvents) {
+            nameIndexes.putIfAbsent(recurringEvent.getEvent().getName().fullName, nameIndexes.size());
+        }
+
+        FileUtil.writeToFileAtomically(filePath, stream -> {
+            DataOutputStream out = new DataOutputStream(stream);
+            out.writeInt(MAGIC_NUMBER);
+            out.writeShort(FORMAT_VERSION);
+
+            out.writeInt(nameIndexes.size());
+            for (String name : nameIndexes.keySet()) {
+                out.writeUTF(name);
+            }
+
+            out.writeInt(events.size());
+            for (Event event : events) {
+                writeEvent(out, event, nameIndexes);
+            }
+
+            out.writeInt(recurringEvents.size());
+            for (RecurringEvent recurringEvent : recurringEvents) {
+                writeEvent(out, recurringEvent.getEvent(), nameIndexes);
+                out.writeUTF(recurringEvent.getRule().toString());
+                out.writeInt(recurringEvent.getExceptions().size());
+                for (Date exception : recurringEvent.getExceptions()) {
+                    out.writeInt(toEpochDay(exception));
+                }
+            }
+            out.flush();
+        });
+    }
+
+    private static void writeEvent(DataOutputStream out, Event event, Map<String, Integer> nameIndexes)
+            throws IOException {
+        out.writeInt(nameIndexes.get(event.getName().fullName));
+        out.writeInt(toEpochDay(event.getDate()));
+        out.writeShort(event.getStartTime().getMinuteOfDay());
+        out.writeShort(event.getEndTime().getMinuteOfDay());
+    }
+
+    private static int toEpochDay(Date date) {
+        return Math.toIntExact(date.date.toEpochDay());
+    }
+}
@@ -0,0 +1,305 @@
+package ezschedule.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import ezschedule.commons.core.LogsCenter;
+import ezschedule.commons.exceptions.DataConversionException;
+import ezschedule.commons.exceptions.IllegalValueException;
+import ezschedule.commons.util.FileUtil;
+import ezschedule.commons.util.JsonUtil;
+import ezschedule.model.ReadOnlyScheduler;
+import ezschedule.model.Scheduler;
+import ezschedule.model.Transaction;
+import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurringEvent;
+
+/**
+ * A class to access Scheduler data stored as a snapshot file, together with a journal of the changes made since
+ * the snapshot was written. The snapshot is read and written by another {@code SchedulerStorage}.
+ * <p>
+ * {@link #saveChanges(List)} appends one record per event or recurring event added or deleted to the journal, so
+ * the amount written does not depend on the number of events in the scheduler. Reading replays the journal on top
+ * of the snapshot. Once the journal grows past the compaction threshold, it is folded into a new snapshot.
+ * <p>
+ * A record is complete once the line separator after it is written. An incomplete last record, left behind by a
+ * crash part way through a write, is discarded and cut from the journal when it is read, so that the records
+ * appended after it start on a line of their own.
+ * <p>
+ * Replaying a record is idempotent (adding an event that is present, or deleting one that is absent, does
+ * nothing), so a crash between writing a new snapshot and removing the old journal loses no data.
+ */
+public class JournalingSchedulerStorage implements SchedulerStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 256 * 1024;
+    public static final String MESSAGE_INVALID_RECORD = "Journal line %d: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingSchedulerStorage.class);
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private final SchedulerStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final long compactionThreshold;
+
+    // True if the snapshot and journal hold the scheduler as of the last read or save
+    private volatile boolean isDataKnown;
+
+    /**
+     * Creates a {@code JournalingSchedulerStorage} that keeps its snapshot as json at {@code filePath}.
+     */
+    public JournalingSchedulerStorage(Path filePath) {
+        this(new JsonSchedulerStorage(filePath));
+    }
+
+    /**
+     * Creates a {@code JournalingSchedulerStorage} that keeps its snapshot in {@code snapshotStorage}.
+     */
+    public JournalingSchedulerStorage(SchedulerStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalingSchedulerStorage} that keeps its snapshot in {@code snapshotStorage}, and folds
+     * the journal into a new snapshot once the journal is larger than {@code compactionThreshold} bytes.
+     */
+    public JournalingSchedulerStorage(SchedulerStorage snapshotStorage, long compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        journalFilePath = getJournalFilePath(snapshotStorage.getSchedulerFilePath());
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Path getSchedulerFilePath() {
+        return snapshotStorage.getSchedulerFilePath();
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyScheduler> readScheduler() throws DataConversionException, IOException {
+        isDataKnown = false;
+        Optional<ReadOnlyScheduler> scheduler = readScheduler(getSchedulerFilePath());
+        isDataKnown = scheduler.isPresent();
+        return scheduler;
+    }
+
+    /**
+     * Similar to {@link #readScheduler()}.
+     *
+     * @param filePath location of the snapshot. Its journal is expected at {@link #getJournalFilePath(Path)}.
+     *                 Cannot be null.
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyScheduler> readScheduler(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyScheduler> snapshot = snapshotStorage.readScheduler(filePath);
+        Path journalFile = getJournalFilePath(filePath);
+        if (!Files.exists(journalFile)) {
+            return snapshot;
+        }
+
+        // The snapshot is updated in place, so that its events are not copied
+        ReadOnlyScheduler snapshotScheduler = snapshot.orElseGet(Scheduler::new);
+        Scheduler scheduler = snapshotScheduler instanceof Scheduler
+                ? (Scheduler) snapshotScheduler
+                : new Scheduler(snapshotScheduler);
+        Map<Event, Boolean> eventChanges = new HashMap<>();
+        Set<RecurringEvent> recurringEvents = new LinkedHashSet<>(scheduler.getRecurringEventList());
+        replayJournal(journalFile, eventChanges, recurringEvents);
+
+        List<Event> eventsToRemove = new ArrayList<>();
+        List<Event> eventsToAdd = new ArrayList<>();
+        eventChanges.forEach((event, isAdded) -> {
+            if (isAdded && !scheduler.hasEvent(event)) {
+                eventsToAdd.add(event);
+            } else if (!isAdded && scheduler.hasEvent(event)) {
+                eventsToRemove.add(event);
+            }
+        });
+        scheduler.removeEvents(eventsToRemove);
+        scheduler.addEvents(eventsToAdd);
+        scheduler.setRecurringEvents(new ArrayList<>(recurringEvents));
+        return Optional.of(scheduler);
+    }
+
+    /**
+     * Applies the records in {@code journalFile} in order: the recurring event records to {@code recurringEvents},
+     * and the event records to {@code eventChanges}, which ends up mapping each event in the journal to whether its
+     * last record adds it.
+     * An incomplete last record is ignored, and cut from the file.
+     */
+    private static void replayJournal(Path journalFile, Map<Event, Boolean> eventChanges,
+            Set<RecurringEvent> recurringEvents) throws DataConversionException, IOException {
+        byte[] journal = Files.readAllBytes(journalFile);
+        int completeLength = journal.length;
+        while (completeLength > 0 && journal[completeLength - 1] != '\n') {
+            completeLength--;
+        }
+        if (completeLength < journal.length) {
+            logger.warning("Discarding incomplete last record in " + journalFile);
+            try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+                channel.truncate(completeLength);
+            }
+        }
+
+        List<String> lines = new String(journal, 0, completeLength, StandardCharsets.UTF_8).lines()
+                .collect(Collectors.toList());
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            try {
+                JsonAdaptedJournalRecord record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                if (record.isOfRecurringEvent()) {
+                    replay(record.isAdd(), record.toModelRecurringEvent(), recurringEvents);
+                } else {
+                    eventChanges.put(record.toModelEvent(), record.isAdd());
+                }
+            } catch (IOException e) {
+                throw new DataConversionException(e);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFile + ": " + ive.getMessage());
+                throw new DataConversionException(
+                        new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, i + 1, ive.getMessage())));
+            }
+        }
+    }
+
+    private static <T> void replay(boolean isAdd, T item, Set<T> items) {
+        if (isAdd) {
+            items.add(item);
+        } else {
+            items.remove(item);
+        }
+    }
+
+    /**
+     * Returns true once the scheduler has been read with {@link #readScheduler()}, or saved with
+     * {@link #saveScheduler(ReadOnlyScheduler)} or {@link #saveChanges(List)}, if no save has failed since.
+     */
+    @Override
+    public boolean canSaveChanges() {
+        return isDataKnown;
+    }
+
+    /**
+     * Saves {@code changes} by appending a record of each event and recurring event they delete and add to the
+     * journal, in order. The journal is folded into a new snapshot if it grows past the compaction threshold.
+     *
+     * @throws UnsupportedOperationException if {@link #canSaveChanges()} is false.
+     */
+    @Override
+    public synchronized void saveChanges(List<Transaction> changes) throws IOException {
+        requireNonNull(changes);
+        if (!isDataKnown) {
+            throw new UnsupportedOperationException("The data the changes are made to is not known.");
+        }
+
+        StringBuilder records = new StringBuilder();
+        for (Transaction change : changes) {
+            for (Event event : change.getEventsToRemove()) {
+                appendRecord(records, JsonAdaptedJournalRecord.delete(event));
+            }
+            for (Event event : change.getEventsToAdd()) {
+                appendRecord(records, JsonAdaptedJournalRecord.add(event));
+            }
+            for (RecurringEvent recurringEvent : change.getRecurringEventsToRemove()) {
+                appendRecord(records, JsonAdaptedJournalRecord.delete(recurringEvent));
+            }
+            for (RecurringEvent recurringEvent : change.getRecurringEventsToAdd()) {
+                appendRecord(records, JsonAdaptedJournalRecord.add(recurringEvent));
+            }
+        }
+        if (records.length() == 0) {
+            return;
+        }
+
+        isDataKnown = false;
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        FileUtil.appendToFile(journalFilePath, records.toString());
+        if (Files.size(journalFilePath) > compactionThreshold) {
+            compact();
+        }
+        isDataKnown = true;
+    }
+
+    /**
+     * Writes {@code scheduler} as a full snapshot, discarding the journal.
+     */
+    @Override
+    public synchronized void saveScheduler(ReadOnlyScheduler scheduler) throws IOException {
+        saveScheduler(scheduler, getSchedulerFilePath());
+    }
+
+    /**
+     * Writes {@code scheduler} as a full snapshot to {@code filePath}, discarding any journal kept alongside it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveScheduler(ReadOnlyScheduler scheduler, Path filePath) throws IOException {
+        requireNonNull(scheduler);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getSchedulerFilePath())) {
+            snapshotStorage.saveScheduler(scheduler, filePath);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            return;
+        }
+
+        isDataKnown = false;
+        logger.fine("Writing new snapshot to " + filePath);
+        snapshotStorage.saveScheduler(scheduler);
+        Files.deleteIfExists(journalFilePath);
+        isDataKnown = true;
+    }
+
+    /**
+     * Folds the journal into a new snapshot, reading the current data back from the files.
+     */
+    private void compact() throws IOException {
+        ReadOnlyScheduler scheduler;
+        try {
+            scheduler = readScheduler(getSchedulerFilePath()).orElseGet(Scheduler::new);
+        } catch (DataConversionException e) {
+            throw new IOException("Could not read back the data to compact the journal: " + e.getMessage(), e);
+        }
+        logger.fine("Compacting journal into " + getSchedulerFilePath());
+        snapshotStorage.saveScheduler(scheduler);
+        Files.delete(journalFilePath);
+    }
+
+    private static void appendRecord(StringBuilder records, JsonAdaptedJournalRecord record) throws IOException {
+        records.append(JsonUtil.toCompactJsonString(record)).append(System.lineSeparator());
+    }
+}
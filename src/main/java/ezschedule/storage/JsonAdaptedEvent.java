@@ -56,7 +56,7 @@ public class JsonAdaptedEvent {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.of(name);
 
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName()));
@@ -64,7 +64,7 @@ public class JsonAdaptedEvent {
         if (!Date.isValidDate(date)) {
             throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
         }
-        final Date modelDate = new Date(date);
+        final Date modelDate = Date.of(date);
 
         if (startTime == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Time.class.getSimpleName()));
@@ -72,7 +72,7 @@ public class JsonAdaptedEvent {
         if (!Time.isValidTime(startTime)) {
             throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
         }
-        final Time modelStartTime = new Time(startTime);
+        final Time modelStartTime = Time.of(startTime);
 
         if (endTime == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Time.class.getSimpleName()));
@@ -80,7 +80,7 @@ public class JsonAdaptedEvent {
         if (!Time.isValidTime(endTime)) {
             throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
         }
-        final Time modelEndTime = new Time(endTime);
+        final Time modelEndTime = Time.of(endTime);
 
         return new Event(modelName, modelDate, modelStartTime, modelEndTime);
     }
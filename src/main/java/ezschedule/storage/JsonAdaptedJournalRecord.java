@@ -0,0 +1,121 @@
+package ezschedule.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import ezschedule.commons.exceptions.IllegalValueException;
+import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurringEvent;
+
+/**
+ * Jackson-friendly version of a single change recorded in the scheduler journal.
+ * A record adds or deletes either an event or a recurring event.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_DELETE = "delete";
+
+    public static final String MESSAGE_INVALID_OPERATION = "Journal operation should be either '"
+            + OPERATION_ADD + "' or '" + OPERATION_DELETE + "'";
+    public static final String MISSING_EVENT_MESSAGE = "Journal record's event is missing!";
+    public static final String MESSAGE_EXTRA_EVENT = "Journal record should not have both an event and a "
+            + "recurring event";
+
+    private final String operation;
+    private final JsonAdaptedEvent event;
+    private final JsonAdaptedRecurringEvent recurringEvent;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("operation") String operation,
+                                    @JsonProperty("event") JsonAdaptedEvent event,
+                                    @JsonProperty("recurringEvent") JsonAdaptedRecurringEvent recurringEvent) {
+        this.operation = operation;
+        this.event = event;
+        this.recurringEvent = recurringEvent;
+    }
+
+    /**
+     * Creates a record of {@code event} being added to the scheduler.
+     */
+    public static JsonAdaptedJournalRecord add(Event event) {
+        return new JsonAdaptedJournalRecord(OPERATION_ADD, new JsonAdaptedEvent(event), null);
+    }
+
+    /**
+     * Creates a record of {@code recurringEvent} being added to the scheduler.
+     */
+    public static JsonAdaptedJournalRecord add(RecurringEvent recurringEvent) {
+        return new JsonAdaptedJournalRecord(OPERATION_ADD, null, new JsonAdaptedRecurringEvent(recurringEvent));
+    }
+
+    /**
+     * Creates a record of {@code event} being deleted from the scheduler.
+     */
+    public static JsonAdaptedJournalRecord delete(Event event) {
+        return new JsonAdaptedJournalRecord(OPERATION_DELETE, new JsonAdaptedEvent(event), null);
+    }
+
+    /**
+     * Creates a record of {@code recurringEvent} being deleted from the scheduler.
+     */
+    public static JsonAdaptedJournalRecord delete(RecurringEvent recurringEvent) {
+        return new JsonAdaptedJournalRecord(OPERATION_DELETE, null, new JsonAdaptedRecurringEvent(recurringEvent));
+    }
+
+    /**
+     * Returns true if this record adds its event, or false if it deletes its event.
+     *
+     * @throws IllegalValueException if the operation is not recognised.
+     */
+    public boolean isAdd() throws IllegalValueException {
+        if (OPERATION_ADD.equals(operation)) {
+            return true;
+        }
+        if (OPERATION_DELETE.equals(operation)) {
+            return false;
+        }
+        throw new IllegalValueException(MESSAGE_INVALID_OPERATION);
+    }
+
+    /**
+     * Returns true if this record changes a recurring event rather than an event.
+     *
+     * @throws IllegalValueException if the record has both.
+     */
+    public boolean isOfRecurringEvent() throws IllegalValueException {
+        if (event != null && recurringEvent != null) {
+            throw new IllegalValueException(MESSAGE_EXTRA_EVENT);
+        }
+        return recurringEvent != null;
+    }
+
+    /**
+     * Converts the event of this record into the model's {@code Event} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the event.
+     */
+    public Event toModelEvent() throws IllegalValueException {
+        if (event == null) {
+            throw new IllegalValueException(MISSING_EVENT_MESSAGE);
+        }
+        return event.toModelType();
+    }
+
+    /**
+     * Converts the recurring event of this record into the model's {@code RecurringEvent} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the recurring event.
+     */
+    public RecurringEvent toModelRecurringEvent() throws IllegalValueException {
+        if (recurringEvent == null) {
+            throw new IllegalValueException(MISSING_EVENT_MESSAGE);
+        }
+        return recurringEvent.toModelType();
+    }
+}
@@ -0,0 +1,97 @@
+package ezschedule.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import ezschedule.commons.exceptions.IllegalValueException;
+import ezschedule.model.event.Date;
+import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurFactor;
+import ezschedule.model.event.RecurrenceRule;
+import ezschedule.model.event.RecurringEvent;
+
+/**
+ * Jackson-friendly version of {@link RecurringEvent}.
+ */
+public class JsonAdaptedRecurringEvent {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Recurring event's %s field is missing!";
+
+    private final JsonAdaptedEvent event;
+    private final String rule;
+    private final List<String> exceptions = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedRecurringEvent} with the given recurring event details.
+     * A recurring event written before rules were stored has a recur factor and an end date instead of a rule.
+     */
+    @JsonCreator
+    public JsonAdaptedRecurringEvent(@JsonProperty("event") JsonAdaptedEvent event,
+                                     @JsonProperty("rule") String rule,
+                                     @JsonProperty("factor") String factor,
+                                     @JsonProperty("endDate") String endDate,
+                                     @JsonProperty("exceptions") List<String> exceptions) {
+        this.event = event;
+        this.rule = rule != null ? rule : toRule(factor, endDate);
+        if (exceptions != null) {
+            this.exceptions.addAll(exceptions);
+        }
+    }
+
+    /**
+     * Converts a given {@code RecurringEvent} into this class for Jackson use.
+     */
+    public JsonAdaptedRecurringEvent(RecurringEvent source) {
+        event = new JsonAdaptedEvent(source.getEvent());
+        rule = source.getRule().toString();
+        source.getExceptions().stream().sorted().map(date -> date.date.toString()).forEach(exceptions::add);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted recurring event object into the model's {@code RecurringEvent} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted recurring event.
+     */
+    public RecurringEvent toModelType() throws IllegalValueException {
+        if (event == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Event.class.getSimpleName()));
+        }
+        final Event modelEvent = event.toModelType();
+
+        if (rule == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    RecurrenceRule.class.getSimpleName()));
+        }
+        if (!RecurrenceRule.isValidRule(rule)) {
+            throw new IllegalValueException(RecurrenceRule.MESSAGE_CONSTRAINTS);
+        }
+        final RecurrenceRule modelRule = new RecurrenceRule(rule);
+
+        final Set<Date> modelExceptions = new HashSet<>();
+        for (String exception : exceptions) {
+            if (exception == null || !Date.isValidDate(exception)) {
+                throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
+            }
+            modelExceptions.add(Date.of(exception));
+        }
+
+        return new RecurringEvent(modelEvent, modelRule, modelExceptions);
+    }
+
+    /**
+     * Returns the rule of a recurring event written with {@code factor} and {@code endDate}, or null if either is
+     * missing or invalid.
+     */
+    private static String toRule(String factor, String endDate) {
+        if (factor == null || !RecurFactor.isValidRecurFactor(factor) || endDate == null
+                || !Date.isValidDate(endDate)) {
+            return null;
+        }
+        return RecurrenceRule.of(new RecurFactor(factor)).withUntil(Date.of(endDate).date).toString();
+    }
+}
@@ -2,25 +2,46 @@ package ezschedule.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import ezschedule.commons.core.LogsCenter;
 import ezschedule.commons.exceptions.DataConversionException;
 import ezschedule.commons.exceptions.IllegalValueException;
-import ezschedule.commons.util.FileUtil;
 import ezschedule.commons.util.JsonUtil;
 import ezschedule.model.ReadOnlyScheduler;
+import ezschedule.model.Scheduler;
+import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurringEvent;
 
 /**
  * A class to access Scheduler data stored as a json file on the hard disk.
  */
 public class JsonSchedulerStorage implements SchedulerStorage {
 
+    public static final String MESSAGE_NOT_SCHEDULER = "Expected an object with an events list";
+    public static final String MESSAGE_NULL_EVENT = "Event %d is null";
+    public static final String MESSAGE_INVALID_EVENT = "Event %d: %s";
+    public static final String MESSAGE_INVALID_RECURRING_EVENT = "Recurring event %d: %s";
+
     private static final Logger logger = LogsCenter.getLogger(JsonSchedulerStorage.class);
 
+    private static final String FIELD_EVENTS = "events";
+    private static final String FIELD_RECURRING_EVENTS = "recurringEvents";
+
     private final Path filePath;
 
     public JsonSchedulerStorage(Path filePath) {
@@ -38,6 +59,7 @@ public class JsonSchedulerStorage implements SchedulerStorage {
 
     /**
      * Similar to {@link #readScheduler()}.
+     * The file is parsed as a stream, and each event is converted into the model as soon as it is read.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -45,20 +67,123 @@ public class JsonSchedulerStorage implements SchedulerStorage {
     public Optional<ReadOnlyScheduler> readScheduler(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableScheduler> jsonScheduler = JsonUtil.readJsonFile(
-            filePath, JsonSerializableScheduler.class);
-        if (!jsonScheduler.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonScheduler.get().toModelType());
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+             JsonParser parser = JsonUtil.createParser(in)) {
+            return Optional.of(readScheduler(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Reads a scheduler object from {@code parser}.
+     * Fields other than the events and recurring events lists are skipped. Files written before recurring events
+     * were stored have no recurring events list.
+     */
+    private static Scheduler readScheduler(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_SCHEDULER);
+        }
+
+        List<Event> events = null;
+        List<RecurringEvent> recurringEvents = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (FIELD_EVENTS.equals(fieldName)) {
+                events = readEvents(parser);
+            } else if (FIELD_RECURRING_EVENTS.equals(fieldName)) {
+                recurringEvents = readRecurringEvents(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (events == null) {
+            throw new JsonParseException(parser, MESSAGE_NOT_SCHEDULER);
+        }
+
+        return JsonSerializableScheduler.toModelType(events, recurringEvents);
+    }
+
+    /**
+     * Reads the events array that {@code parser} is positioned at, converting each record as it is read.
+     *
+     * Duplicates are left for {@link JsonSerializableScheduler#toModelType(List, List)} to find.
+     *
+     * @throws IllegalValueException if a record violates the event constraints. The message gives the position of
+     *     the record in the array.
+     */
+    private static List<Event> readEvents(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, MESSAGE_NOT_SCHEDULER);
+        }
+
+        List<Event> events = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            int recordNumber = events.size() + 1;
+            JsonAdaptedEvent jsonAdaptedEvent = parser.readValueAs(JsonAdaptedEvent.class);
+            if (jsonAdaptedEvent == null) {
+                throw new JsonParseException(parser, String.format(MESSAGE_NULL_EVENT, recordNumber));
+            }
+
+            try {
+                events.add(jsonAdaptedEvent.toModelType());
+            } catch (IllegalValueException ive) {
+                throw new IllegalValueException(
+                        String.format(MESSAGE_INVALID_EVENT, recordNumber, ive.getMessage()), ive);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Reads the recurring events array that {@code parser} is positioned at.
+     * Recurring events are few, so the array is read whole.
+     *
+     * @throws IllegalValueException if a record violates the recurring event constraints or repeats an earlier
+     *     record. The message gives the position of the record in the array.
+     */
+    private static List<RecurringEvent> readRecurringEvents(JsonParser parser) throws IOException,
+            IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, MESSAGE_NOT_SCHEDULER);
+        }
+
+        List<RecurringEvent> recurringEvents = new ArrayList<>();
+        Set<RecurringEvent> readRecurringEvents = new HashSet<>();
+        JsonAdaptedRecurringEvent[] jsonAdaptedRecurringEvents = parser.readValueAs(JsonAdaptedRecurringEvent[].class);
+        for (int i = 0; i < jsonAdaptedRecurringEvents.length; i++) {
+            if (jsonAdaptedRecurringEvents[i] == null) {
+                throw new JsonParseException(parser, String.format(MESSAGE_NULL_EVENT, i + 1));
+            }
+
+            RecurringEvent recurringEvent;
+            try {
+                recurringEvent = jsonAdaptedRecurringEvents[i].toModelType();
+            } catch (IllegalValueException ive) {
+                throw new IllegalValueException(
+                        String.format(MESSAGE_INVALID_RECURRING_EVENT, i + 1, ive.getMessage()), ive);
+            }
+
+            if (!readRecurringEvents.add(recurringEvent)) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECURRING_EVENT, i + 1,
+                        JsonSerializableScheduler.MESSAGE_DUPLICATE_RECURRING_EVENT));
+            }
+            recurringEvents.add(recurringEvent);
+        }
+        return recurringEvents;
+    }
+
     @Override
     public void saveScheduler(ReadOnlyScheduler scheduler) throws IOException {
         saveScheduler(scheduler, filePath);
@@ -73,7 +198,6 @@ public class JsonSchedulerStorage implements SchedulerStorage {
         requireNonNull(scheduler);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableScheduler(scheduler), filePath);
     }
 }
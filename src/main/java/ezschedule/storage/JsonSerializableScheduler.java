@@ -4,32 +4,28 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import ezschedule.commons.exceptions.IllegalValueException;
 import ezschedule.model.ReadOnlyScheduler;
 import ezschedule.model.Scheduler;
 import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurringEvent;
+import ezschedule.model.event.exceptions.DuplicateEventException;
 
 /**
  * An Immutable Scheduler that is serializable to JSON format.
+ * Files are read back by {@link JsonSchedulerStorage} as a stream, not through this class.
  */
 @JsonRootName(value = "scheduler")
 class JsonSerializableScheduler {
 
     public static final String MESSAGE_DUPLICATE_EVENT = "Events list contains duplicate event(s).";
+    public static final String MESSAGE_DUPLICATE_RECURRING_EVENT =
+            "Recurring events list contains duplicate recurring event(s).";
 
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
-
-    /**
-     * Constructs a {@code JsonSerializableScheduler} with the given persons.
-     */
-    @JsonCreator
-    public JsonSerializableScheduler(@JsonProperty("events") List<JsonAdaptedEvent> events) {
-        this.events.addAll(events);
-    }
+    private final List<JsonAdaptedRecurringEvent> recurringEvents = new ArrayList<>();
 
     /**
      * Converts a given {@code ReadOnlyScheduler} into this class for Jackson use.
@@ -38,21 +34,31 @@ class JsonSerializableScheduler {
      */
     public JsonSerializableScheduler(ReadOnlyScheduler source) {
         events.addAll(source.getEventList().stream().map(JsonAdaptedEvent::new).collect(Collectors.toList()));
+        recurringEvents.addAll(source.getRecurringEventList().stream().map(JsonAdaptedRecurringEvent::new)
+                .collect(Collectors.toList()));
     }
 
     /**
-     * Converts this scheduler into the model's {@code Scheduler} object.
+     * Returns a scheduler of {@code events} and {@code recurringEvents}, as read by any of the storages.
+     * This is the one place where read events are checked for duplicates: {@code events} is sorted in place, so
+     * that duplicates sit next to each other, and is then packed into the scheduler without being copied.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if {@code events} contains duplicates, in which case the message names one of
+     *     them, or if {@code recurringEvents} contains duplicates.
      */
-    public Scheduler toModelType() throws IllegalValueException {
+    static Scheduler toModelType(List<Event> events, List<RecurringEvent> recurringEvents)
+            throws IllegalValueException {
         Scheduler scheduler = new Scheduler();
-        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
-            if (scheduler.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
-            }
-            scheduler.addEvent(event);
+        try {
+            scheduler.loadEvents(events);
+        } catch (DuplicateEventException dee) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT + dee.getDuplicate().map(Event::toString)
+                    .orElse(""));
+        }
+        try {
+            scheduler.setRecurringEvents(recurringEvents);
+        } catch (DuplicateEventException dee) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_RECURRING_EVENT);
         }
         return scheduler;
     }
@@ -0,0 +1,122 @@
+package ezschedule.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import ezschedule.commons.exceptions.DataConversionException;
+import ezschedule.model.ReadOnlyScheduler;
+
+/**
+ * Converts scheduler data files between storage formats.
+ * <p>
+ * Each format keeps its data in a file of its own. The json file is at the path in the user prefs, and the binary
+ * file is at {@link #getBinaryFilePath(Path)}, so that switching formats never reads one format as the other.
+ */
+public class SchedulerFileConverter {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+
+    /**
+     * Returns the path of the binary scheduler file kept instead of the json scheduler file at {@code jsonFilePath}.
+     * It has the same name, with a {@link #BINARY_FILE_EXTENSION} extension in place of any {@code .json} extension.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(BINARY_FILE_EXTENSION)) {
+            return jsonFilePath;
+        }
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+
+    /**
+     * Converts the scheduler in {@code source} into {@code target} if {@code source} was saved more recently than
+     * {@code target}, or {@code target} has no data file yet, so that the data is kept when the storage format is
+     * switched. A file counts as saved when it or the journal kept alongside it was last written.
+     * The data in {@code source} is left in place.
+     *
+     * @return true if the scheduler was converted.
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     */
+    public static boolean migrate(SchedulerStorage source, SchedulerStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        Optional<FileTime> sourceSaveTime = getLastSaveTime(source.getSchedulerFilePath());
+        Optional<FileTime> targetSaveTime = getLastSaveTime(target.getSchedulerFilePath());
+        if (!sourceSaveTime.isPresent()
+                || targetSaveTime.isPresent() && targetSaveTime.get().compareTo(sourceSaveTime.get()) >= 0) {
+            return false;
+        }
+
+        Optional<ReadOnlyScheduler> scheduler = source.readScheduler();
+        if (!scheduler.isPresent()) {
+            return false;
+        }
+        target.saveScheduler(scheduler.get());
+        return true;
+    }
+
+    /**
+     * Reads the scheduler from {@code source} and writes it to {@code target}.
+     *
+     * @throws NoSuchFileException     if {@code source} has no data to convert.
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     */
+    public static void convert(SchedulerStorage source, SchedulerStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyScheduler> scheduler = source.readScheduler();
+        if (!scheduler.isPresent()) {
+            throw new NoSuchFileException(source.getSchedulerFilePath().toString());
+        }
+        target.saveScheduler(scheduler.get());
+    }
+
+    /**
+     * Returns the time the data file at {@code filePath} or its journal was last written, or an empty
+     * {@code Optional} if the data file does not exist.
+     */
+    private static Optional<FileTime> getLastSaveTime(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        FileTime saveTime = Files.getLastModifiedTime(filePath);
+        Path journalFilePath = JournalingSchedulerStorage.getJournalFilePath(filePath);
+        if (Files.exists(journalFilePath) && Files.getLastModifiedTime(journalFilePath).compareTo(saveTime) > 0) {
+            saveTime = Files.getLastModifiedTime(journalFilePath);
+        }
+        return Optional.of(saveTime);
+    }
+
+    /**
+     * Converts the json scheduler file at {@code jsonFilePath} into a binary scheduler file at
+     * {@code binaryFilePath}.
+     */
+    public static void jsonToBinary(Path jsonFilePath, Path binaryFilePath)
+            throws DataConversionException, IOException {
+        convert(new JsonSchedulerStorage(jsonFilePath), new BinarySchedulerStorage(binaryFilePath));
+    }
+
+    /**
+     * Converts the binary scheduler file at {@code binaryFilePath} into a json scheduler file at
+     * {@code jsonFilePath}.
+     */
+    public static void binaryToJson(Path binaryFilePath, Path jsonFilePath)
+            throws DataConversionException, IOException {
+        convert(new BinarySchedulerStorage(binaryFilePath), new JsonSchedulerStorage(jsonFilePath));
+    }
+}
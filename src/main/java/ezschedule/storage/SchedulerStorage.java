@@ -2,11 +2,13 @@ package ezschedule.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import ezschedule.commons.exceptions.DataConversionException;
 import ezschedule.model.ReadOnlyScheduler;
 import ezschedule.model.Scheduler;
+import ezschedule.model.Transaction;
 
 /**
  * Represents a storage for {@link Scheduler}.
@@ -44,4 +46,24 @@ public interface SchedulerStorage {
      * @see #saveScheduler(ReadOnlyScheduler, Path) (ReadOnlyScheduler)
      */
     void saveScheduler(ReadOnlyScheduler scheduler, Path filePath) throws IOException;
+
+    /**
+     * Returns true if {@link #saveChanges(List)} can be used, which requires the storage to know that its data is
+     * the scheduler as last read or saved. Storages that only save whole schedulers always return false.
+     */
+    default boolean canSaveChanges() {
+        return false;
+    }
+
+    /**
+     * Saves {@code changes}, made in order to the scheduler as last read or saved, without writing the whole
+     * scheduler.
+     *
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     * @throws UnsupportedOperationException if {@link #canSaveChanges()} is false.
+     */
+    default void saveChanges(List<Transaction> changes) throws IOException {
+        throw new UnsupportedOperationException("This storage only saves whole schedulers.");
+    }
 }
@@ -2,6 +2,7 @@ package ezschedule.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -9,6 +10,7 @@ import ezschedule.commons.core.LogsCenter;
 import ezschedule.commons.exceptions.DataConversionException;
 import ezschedule.model.ReadOnlyScheduler;
 import ezschedule.model.ReadOnlyUserPrefs;
+import ezschedule.model.Transaction;
 import ezschedule.model.UserPrefs;
 
 /**
@@ -54,7 +56,8 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyScheduler> readScheduler() throws DataConversionException, IOException {
-        return readScheduler(schedulerStorage.getSchedulerFilePath());
+        logger.fine("Attempting to read data from file: " + getSchedulerFilePath());
+        return schedulerStorage.readScheduler();
     }
 
     @Override
@@ -65,7 +68,8 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveScheduler(ReadOnlyScheduler scheduler) throws IOException {
-        saveScheduler(scheduler, schedulerStorage.getSchedulerFilePath());
+        logger.fine("Attempting to write to data file: " + getSchedulerFilePath());
+        schedulerStorage.saveScheduler(scheduler);
     }
 
     @Override
@@ -73,4 +77,15 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         schedulerStorage.saveScheduler(scheduler, filePath);
     }
+
+    @Override
+    public boolean canSaveChanges() {
+        return schedulerStorage.canSaveChanges();
+    }
+
+    @Override
+    public void saveChanges(List<Transaction> changes) throws IOException {
+        logger.fine("Attempting to write changes to data file: " + getSchedulerFilePath());
+        schedulerStorage.saveChanges(changes);
+    }
 }
@@ -1,13 +1,17 @@
 package ezschedule.ui;
 
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurringEvent;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -25,7 +29,9 @@ public class Calendar extends UiPart<Region> {
     private static final String FXML = "Calendar.fxml";
 
     private final ObservableList<Event> eventList;
+    private final ObservableList<RecurringEvent> recurringEventList;
     private final ObservableList<Event> findEventList;
+    private final EventRangeQuery eventRangeQuery;
     private final FilterExecutor filterExecutor;
     private final ZonedDateTime today;
 
@@ -40,18 +46,23 @@ public class Calendar extends UiPart<Region> {
     private Text month;
 
     /**
-     * Creates a {@code Calendar} with the given {@code ObservableList} and {@code FilterExecutor}.
+     * Creates a {@code Calendar} with the given {@code ObservableList}s, {@code EventRangeQuery}
+     * and {@code FilterExecutor}.
      */
-    public Calendar(ObservableList<Event> eventList, ObservableList<Event> findEventList,
+    public Calendar(ObservableList<Event> eventList, ObservableList<RecurringEvent> recurringEventList,
+                    ObservableList<Event> findEventList, EventRangeQuery eventRangeQuery,
                     FilterExecutor filterExecutor) {
         super(FXML);
         this.eventList = eventList;
+        this.recurringEventList = recurringEventList;
         this.findEventList = findEventList;
+        this.eventRangeQuery = eventRangeQuery;
         this.filterExecutor = filterExecutor;
         date = ZonedDateTime.now();
         today = ZonedDateTime.now();
         monthMaxDate = date.getMonth().maxLength();
         eventList.addListener((ListChangeListener<Event>) c -> refreshCalendar());
+        recurringEventList.addListener((ListChangeListener<RecurringEvent>) c -> refreshCalendar());
         findEventList.addListener((ListChangeListener<Event>) c -> refreshCalendar());
         drawCalendar();
     }
@@ -100,32 +111,21 @@ public class Calendar extends UiPart<Region> {
     }
 
     private Map<Integer, List<Event>> getEventsForCurrentMonth() {
-        List<Event> eventsForCurrentMonth = new ArrayList<>();
-        eventList.forEach(e -> {
-            if (isInCurrentMonth(e)) {
-                eventsForCurrentMonth.add(e);
-            }
-        });
-        return getDateToEventMap(eventsForCurrentMonth);
+        LocalDate firstDate = LocalDate.of(date.getYear(), date.getMonthValue(), 1);
+        LocalDate lastDate = firstDate.plusMonths(1).minusDays(1);
+        return getDateToEventMap(eventRangeQuery.getEventsBetween(firstDate, lastDate));
     }
 
     private Map<Integer, List<Event>> getDateToEventMap(List<Event> eventsForCurrentMonth) {
         Map<Integer, List<Event>> dateToEventMap = new HashMap<>();
         for (Event e : eventsForCurrentMonth) {
-            int date = e.getDate().getDay();
-            if (!dateToEventMap.containsKey(date)) {
-                dateToEventMap.put(date, List.of(e));
-            } else {
-                List<Event> oldList = dateToEventMap.get(date);
-                List<Event> newList = new ArrayList<>(oldList);
-                newList.add(e);
-                dateToEventMap.put(date, newList);
-            }
+            dateToEventMap.computeIfAbsent(e.getDate().getDay(), unused -> new ArrayList<>()).add(e);
         }
         return dateToEventMap;
     }
 
     private void drawCalendarBoxes(Map<Integer, List<Event>> eventsForMonthMap) {
+        Set<Event> findEvents = new HashSet<>(findEventList);
         int dateOffset = ZonedDateTime.of(date.getYear(), date.getMonthValue(), 1, 0,
                 0, 0, 0, date.getZone()).getDayOfWeek().getValue() % 7;
         int rows = 6;
@@ -139,7 +139,7 @@ public class Calendar extends UiPart<Region> {
                     int currentDate = calculatedDate - dateOffset;
                     if (currentDate <= monthMaxDate) {
                         List<Event> eventsForCurrentDate = eventsForMonthMap.get(currentDate);
-                        drawOneFilledCalendarBox(currentDate, eventsForCurrentDate);
+                        drawOneFilledCalendarBox(currentDate, eventsForCurrentDate, findEvents);
                     }
                 } else {
                     drawOneEmptyCalendarBox();
@@ -148,9 +148,9 @@ public class Calendar extends UiPart<Region> {
         }
     }
 
-    private void drawOneFilledCalendarBox(int currentDate, List<Event> eventsForCurrentDate) {
+    private void drawOneFilledCalendarBox(int currentDate, List<Event> eventsForCurrentDate, Set<Event> findEvents) {
         String date = String.valueOf(currentDate);
-        boolean isFindCommand = isFindCommand(eventsForCurrentDate);
+        boolean isFindCommand = isFindCommand(eventsForCurrentDate, findEvents);
         calendar.getChildren().add(new CalendarBox(isFindCommand, isToday(currentDate),
                 date, eventsForCurrentDate, filterExecutor).getRoot());
     }
@@ -159,12 +159,6 @@ public class Calendar extends UiPart<Region> {
         calendar.getChildren().add(new CalendarBox().getRoot());
     }
 
-    private boolean isInCurrentMonth(Event event) {
-        int year = date.getYear();
-        int month = date.getMonth().getValue();
-        return event.getDate().getYear() == year && event.getDate().getMonth() == month;
-    }
-
     private boolean isToday(int currentDate) {
         return today.getYear() == date.getYear()
                 && today.getMonth() == date.getMonth()
@@ -181,9 +175,20 @@ public class Calendar extends UiPart<Region> {
         return date.getYear() % 4 == 0;
     }
 
-    private boolean isFindCommand(List<Event> eventsForCurrentDate) {
+    private boolean isFindCommand(List<Event> eventsForCurrentDate, Set<Event> findEvents) {
         return eventsForCurrentDate != null
-                && eventsForCurrentDate.stream().anyMatch(findEventList::contains);
+                && eventsForCurrentDate.stream().anyMatch(findEvents::contains);
+    }
+
+    /**
+     * Represents a function that returns the events in a range of dates.
+     */
+    @FunctionalInterface
+    public interface EventRangeQuery {
+        /**
+         * Returns the events from {@code startDate} to {@code endDate} inclusive, in chronological order.
+         */
+        List<Event> getEventsBetween(LocalDate startDate, LocalDate endDate);
     }
 
     /**
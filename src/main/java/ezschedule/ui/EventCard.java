@@ -1,8 +1,12 @@
 package ezschedule.ui;
 
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
 
 import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurringEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
@@ -17,6 +21,8 @@ public class EventCard extends UiPart<Region> {
 
     private static final String FXML = "EventListCard.fxml";
     private static final Image CHECK_MARK_IMAGE = new Image("/images/check-mark.png");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd MMM, yyyy");
+    private static final String RECURRENCE_FORMAT = "Recurs %s until %s";
 
     public final Event event;
 
@@ -36,21 +42,46 @@ public class EventCard extends UiPart<Region> {
     private Label completed;
     @FXML
     private ImageView checkMark;
+    @FXML
+    private Label recurrence;
 
     /**
      * Creates a {@code EventCode} with the given {@code Event} and index to display.
      */
     public EventCard(Event event, String displayedIndex) {
+        this(event, displayedIndex, Collections.emptyList());
+    }
+
+    /**
+     * Creates a {@code EventCode} with the given {@code Event}, the recurring events that repeat it, and index to
+     * display.
+     */
+    public EventCard(Event event, String displayedIndex, List<RecurringEvent> recurringEvents) {
         super(FXML);
         this.event = event;
 
         id.setText(displayedIndex + ". ");
         name.setText(event.getName().fullName);
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("dd MMM, yyyy");
-        date.setText(dateTimeFormatter.format(event.getDate().date));
+        date.setText(DATE_FORMATTER.format(event.getDate().date));
         startTime.setText(event.getStartTime().toString());
         endTime.setText(event.getEndTime().toString());
         setCompleted(event.isCompleted());
+        setRecurrence(recurringEvents);
+    }
+
+    private void setRecurrence(List<RecurringEvent> recurringEvents) {
+        if (recurringEvents.isEmpty()) {
+            return;
+        }
+
+        StringJoiner recurrences = new StringJoiner("\n");
+        for (RecurringEvent recurringEvent : recurringEvents) {
+            recurrences.add(String.format(RECURRENCE_FORMAT, recurringEvent.getRule(),
+                    DATE_FORMATTER.format(recurringEvent.getEndDate().date)));
+        }
+        recurrence.setText(recurrences.toString());
+        recurrence.setManaged(true);
+        recurrence.setVisible(true);
     }
 
     private void setCompleted(boolean isCompleted) {
@@ -1,9 +1,13 @@
 package ezschedule.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import ezschedule.commons.core.LogsCenter;
 import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurringEvent;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -18,16 +22,27 @@ public class EventListPanel extends UiPart<Region> {
     private static final String FXML = "EventListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(EventListPanel.class);
 
+    private final ObservableList<RecurringEvent> recurringEventList;
+
     @FXML
     private ListView<Event> eventListView;
 
     /**
-     * Creates a {@code EventListPanel} with the given {@code ObservableList}.
+     * Creates a {@code EventListPanel} with the given {@code ObservableList} of events, and of the recurring events
+     * that repeat them.
      */
-    public EventListPanel(ObservableList<Event> eventList) {
+    public EventListPanel(ObservableList<Event> eventList, ObservableList<RecurringEvent> recurringEventList) {
         super(FXML);
+        this.recurringEventList = recurringEventList;
         eventListView.setItems(eventList);
         eventListView.setCellFactory(listView -> new EventListPanel.EventListViewCell());
+        recurringEventList.addListener((ListChangeListener<RecurringEvent>) c -> eventListView.refresh());
+    }
+
+    private List<RecurringEvent> getRecurringEventsOf(Event event) {
+        return recurringEventList.stream()
+                .filter(recurringEvent -> recurringEvent.isRecurrenceOf(event))
+                .collect(Collectors.toList());
     }
 
     /**
@@ -43,7 +58,7 @@ public class EventListPanel extends UiPart<Region> {
                 setText(null);
             } else {
                 String displayNumber = String.format("%02d", getIndex() + 1);
-                setGraphic(new EventCard(event, displayNumber).getRoot());
+                setGraphic(new EventCard(event, displayNumber, getRecurringEventsOf(event)).getRoot());
             }
         }
     }
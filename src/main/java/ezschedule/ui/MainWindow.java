@@ -9,6 +9,10 @@ import ezschedule.logic.commands.CommandResult;
 import ezschedule.logic.commands.exceptions.CommandException;
 import ezschedule.logic.parser.exceptions.ParseException;
 import ezschedule.model.event.exceptions.InvalidDateException;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -17,6 +21,7 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 
 /**
  * The {@code MainWindow}. Provides the basic application layout containing
@@ -25,6 +30,7 @@ import javafx.stage.Stage;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final Duration UPCOMING_REFRESH_INTERVAL = Duration.minutes(1);
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -113,11 +119,12 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        eventListPanel = new EventListPanel(logic.getFilteredEventList());
+        eventListPanel = new EventListPanel(logic.getFilteredEventList(), logic.getRecurringEventList());
         eventListPanelPlaceholder.getChildren().add(eventListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getSchedulerFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -128,8 +135,14 @@ public class MainWindow extends UiPart<Stage> {
         showNextPanel = new ShowNextPanel(logic.getUpcomingEventList());
         showNextPlaceholder.getChildren().add(showNextPanel.getRoot());
 
-        Calendar calendar = new Calendar(logic.getEventList(),
-                logic.getFindEventList(), logic::updateFilteredEventList);
+        // Events become completed as time passes, without any command being executed
+        Timeline upcomingRefresher = new Timeline(
+                new KeyFrame(UPCOMING_REFRESH_INTERVAL, event -> logic.refreshUpcomingEventList()));
+        upcomingRefresher.setCycleCount(Animation.INDEFINITE);
+        upcomingRefresher.play();
+
+        Calendar calendar = new Calendar(logic.getEventList(), logic.getRecurringEventList(), logic.getFindEventList(),
+                logic::getEventsBetween, logic::updateFilteredEventList);
         calendarPlaceholder.getChildren().add(calendar.getRoot());
     }
 
@@ -14,6 +14,7 @@ import javafx.scene.layout.Region;
 public class ShowNextCard extends UiPart<Region> {
 
     private static final String FXML = "ShowNextCard.fxml";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd MMM, yyyy");
 
     public final Event event;
 
@@ -39,8 +40,7 @@ public class ShowNextCard extends UiPart<Region> {
 
         id.setText(displayedIndex + ". ");
         name.setText(event.getName().fullName);
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("dd MMM, yyyy");
-        date.setText(dateTimeFormatter.format(event.getDate().date));
+        date.setText(DATE_FORMATTER.format(event.getDate().date));
         startTime.setText(event.getStartTime().toString());
         endTime.setText(event.getEndTime().toString());
     }
@@ -1,13 +1,30 @@
 package ezschedule.commons.util;
 
 import static ezschedule.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    private static final String OLD_CONTENT = "{ \"events\" : [ ] }";
+
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -19,4 +36,119 @@ public class FileUtilTest {
         // null path -> throws NullPointerException
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
+
+    @Test
+    public void writeToFile_missingParentDirectory_createsFile() throws IOException {
+        Path file = testFolder.resolve("missing").resolve("data.json");
+
+        FileUtil.writeToFile(file, OLD_CONTENT);
+
+        assertEquals(OLD_CONTENT, FileUtil.readFromFile(file));
+        assertEquals(1, countFilesIn(file.getParent()));
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_replacesContent() throws IOException {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, OLD_CONTENT);
+        byte[] newContent = createContent(20_000);
+
+        FileUtil.writeToFileAtomically(file, out -> out.write(newContent));
+
+        assertEquals(new String(newContent, StandardCharsets.UTF_8), FileUtil.readFromFile(file));
+        assertEquals(1, countFilesIn(testFolder));
+    }
+
+    @Test
+    public void writeToFileAtomically_writeFailsAtAnyOffset_originalFileUnchanged() throws IOException {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, OLD_CONTENT);
+        byte[] newContent = createContent(20_000);
+
+        for (int failAt : getFailureOffsets(newContent.length)) {
+            assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out ->
+                    new FailingOutputStream(out, failAt).write(newContent)));
+
+            assertEquals(OLD_CONTENT, FileUtil.readFromFile(file), "Failure at byte " + failAt);
+            assertEquals(1, countFilesIn(testFolder), "Failure at byte " + failAt);
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_writerThrowsUncheckedException_originalFileUnchanged() throws IOException {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, OLD_CONTENT);
+
+        assertThrows(IllegalStateException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write(createContent(10_000));
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(OLD_CONTENT, FileUtil.readFromFile(file));
+        assertEquals(1, countFilesIn(testFolder));
+    }
+
+    @Test
+    public void writeToFileAtomically_tempFileLeftByCrash_replacesContent() throws IOException {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, OLD_CONTENT);
+        Files.write(testFolder.resolve("data.json.tmp"), createContent(30_000));
+
+        FileUtil.writeToFile(file, "new");
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(1, countFilesIn(testFolder));
+    }
+
+    /**
+     * Returns byte offsets to fail at, covering the start and end of the content, both sides of the write
+     * buffer boundary, and points spread across the rest of the content.
+     */
+    private static List<Integer> getFailureOffsets(int length) {
+        List<Integer> offsets = new ArrayList<>();
+        for (int offset = 0; offset < length; offset += 97) {
+            offsets.add(offset);
+        }
+        offsets.add(8191);
+        offsets.add(8192);
+        offsets.add(8193);
+        offsets.add(length - 1);
+        return offsets;
+    }
+
+    private static byte[] createContent(int length) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; content.length() < length; i++) {
+            content.append("{ \"name\" : \"Event ").append(i).append("\" },\n");
+        }
+        return content.substring(0, length).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long countFilesIn(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    /**
+     * An output stream that passes bytes through until {@code failAt} bytes have been written, then fails as a
+     * full disk would.
+     */
+    private static class FailingOutputStream extends FilterOutputStream {
+        private int remaining;
+
+        FailingOutputStream(OutputStream out, int failAt) {
+            super(out);
+            remaining = failAt;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (remaining == 0) {
+                throw new IOException("No space left on device");
+            }
+            remaining--;
+            out.write(b);
+        }
+    }
 }
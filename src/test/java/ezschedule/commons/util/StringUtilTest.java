@@ -1,15 +1,42 @@
 package ezschedule.commons.util;
 
 import static ezschedule.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
 public class StringUtilTest {
 
+    //---------------- Tests for parseDigits --------------------------------------
+
+    @Test
+    public void parseDigits_digits_value() {
+        assertEquals(2023, StringUtil.parseDigits("2023-05-01", 0, 4));
+        assertEquals(5, StringUtil.parseDigits("2023-05-01", 5, 7));
+        assertEquals(0, StringUtil.parseDigits("2023-05-01", 4, 4)); // empty range
+        assertEquals(999999999, StringUtil.parseDigits("999999999", 0, 9));
+    }
+
+    @Test
+    public void parseDigits_nonDigits_minusOne() {
+        assertEquals(-1, StringUtil.parseDigits("2023-05-01", 3, 6));
+        assertEquals(-1, StringUtil.parseDigits("+1", 0, 2));
+        assertEquals(-1, StringUtil.parseDigits(" 1", 0, 2));
+        assertEquals(-1, StringUtil.parseDigits("\u0661", 0, 1)); // non-ASCII digit
+    }
+
+    @Test
+    public void parseDigits_invalidRange_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> StringUtil.parseDigits("12", 0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> StringUtil.parseDigits("12", 2, 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.parseDigits(null, 0, 0));
+    }
+
     //---------------- Tests for isNonZeroUnsignedInteger --------------------------------------
 
     @Test
@@ -117,6 +144,16 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toLowerCaseWords --------------------------------------
+
+    @Test
+    public void toLowerCaseWords() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toLowerCaseWords(null));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.toLowerCaseWords(Arrays.asList("abc", "  ")));
+
+        assertEquals(Arrays.asList("abc", "ccc@1"), StringUtil.toLowerCaseWords(Arrays.asList("ABc", "  CCc@1 ")));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
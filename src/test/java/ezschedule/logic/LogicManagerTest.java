@@ -7,13 +7,21 @@ import static ezschedule.logic.commands.CommandTestUtil.NAME_DESC_A;
 import static ezschedule.logic.commands.CommandTestUtil.START_TIME_DESC_A;
 import static ezschedule.logic.commands.CommandTestUtil.VALID_DATE_A;
 import static ezschedule.logic.commands.CommandTestUtil.VALID_NAME_A;
+import static ezschedule.logic.parser.CliSyntax.PREFIX_DATE;
+import static ezschedule.logic.parser.CliSyntax.PREFIX_EVERY;
 import static ezschedule.testutil.Assert.assertThrows;
 import static ezschedule.testutil.TypicalEvents.EVENT_A;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,17 +32,21 @@ import ezschedule.logic.commands.AddCommand;
 import ezschedule.logic.commands.CommandResult;
 import ezschedule.logic.commands.FindCommand;
 import ezschedule.logic.commands.ListCommand;
+import ezschedule.logic.commands.RecurCommand;
 import ezschedule.logic.commands.exceptions.CommandException;
 import ezschedule.logic.parser.exceptions.ParseException;
 import ezschedule.model.Model;
 import ezschedule.model.ModelManager;
 import ezschedule.model.ReadOnlyScheduler;
+import ezschedule.model.Scheduler;
 import ezschedule.model.UserPrefs;
 import ezschedule.model.event.Date;
 import ezschedule.model.event.Event;
 import ezschedule.model.event.EventContainsKeywordsPredicate;
 import ezschedule.model.event.EventMatchesDatePredicate;
 import ezschedule.model.event.EventMatchesKeywordsAndDatePredicate;
+import ezschedule.storage.BackgroundSchedulerSaver;
+import ezschedule.storage.JournalingSchedulerStorage;
 import ezschedule.storage.JsonSchedulerStorage;
 import ezschedule.storage.JsonUserPrefsStorage;
 import ezschedule.storage.StorageManager;
@@ -77,22 +89,105 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void execute_storageThrowsIoException_reportsFailureAfterCommand() throws Exception {
         // Setup LogicManager with JsonSchedulerIoExceptionThrowingStub
         JsonSchedulerStorage schedulerStorage =
                 new JsonSchedulerIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionSchedule.json"));
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(schedulerStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        BackgroundSchedulerSaver saver = new BackgroundSchedulerSaver(storage, Duration.ZERO);
+        logic = new LogicManager(model, saver);
+        List<String> failures = new ArrayList<>();
+        logic.setSaveFailureHandler(failures::add);
 
-        // Execute add command
+        // Execute add command, the save fails in the background
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_A + DATE_DESC_A + START_TIME_DESC_A + END_TIME_DESC_A;
         Event expectedEvent = new EventBuilder(EVENT_A).build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addEvent(expectedEvent);
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        logic.execute(addCommand);
+        saver.flush();
+
+        // The failure is reported as soon as the save fails, and not again by the next command
+        assertEquals(List.of(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION), failures);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void flushScheduler_lastSaveFailed_savesWholeSchedulerAgain() throws Exception {
+        Path filePath = temporaryFolder.resolve("scheduler.json");
+        JsonSchedulerStorage schedulerStorage = new JsonSchedulerIoExceptionThrowingStub(filePath, 1);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(schedulerStorage, userPrefsStorage));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_A + DATE_DESC_A + START_TIME_DESC_A + END_TIME_DESC_A);
+        logic.flushScheduler();
+
+        ReadOnlyScheduler savedScheduler = new JsonSchedulerStorage(filePath).readScheduler().get();
+        assertEquals(model.getScheduler(), new Scheduler(savedScheduler));
+    }
+
+    @Test
+    public void execute_journalingStorage_savesOnlyChanges() throws Exception {
+        Path filePath = temporaryFolder.resolve("scheduler.json");
+        JournalingSchedulerStorage schedulerStorage = new JournalingSchedulerStorage(filePath);
+        schedulerStorage.saveScheduler(new Scheduler());
+        StorageManager storage = new StorageManager(schedulerStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        model = new ModelManager(storage.readScheduler().get(), new UserPrefs());
+        logic = new LogicManager(model, storage);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_A + DATE_DESC_A + START_TIME_DESC_A + END_TIME_DESC_A);
+        logic.flushScheduler();
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(1, Files.readAllLines(schedulerStorage.getJournalFilePath()).size());
+        ReadOnlyScheduler savedScheduler = new JournalingSchedulerStorage(filePath).readScheduler().get();
+        assertEquals(model.getScheduler(), new Scheduler(savedScheduler));
+    }
+
+    @Test
+    public void flushScheduler_storageThrowsIoException_throwsIoException() throws Exception {
+        JsonSchedulerStorage schedulerStorage =
+                new JsonSchedulerIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionSchedule.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(schedulerStorage, userPrefsStorage));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_A + DATE_DESC_A + START_TIME_DESC_A + END_TIME_DESC_A);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), logic::flushScheduler);
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flushScheduler();
+        assertFalse(Files.exists(temporaryFolder.resolve("scheduler.json")));
+    }
+
+    @Test
+    public void execute_modifyingCommand_savesOnFlush() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_A + DATE_DESC_A + START_TIME_DESC_A + END_TIME_DESC_A);
+        logic.flushScheduler();
+
+        ReadOnlyScheduler savedScheduler =
+                new JsonSchedulerStorage(temporaryFolder.resolve("scheduler.json")).readScheduler().get();
+        assertEquals(model.getScheduler(), new Scheduler(savedScheduler));
+    }
+
+    @Test
+    public void execute_recurCommand_savesRecurringEventOnFlush() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_A + DATE_DESC_A + START_TIME_DESC_A + END_TIME_DESC_A);
+        logic.flushScheduler();
+        logic.execute(RecurCommand.COMMAND_WORD + " 1 " + PREFIX_DATE + "2099-12-31 " + PREFIX_EVERY + "week");
+        logic.flushScheduler();
+
+        ReadOnlyScheduler savedScheduler =
+                new JsonSchedulerStorage(temporaryFolder.resolve("scheduler.json")).readScheduler().get();
+        assertEquals(1, savedScheduler.getRecurringEventList().size());
+        assertEquals(model.getScheduler(), new Scheduler(savedScheduler));
     }
 
     @Test
@@ -234,13 +329,24 @@ public class LogicManagerTest {
      * A stub class to throw an {@code IOException} when the save method is called.
      */
     private static class JsonSchedulerIoExceptionThrowingStub extends JsonSchedulerStorage {
+        private int failuresLeft;
+
         private JsonSchedulerIoExceptionThrowingStub(Path filePath) {
+            this(filePath, Integer.MAX_VALUE);
+        }
+
+        private JsonSchedulerIoExceptionThrowingStub(Path filePath, int failures) {
             super(filePath);
+            failuresLeft = failures;
         }
 
         @Override
         public void saveScheduler(ReadOnlyScheduler scheduler, Path filePath) throws IOException {
-            throw DUMMY_IO_EXCEPTION;
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveScheduler(scheduler, filePath);
         }
     }
 }
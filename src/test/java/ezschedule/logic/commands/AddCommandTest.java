@@ -7,8 +7,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,7 +24,10 @@ import ezschedule.model.Model;
 import ezschedule.model.ReadOnlyScheduler;
 import ezschedule.model.ReadOnlyUserPrefs;
 import ezschedule.model.Scheduler;
+import ezschedule.model.Transaction;
 import ezschedule.model.event.Event;
+import ezschedule.model.event.Name;
+import ezschedule.model.event.RecurringEvent;
 import ezschedule.testutil.EventBuilder;
 import javafx.collections.ObservableList;
 
@@ -152,43 +160,93 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public LocalDateTime getCurrentDateTime() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getEventsBetween(LocalDate startDate, LocalDate endDate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Name> getNamesContainingAny(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addEvent(Event event) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addEvents(List<Event> events) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteEvent(Event target) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteEvents(List<Event> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setEvent(Event target, Event editedEvent) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public ArrayList<Command> recentCommands() {
+        public List<Event> getClashes(List<Event> candidates, Event currentEvent) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getClashes(List<Event> candidates) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addRecurringEvent(RecurringEvent recurringEvent) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteRecurringEvent(RecurringEvent recurringEvent) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction(String description) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public ArrayList<Event> recentEvent() {
+        public void commitTransaction() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void addRecentEvent(Event event) {
+        public void rollbackTransaction() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void addRecentCommand(Command command) {
-            throw new AssertionError("This method should not be called");
+        public Optional<String> undo() {
+            throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void clearRecent() {
+        public Optional<String> redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<List<Transaction>> takeAppliedChanges() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -197,6 +255,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableList<RecurringEvent> getRecurringEventList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Event> getFilteredEventList() {
             throw new AssertionError("This method should not be called.");
@@ -218,7 +281,12 @@ public class AddCommandTest {
         }
 
         @Override
-        public void updateUpcomingEventList(Predicate<Event> predicate) {
+        public void updateUpcomingEventList(int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void refreshUpcomingEventList() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -257,8 +325,6 @@ public class AddCommandTest {
      */
     private class ModelStubAcceptingEventAdded extends ModelStub {
         final ArrayList<Event> eventsAdded = new ArrayList<>();
-        final ArrayList<Command> recentCommand = new ArrayList<>();
-        final ArrayList<Event> recentEvent = new ArrayList<>();
 
         @Override
         public boolean hasEvent(Event event) {
@@ -279,29 +345,11 @@ public class AddCommandTest {
         }
 
         @Override
-        public ArrayList<Command> recentCommands() {
-            return recentCommand;
-        }
-
-        @Override
-        public ArrayList<Event> recentEvent() {
-            return recentEvent;
-        }
-
-        @Override
-        public void clearRecent() {
-            recentCommand.clear();
-            recentEvent.clear();
-        }
-
-        @Override
-        public void addRecentCommand(Command command) {
-            recentCommand.add(command);
+        public void beginTransaction(String description) {
         }
 
         @Override
-        public void addRecentEvent(Event event) {
-            recentEvent.add(event);
+        public void commitTransaction() {
         }
 
         @Override
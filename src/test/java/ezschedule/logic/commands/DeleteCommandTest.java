@@ -1,8 +1,10 @@
 package ezschedule.logic.commands;
 
+import static ezschedule.logic.commands.CommandTestUtil.VALID_RECUR_FACTOR_WEEK;
 import static ezschedule.logic.commands.CommandTestUtil.assertCommandFailure;
 import static ezschedule.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static ezschedule.logic.commands.CommandTestUtil.showEventAtIndex;
+import static ezschedule.testutil.TypicalEvents.ART;
 import static ezschedule.testutil.TypicalEvents.getTypicalScheduler;
 import static ezschedule.testutil.TypicalIndexes.INDEX_FIRST_EVENT;
 import static ezschedule.testutil.TypicalIndexes.INDEX_SECOND_EVENT;
@@ -19,7 +21,10 @@ import ezschedule.commons.core.index.Index;
 import ezschedule.model.Model;
 import ezschedule.model.ModelManager;
 import ezschedule.model.UserPrefs;
+import ezschedule.model.event.Date;
 import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurFactor;
+import ezschedule.model.event.RecurringEvent;
 
 /**
  * Contains integration tests (interaction with the {@code Model}) and unit tests for {@code DeleteCommand}.
@@ -62,6 +67,46 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_repeatedIndexUnfilteredList_deletesEventOnce() {
+        List<Index> indexesToDelete = new ArrayList<>();
+        indexesToDelete.add(INDEX_FIRST_EVENT);
+        indexesToDelete.add(INDEX_FIRST_EVENT);
+        DeleteCommand deleteCommand = new DeleteCommand(indexesToDelete);
+
+        Event eventToDelete = model.getFilteredEventList().get(INDEX_FIRST_EVENT.getZeroBased());
+        String expectedMessage = DeleteCommand.MESSAGE_DELETE_EVENT_SUCCESS + eventToDelete.toString();
+
+        ModelManager expectedModel = new ModelManager(model.getScheduler(), new UserPrefs());
+        expectedModel.deleteEvent(eventToDelete);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_recurringEventUnfilteredList_deletesRecurringEventWithIt() {
+        RecurringEvent recurringEvent = new RecurringEvent(ART, new RecurFactor(VALID_RECUR_FACTOR_WEEK),
+                new Date("2023-06-01"));
+        model.addRecurringEvent(recurringEvent);
+        List<Index> indexToDelete = new ArrayList<>();
+        indexToDelete.add(INDEX_FIRST_EVENT);
+        DeleteCommand deleteCommand = new DeleteCommand(indexToDelete);
+
+        String expectedMessage = DeleteCommand.MESSAGE_DELETE_EVENT_SUCCESS + ART
+                + DeleteCommand.MESSAGE_DELETE_RECURRING_EVENT_SUCCESS + recurringEvent;
+
+        ModelManager expectedModel = new ModelManager(model.getScheduler(), new UserPrefs());
+        expectedModel.deleteEvent(ART);
+        expectedModel.deleteRecurringEvent(recurringEvent);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+
+        // undone together
+        model.undo();
+        assertTrue(model.hasEvent(ART));
+        assertTrue(model.getRecurringEventList().contains(recurringEvent));
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         List<Index> outOfBoundIndex = new ArrayList<>();
@@ -5,9 +5,11 @@ import static ezschedule.logic.commands.CommandTestUtil.EDIT_DESC_A;
 import static ezschedule.logic.commands.CommandTestUtil.EDIT_DESC_B;
 import static ezschedule.logic.commands.CommandTestUtil.VALID_DATE_B;
 import static ezschedule.logic.commands.CommandTestUtil.VALID_NAME_B;
+import static ezschedule.logic.commands.CommandTestUtil.VALID_RECUR_FACTOR_WEEK;
 import static ezschedule.logic.commands.CommandTestUtil.assertCommandFailure;
 import static ezschedule.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static ezschedule.logic.commands.CommandTestUtil.showEventAtIndex;
+import static ezschedule.testutil.TypicalEvents.ART;
 import static ezschedule.testutil.TypicalEvents.getTypicalScheduler;
 import static ezschedule.testutil.TypicalIndexes.INDEX_FIRST_EVENT;
 import static ezschedule.testutil.TypicalIndexes.INDEX_SECOND_EVENT;
@@ -23,7 +25,10 @@ import ezschedule.model.Model;
 import ezschedule.model.ModelManager;
 import ezschedule.model.Scheduler;
 import ezschedule.model.UserPrefs;
+import ezschedule.model.event.Date;
 import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurFactor;
+import ezschedule.model.event.RecurringEvent;
 import ezschedule.testutil.EditEventDescriptorBuilder;
 import ezschedule.testutil.EventBuilder;
 
@@ -135,6 +140,58 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, EditCommand.MESSAGE_EVENT_EXIST_AT_TIME);
     }
 
+    @Test
+    public void execute_recurringEventUnfilteredList_recurringEventRepeatsEditedEvent() {
+        RecurringEvent recurringEvent = new RecurringEvent(ART, new RecurFactor(VALID_RECUR_FACTOR_WEEK),
+                new Date("2023-06-01"));
+        model.addRecurringEvent(recurringEvent);
+        Event editedEvent = new EventBuilder(ART).withName(VALID_NAME_B).build();
+        EditEventDescriptor descriptor = new EditEventDescriptorBuilder().withName(VALID_NAME_B).build();
+        EditCommand editCommand = new EditCommand(INDEX_FIRST_EVENT, descriptor);
+
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_EVENT_SUCCESS, editedEvent);
+
+        Model expectedModel = new ModelManager(new Scheduler(model.getScheduler()), new UserPrefs());
+        expectedModel.setEvent(ART, editedEvent);
+        expectedModel.deleteRecurringEvent(recurringEvent);
+        expectedModel.addRecurringEvent(recurringEvent.withEvent(editedEvent));
+
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_moveOntoOwnOccurrence_success() {
+        // ART recurs weekly from 2023-05-01, 12:00 to 14:00, so it next occurs on 2023-05-08
+        RecurringEvent recurringEvent = new RecurringEvent(ART, new RecurFactor(VALID_RECUR_FACTOR_WEEK),
+                new Date("2023-06-01"));
+        model.addRecurringEvent(recurringEvent);
+        Event editedEvent = new EventBuilder(ART).withDate("2023-05-08").build();
+        EditEventDescriptor descriptor = new EditEventDescriptorBuilder().withDate("2023-05-08").build();
+        EditCommand editCommand = new EditCommand(INDEX_FIRST_EVENT, descriptor);
+
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_EVENT_SUCCESS, editedEvent);
+
+        Model expectedModel = new ModelManager(new Scheduler(model.getScheduler()), new UserPrefs());
+        expectedModel.setEvent(ART, editedEvent);
+        expectedModel.deleteRecurringEvent(recurringEvent);
+        expectedModel.addRecurringEvent(recurringEvent.withEvent(editedEvent));
+
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_recurringEventOccurrenceClashes_failure() {
+        // ART recurs weekly from 2023-05-01, 12:00 to 14:00, so it next occurs on 2023-05-08
+        model.addRecurringEvent(new RecurringEvent(ART, new RecurFactor(VALID_RECUR_FACTOR_WEEK),
+                new Date("2023-06-01")));
+        model.addEvent(new EventBuilder().withName("Concert").withDate("2023-05-08").withStartTime("15:00")
+                .withEndTime("16:00").build());
+        EditEventDescriptor descriptor = new EditEventDescriptorBuilder().withEndTime("16:00").build();
+        EditCommand editCommand = new EditCommand(INDEX_FIRST_EVENT, descriptor);
+
+        assertCommandFailure(editCommand, model, EditCommand.MESSAGE_OCCURRENCE_EXIST_AT_TIME);
+    }
+
     @Test
     public void execute_invalidEventIndexUnfilteredList_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredEventList().size() + 1);
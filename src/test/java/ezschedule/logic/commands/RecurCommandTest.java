@@ -7,6 +7,8 @@ import static ezschedule.logic.commands.CommandTestUtil.VALID_RECUR_FACTOR_MONTH
 import static ezschedule.logic.commands.CommandTestUtil.VALID_RECUR_FACTOR_WEEK;
 import static ezschedule.logic.commands.CommandTestUtil.assertCommandFailure;
 import static ezschedule.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static ezschedule.testutil.Assert.assertThrows;
+import static ezschedule.testutil.TypicalEvents.CLOCK_BEFORE_TYPICAL_EVENTS;
 import static ezschedule.testutil.TypicalEvents.getTypicalScheduler;
 import static ezschedule.testutil.TypicalIndexes.INDEX_FIRST_EVENT;
 import static ezschedule.testutil.TypicalIndexes.INDEX_SECOND_EVENT;
@@ -14,9 +16,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import ezschedule.commons.core.index.Index;
+import ezschedule.logic.commands.exceptions.CommandException;
 import ezschedule.model.Model;
 import ezschedule.model.ModelManager;
 import ezschedule.model.Scheduler;
@@ -24,12 +31,14 @@ import ezschedule.model.UserPrefs;
 import ezschedule.model.event.Date;
 import ezschedule.model.event.Event;
 import ezschedule.model.event.RecurFactor;
+import ezschedule.model.event.RecurrenceRule;
+import ezschedule.model.event.RecurringEvent;
 import ezschedule.testutil.EventBuilder;
 import ezschedule.testutil.TypicalEvents;
 
 public class RecurCommandTest {
 
-    private final Model model = new ModelManager(getTypicalScheduler(), new UserPrefs());
+    private final Model model = new ModelManager(getTypicalScheduler(), new UserPrefs(), CLOCK_BEFORE_TYPICAL_EVENTS);
 
     private final Index targetIndexDay = INDEX_FIRST_EVENT;
     private final Date endDateDay = new Date("2023-05-15"); // recur till 2023-05-15
@@ -58,99 +67,98 @@ public class RecurCommandTest {
         Event eventToRecur = TypicalEvents.ART; // event date = 2023-05-01
 
         String expectedMessage = String.format(RecurCommand.MESSAGE_SUCCESS, eventToRecur);
-        Model expectedModel = new ModelManager(new Scheduler(model.getScheduler()), new UserPrefs());
-
-        // 14 days to recur
-        for (int i = 0; i < 14; i++) {
-            Date newDate = new Date(eventToRecur.getDate().date.plusDays(1).toString());
-            eventToRecur =
-                    new Event(eventToRecur.getName(), newDate,
-                            eventToRecur.getStartTime(), eventToRecur.getEndTime());
-
-            expectedModel.addEvent(eventToRecur);
-        }
+        Model expectedModel = new ModelManager(new Scheduler(model.getScheduler()), new UserPrefs(),
+                CLOCK_BEFORE_TYPICAL_EVENTS);
+        expectedModel.addRecurringEvent(new RecurringEvent(eventToRecur, rfDay, endDateDay));
 
         assertCommandSuccess(validDailyRecurCommandStub, model, expectedMessage, expectedModel);
+        assertEquals(14, model.getRecurringEventList().get(0)
+                .getOccurrencesBetween(LocalDate.MIN, LocalDate.MAX).size());
     }
 
     @Test
     public void execute_withRecurFactorWeek_success() {
         Event eventToRecur = TypicalEvents.ART; // event date = 2023-05-01
         String expectedMessage = String.format(RecurCommand.MESSAGE_SUCCESS, eventToRecur);
-        Model expectedModel = new ModelManager(new Scheduler(model.getScheduler()), new UserPrefs());
-
-        // 30 weeks to recur
-        for (int i = 0; i < 30; i++) {
-            Date newDate = new Date(eventToRecur.getDate().date.plusWeeks(1).toString());
-            eventToRecur =
-                    new Event(eventToRecur.getName(), newDate,
-                            eventToRecur.getStartTime(), eventToRecur.getEndTime());
-
-            expectedModel.addEvent(eventToRecur);
-        }
+        Model expectedModel = new ModelManager(new Scheduler(model.getScheduler()), new UserPrefs(),
+                CLOCK_BEFORE_TYPICAL_EVENTS);
+        expectedModel.addRecurringEvent(new RecurringEvent(eventToRecur, rfWeek, endDateWeek));
 
         assertCommandSuccess(validWeeklyRecurCommandStub, model, expectedMessage, expectedModel);
+        assertEquals(30, model.getRecurringEventList().get(0)
+                .getOccurrencesBetween(LocalDate.MIN, LocalDate.MAX).size());
     }
 
     @Test
     public void execute_withRecurFactorMonth_success() {
         Event eventToRecur = TypicalEvents.ART; // event date = 2023-05-01
         String expectedMessage = String.format(RecurCommand.MESSAGE_SUCCESS, eventToRecur);
-        Model expectedModel = new ModelManager(new Scheduler(model.getScheduler()), new UserPrefs());
-
-        // 1 month to recur
-        for (int i = 0; i < 5; i++) {
-            Date newDate = new Date(eventToRecur.getDate().date.plusMonths(1).toString());
-            eventToRecur =
-                    new Event(eventToRecur.getName(), newDate,
-                            eventToRecur.getStartTime(), eventToRecur.getEndTime());
-
-            expectedModel.addEvent(eventToRecur);
-        }
+        Model expectedModel = new ModelManager(new Scheduler(model.getScheduler()), new UserPrefs(),
+                CLOCK_BEFORE_TYPICAL_EVENTS);
+        expectedModel.addRecurringEvent(new RecurringEvent(eventToRecur, rfMonth, endDateMonth));
 
         assertCommandSuccess(validMonthlyRecurCommandStub, model, expectedMessage, expectedModel);
+        assertEquals(5, model.getRecurringEventList().get(0)
+                .getOccurrencesBetween(LocalDate.MIN, LocalDate.MAX).size());
     }
 
     @Test
-    public void execute_withRecurFactorDayExceedLimit_failure() {
-
-        int maxDaysInMonth = 30;
-
-        Index targetIndex = INDEX_FIRST_EVENT;
-        Date endDate = new Date("2023-06-01"); // recur from 2023-05-01 till 2023-06-01
+    public void execute_withRecurFactorDayPastFormerLimit_success() {
+        Date endDate = new Date("2025-06-01"); // recur from 2023-05-01 till 2025-06-01
         RecurFactor rf = new RecurFactor(VALID_RECUR_FACTOR_DAY);
-        RecurCommand recurCommand = new RecurCommand(targetIndex, endDate, rf);
-
-        assertCommandFailure(recurCommand, model, String.format(
-                RecurCommand.MESSAGE_RECUR_FACTOR_CAP, rf, maxDaysInMonth, rf));
+        assertRecurSuccess(new RecurCommand(INDEX_FIRST_EVENT, endDate, rf), rf, endDate);
     }
 
     @Test
-    public void execute_withRecurFactorWeekExceedLimit_failure() {
-
-        int maxWeeksInYear = 52;
-
-        Index targetIndex = INDEX_FIRST_EVENT;
+    public void execute_withRecurFactorWeekPastFormerLimit_success() {
         Date endDate = new Date("2024-06-01"); // recur from 2023-05-01 till 2024-06-01
         RecurFactor rf = new RecurFactor(VALID_RECUR_FACTOR_WEEK);
-        RecurCommand recurCommand = new RecurCommand(targetIndex, endDate, rf);
+        assertRecurSuccess(new RecurCommand(INDEX_FIRST_EVENT, endDate, rf), rf, endDate);
+    }
 
-        assertCommandFailure(recurCommand, model, String.format(
-                RecurCommand.MESSAGE_RECUR_FACTOR_CAP, rf, maxWeeksInYear, rf));
+    @Test
+    public void execute_withRecurFactorMonthPastFormerLimit_success() {
+        Date endDate = new Date("2024-06-01"); // recur from 2023-05-01 till 2024-06-01
+        RecurFactor rf = new RecurFactor(VALID_RECUR_FACTOR_MONTH);
+        assertRecurSuccess(new RecurCommand(INDEX_FIRST_EVENT, endDate, rf), rf, endDate);
     }
 
     @Test
-    public void execute_withRecurFactorMonthExceedLimit_failure() {
+    public void execute_recurMonthlyOnMissingDay_skipsMonth() throws Exception {
+        Event endOfMonth = new EventBuilder().withName("Rent").withDate("2023-05-31").build();
+        model.addEvent(endOfMonth);
+        model.updateFilteredEventList(event -> event.equals(endOfMonth));
+        RecurCommand recurCommand = new RecurCommand(INDEX_FIRST_EVENT, new Date("2023-08-01"), rfMonth);
 
-        int maxMonthInYear = 12;
+        recurCommand.execute(model);
 
-        Index targetIndex = INDEX_FIRST_EVENT;
-        Date endDate = new Date("2024-06-01"); // recur from 2023-05-01 till 2024-06-01
-        RecurFactor rf = new RecurFactor(VALID_RECUR_FACTOR_MONTH);
-        RecurCommand recurCommand = new RecurCommand(targetIndex, endDate, rf);
+        RecurringEvent recurringEvent = model.getRecurringEventList().get(0);
+        assertEquals(List.of(new EventBuilder(endOfMonth).withDate("2023-07-31").build()),
+                recurringEvent.getOccurrencesBetween(LocalDate.parse("2023-06-01"), LocalDate.parse("2023-08-01")));
+    }
 
-        assertCommandFailure(recurCommand, model, String.format(
-                RecurCommand.MESSAGE_RECUR_FACTOR_CAP, rf, maxMonthInYear, rf));
+    @Test
+    public void execute_recurLastFridayOfMonth_success() throws Exception {
+        Event meeting = new EventBuilder().withName("Review").withDate("2023-05-26").build();
+        model.addEvent(meeting);
+        model.updateFilteredEventList(event -> event.equals(meeting));
+        RecurrenceRule rule = new RecurrenceRule("FREQ=MONTHLY;BYDAY=FR;BYSETPOS=-1");
+        RecurCommand recurCommand = new RecurCommand(INDEX_FIRST_EVENT, new Date("2023-08-31"), rule);
+
+        recurCommand.execute(model);
+
+        RecurringEvent recurringEvent = model.getRecurringEventList().get(0);
+        assertEquals(List.of(new EventBuilder(meeting).withDate("2023-06-30").build(),
+                new EventBuilder(meeting).withDate("2023-07-28").build(),
+                new EventBuilder(meeting).withDate("2023-08-25").build()),
+                recurringEvent.getOccurrencesBetween(LocalDate.parse("2023-05-27"), LocalDate.parse("2023-08-31")));
+    }
+
+    @Test
+    public void execute_recurTwice_failure() throws Exception {
+        validDailyRecurCommandStub.execute(model);
+
+        assertCommandFailure(validDailyRecurCommandStub, model, RecurCommand.MESSAGE_DUPLICATE_RECURRING_EVENT);
     }
 
     @Test
@@ -175,7 +183,8 @@ public class RecurCommandTest {
         model.addEvent(eat);
 
         assertCommandFailure(validDailyRecurCommandStub, model,
-                String.format(RecurCommand.MESSAGE_FAILURE_EVENT_CLASH, clashDate.getDay(), month));
+                String.format(RecurCommand.MESSAGE_FAILURE_EVENT_CLASH, String.format(RecurCommand.MESSAGE_CLASH_DATE,
+                        clashDate.getDay(), month, clashDate.date.getYear())));
     }
 
     @Test
@@ -190,7 +199,8 @@ public class RecurCommandTest {
         model.addEvent(eat);
 
         assertCommandFailure(validWeeklyRecurCommandStub, model,
-                String.format(RecurCommand.MESSAGE_FAILURE_EVENT_CLASH, clashDate.getDay(), month));
+                String.format(RecurCommand.MESSAGE_FAILURE_EVENT_CLASH, String.format(RecurCommand.MESSAGE_CLASH_DATE,
+                        clashDate.getDay(), month, clashDate.date.getYear())));
     }
 
     @Test
@@ -205,7 +215,35 @@ public class RecurCommandTest {
         model.addEvent(eat);
 
         assertCommandFailure(validMonthlyRecurCommandStub, model,
-                String.format(RecurCommand.MESSAGE_FAILURE_EVENT_CLASH, clashDate.getDay(), month));
+                String.format(RecurCommand.MESSAGE_FAILURE_EVENT_CLASH, String.format(RecurCommand.MESSAGE_CLASH_DATE,
+                        clashDate.getDay(), month, clashDate.date.getYear())));
+    }
+
+    @Test
+    public void execute_recurWithSeveralClashes_failureListsEveryClash() {
+        // ART is from 12:00 to 14:00 on 2023-05-01
+        model.addEvent(new EventBuilder().withName("Lunch").withDate("2023-05-03")
+                .withStartTime("13:00").withEndTime("14:00").build());
+        model.addEvent(new EventBuilder().withName("Lunch").withDate("2023-05-04")
+                .withStartTime("11:00").withEndTime("12:00").build());
+        model.addRecurringEvent(new RecurringEvent(new EventBuilder().withName("Meeting").withDate("2023-05-02")
+                .withStartTime("12:30").withEndTime("13:00").build(), new RecurFactor("week"), new Date("2023-05-31")));
+
+        assertCommandFailure(validDailyRecurCommandStub, model, String.format(RecurCommand.MESSAGE_FAILURE_EVENT_CLASH,
+                "3 May 2023, 9 May 2023"));
+    }
+
+    @Test
+    public void execute_recurWithClash_undoStateKept() throws Exception {
+        Event eat = new EventBuilder().withName("Eating contest")
+                .withDate("2023-05-05").withStartTime("12:00").withEndTime("13:00").build();
+        AddCommand addCommand = new AddCommand(eat);
+        addCommand.execute(model);
+
+        assertThrows(CommandException.class, () -> validDailyRecurCommandStub.execute(model));
+        assertTrue(model.getRecurringEventList().isEmpty());
+        assertEquals(Optional.of(AddCommand.COMMAND_WORD), model.undo());
+        assertFalse(model.hasEvent(eat));
     }
 
     @Test
@@ -289,7 +327,7 @@ public class RecurCommandTest {
         // same values -> returns true
         RecurCommand commandWithSameValues =
                 new RecurCommand(INDEX_FIRST_EVENT, standardCommand.getEndDate(),
-                        standardCommand.getFactor());
+                        RecurrenceRule.of(new RecurFactor(VALID_RECUR_FACTOR_DAY)));
         assertTrue(standardCommand.equals(commandWithSameValues));
 
         // same object -> returns true
@@ -313,4 +351,17 @@ public class RecurCommandTest {
         assertFalse(standardCommand.equals(new RecurCommand(INDEX_FIRST_EVENT, new Date(VALID_DATE_A),
                 new RecurFactor(VALID_RECUR_FACTOR_MONTH))));
     }
+
+    /**
+     * Executes {@code recurCommand} on the first event, and confirms that the recurring event was added.
+     */
+    private void assertRecurSuccess(RecurCommand recurCommand, RecurFactor factor, Date endDate) {
+        Event eventToRecur = model.getFilteredEventList().get(INDEX_FIRST_EVENT.getZeroBased());
+        String expectedMessage = String.format(RecurCommand.MESSAGE_SUCCESS, eventToRecur);
+        Model expectedModel = new ModelManager(new Scheduler(model.getScheduler()), new UserPrefs(),
+                CLOCK_BEFORE_TYPICAL_EVENTS);
+        expectedModel.addRecurringEvent(new RecurringEvent(eventToRecur, factor, endDate));
+
+        assertCommandSuccess(recurCommand, model, expectedMessage, expectedModel);
+    }
 }
@@ -0,0 +1,64 @@
+package ezschedule.logic.commands;
+
+import static ezschedule.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static ezschedule.testutil.Assert.assertThrows;
+import static ezschedule.testutil.TypicalEvents.getTypicalScheduler;
+import static ezschedule.testutil.TypicalIndexes.INDEX_FIRST_EVENT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import ezschedule.logic.commands.exceptions.CommandException;
+import ezschedule.model.Model;
+import ezschedule.model.ModelManager;
+import ezschedule.model.UserPrefs;
+import ezschedule.model.event.Event;
+import ezschedule.testutil.EventBuilder;
+
+public class RedoCommandTest {
+    private Model model = new ModelManager(getTypicalScheduler(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalScheduler(), new UserPrefs());
+
+    @Test
+    public void execute_redoUndoneCommand_success() throws CommandException {
+        Event validEvent = new EventBuilder().build();
+        new AddCommand(validEvent).execute(model);
+        new UndoCommand().execute(model);
+
+        expectedModel.addEvent(validEvent);
+        assertCommandSuccess(new RedoCommand(), model, String.format(RedoCommand.MESSAGE_REDONE_SUCCESS,
+                AddCommand.COMMAND_WORD), expectedModel);
+    }
+
+    @Test
+    public void execute_multipleRedoCommandsConsecutively_redoesEachAction() throws CommandException {
+        Event validEvent = new EventBuilder().build();
+        new AddCommand(validEvent).execute(model);
+        new DeleteCommand(new ArrayList<>(List.of(INDEX_FIRST_EVENT))).execute(model);
+        new UndoCommand().execute(model);
+        new UndoCommand().execute(model);
+
+        Command redoCommand = new RedoCommand();
+        redoCommand.execute(model);
+        new AddCommand(validEvent).execute(expectedModel);
+        new DeleteCommand(new ArrayList<>(List.of(INDEX_FIRST_EVENT))).execute(expectedModel);
+        assertCommandSuccess(redoCommand, model, String.format(RedoCommand.MESSAGE_REDONE_SUCCESS,
+                DeleteCommand.COMMAND_WORD), expectedModel);
+        assertThrows(CommandException.class, RedoCommand.MESSAGE_REDO_ERROR, () -> redoCommand.execute(model));
+    }
+
+    @Test
+    public void execute_redoCommandAtStart_failure() {
+        assertThrows(CommandException.class, RedoCommand.MESSAGE_REDO_ERROR, () -> new RedoCommand().execute(model));
+    }
+
+    @Test
+    public void execute_redoCommandAfterNewCommand_failure() throws CommandException {
+        new AddCommand(new EventBuilder().build()).execute(model);
+        new UndoCommand().execute(model);
+        new DeleteCommand(new ArrayList<>(List.of(INDEX_FIRST_EVENT))).execute(model);
+        assertThrows(CommandException.class, RedoCommand.MESSAGE_REDO_ERROR, () -> new RedoCommand().execute(model));
+    }
+}
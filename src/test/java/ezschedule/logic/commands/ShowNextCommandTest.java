@@ -2,6 +2,7 @@ package ezschedule.logic.commands;
 
 import static ezschedule.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static ezschedule.logic.commands.ShowNextCommand.SHOW_UPCOMING_COUNT_ONE;
+import static ezschedule.testutil.TypicalEvents.CLOCK_BEFORE_TYPICAL_EVENTS;
 import static ezschedule.testutil.TypicalEvents.getTypicalScheduler;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -13,22 +14,22 @@ import ezschedule.model.Model;
 import ezschedule.model.ModelManager;
 import ezschedule.model.Scheduler;
 import ezschedule.model.UserPrefs;
-import ezschedule.model.event.UpcomingEventPredicate;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ShowNextCommand.
  */
 public class ShowNextCommandTest {
 
-    private final Model model = new ModelManager(getTypicalScheduler(), new UserPrefs());
+    private final Model model = new ModelManager(getTypicalScheduler(), new UserPrefs(), CLOCK_BEFORE_TYPICAL_EVENTS);
 
     @Test
     public void execute_typicalSchedulerShowOne_listOneEvent() {
-        ShowNextCommand command = new ShowNextCommand(new UpcomingEventPredicate(SHOW_UPCOMING_COUNT_ONE));
+        ShowNextCommand command = new ShowNextCommand(SHOW_UPCOMING_COUNT_ONE);
 
         String expectedMessage = String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, SHOW_UPCOMING_COUNT_ONE);
-        Model expectedModel = new ModelManager(new Scheduler(model.getScheduler()), new UserPrefs());
-        expectedModel.updateUpcomingEventList(new UpcomingEventPredicate(SHOW_UPCOMING_COUNT_ONE));
+        Model expectedModel = new ModelManager(new Scheduler(model.getScheduler()), new UserPrefs(),
+                CLOCK_BEFORE_TYPICAL_EVENTS);
+        expectedModel.updateUpcomingEventList(SHOW_UPCOMING_COUNT_ONE);
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
@@ -36,11 +37,12 @@ public class ShowNextCommandTest {
     @Test
     public void execute_typicalSchedulerShowTwo_listTwoEvent() {
         final int count = 2;
-        ShowNextCommand command = new ShowNextCommand(new UpcomingEventPredicate(count));
+        ShowNextCommand command = new ShowNextCommand(count);
 
         String expectedMessage = String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, count);
-        Model expectedModel = new ModelManager(new Scheduler(model.getScheduler()), new UserPrefs());
-        expectedModel.updateUpcomingEventList(new UpcomingEventPredicate(count));
+        Model expectedModel = new ModelManager(new Scheduler(model.getScheduler()), new UserPrefs(),
+                CLOCK_BEFORE_TYPICAL_EVENTS);
+        expectedModel.updateUpcomingEventList(count);
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
@@ -51,22 +53,23 @@ public class ShowNextCommandTest {
         assert (getTypicalScheduler().getEventList().size() == 4);
 
         final int count = 500; // A large number ("many events") that exceeds the number of events in scheduler.
-        ShowNextCommand command = new ShowNextCommand(new UpcomingEventPredicate(count));
+        ShowNextCommand command = new ShowNextCommand(count);
 
         String expectedMessage = String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, 4);
-        Model expectedModel = new ModelManager(new Scheduler(model.getScheduler()), new UserPrefs());
-        expectedModel.updateUpcomingEventList(new UpcomingEventPredicate(count));
+        Model expectedModel = new ModelManager(new Scheduler(model.getScheduler()), new UserPrefs(),
+                CLOCK_BEFORE_TYPICAL_EVENTS);
+        expectedModel.updateUpcomingEventList(count);
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
     @Test
     public void equals() {
-        int predicateCount = 1;
-        ShowNextCommand standardCommand = new ShowNextCommand(new UpcomingEventPredicate(predicateCount));
+        int count = 1;
+        ShowNextCommand standardCommand = new ShowNextCommand(count);
 
         // same values -> returns true
-        ShowNextCommand commandWithSameValues = new ShowNextCommand(new UpcomingEventPredicate(predicateCount));
+        ShowNextCommand commandWithSameValues = new ShowNextCommand(count);
         assertTrue(standardCommand.equals(commandWithSameValues));
 
         // same object -> returns true
@@ -78,10 +81,9 @@ public class ShowNextCommandTest {
         // different types -> returns false
         assertFalse(standardCommand.equals(new ClearCommand()));
 
-        // different predicate count -> returns false
-        int differentPredicateCount = 2;
-        ShowNextCommand commandWithDifferentPredicate =
-                new ShowNextCommand(new UpcomingEventPredicate(differentPredicateCount));
-        assertFalse(standardCommand.equals(commandWithDifferentPredicate));
+        // different count -> returns false
+        int differentCount = 2;
+        ShowNextCommand commandWithDifferentCount = new ShowNextCommand(differentCount);
+        assertFalse(standardCommand.equals(commandWithDifferentCount));
     }
 }
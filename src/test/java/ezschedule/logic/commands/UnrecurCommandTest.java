@@ -0,0 +1,100 @@
+package ezschedule.logic.commands;
+
+import static ezschedule.logic.commands.CommandTestUtil.VALID_RECUR_FACTOR_DAY;
+import static ezschedule.logic.commands.CommandTestUtil.VALID_RECUR_FACTOR_WEEK;
+import static ezschedule.logic.commands.CommandTestUtil.assertCommandFailure;
+import static ezschedule.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static ezschedule.testutil.Assert.assertThrows;
+import static ezschedule.testutil.TypicalEvents.ART;
+import static ezschedule.testutil.TypicalEvents.getTypicalScheduler;
+import static ezschedule.testutil.TypicalIndexes.INDEX_FIRST_EVENT;
+import static ezschedule.testutil.TypicalIndexes.INDEX_SECOND_EVENT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import ezschedule.commons.core.Messages;
+import ezschedule.commons.core.index.Index;
+import ezschedule.model.Model;
+import ezschedule.model.ModelManager;
+import ezschedule.model.Scheduler;
+import ezschedule.model.UserPrefs;
+import ezschedule.model.event.Date;
+import ezschedule.model.event.RecurFactor;
+import ezschedule.model.event.RecurringEvent;
+
+/**
+ * Contains integration tests (interaction with the {@code Model}) and unit tests for {@code UnrecurCommand}.
+ */
+public class UnrecurCommandTest {
+
+    private final Model model = new ModelManager(getTypicalScheduler(), new UserPrefs());
+
+    private final RecurringEvent weeklyArt = new RecurringEvent(ART, new RecurFactor(VALID_RECUR_FACTOR_WEEK),
+            new Date("2023-06-01"));
+    private final RecurringEvent dailyArt = new RecurringEvent(ART, new RecurFactor(VALID_RECUR_FACTOR_DAY),
+            new Date("2023-05-05"));
+
+    @Test
+    public void constructor_nullIndex_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new UnrecurCommand(null));
+    }
+
+    @Test
+    public void execute_recurringEvent_success() {
+        model.addRecurringEvent(weeklyArt);
+        model.addRecurringEvent(dailyArt);
+        UnrecurCommand unrecurCommand = new UnrecurCommand(INDEX_FIRST_EVENT);
+
+        String expectedMessage = String.format(UnrecurCommand.MESSAGE_SUCCESS, ART);
+
+        // every recurring event of the event is deleted, but not the event itself
+        Model expectedModel = new ModelManager(new Scheduler(getTypicalScheduler()), new UserPrefs());
+
+        assertCommandSuccess(unrecurCommand, model, expectedMessage, expectedModel);
+        assertTrue(model.hasEvent(ART));
+
+        model.undo();
+        assertEquals(2, model.getRecurringEventList().size());
+    }
+
+    @Test
+    public void execute_eventNotRecurring_throwsCommandException() {
+        model.addRecurringEvent(weeklyArt);
+        UnrecurCommand unrecurCommand = new UnrecurCommand(INDEX_SECOND_EVENT);
+
+        assertCommandFailure(unrecurCommand, model, UnrecurCommand.MESSAGE_NOT_RECURRING);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredEventList().size() + 1);
+        UnrecurCommand unrecurCommand = new UnrecurCommand(outOfBoundIndex);
+
+        assertCommandFailure(unrecurCommand, model,
+                String.format(Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX, outOfBoundIndex.getOneBased()));
+    }
+
+    @Test
+    public void equals() {
+        UnrecurCommand unrecurFirstCommand = new UnrecurCommand(INDEX_FIRST_EVENT);
+        UnrecurCommand unrecurSecondCommand = new UnrecurCommand(INDEX_SECOND_EVENT);
+
+        // same object -> returns true
+        assertTrue(unrecurFirstCommand.equals(unrecurFirstCommand));
+
+        // same values -> returns true
+        assertTrue(unrecurFirstCommand.equals(new UnrecurCommand(INDEX_FIRST_EVENT)));
+
+        // different types -> returns false
+        assertFalse(unrecurFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(unrecurFirstCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(unrecurFirstCommand.equals(unrecurSecondCommand));
+    }
+}
@@ -22,6 +22,7 @@ import ezschedule.commons.core.index.Index;
 import ezschedule.logic.commands.RecurCommand;
 import ezschedule.model.event.Date;
 import ezschedule.model.event.RecurFactor;
+import ezschedule.model.event.RecurrenceRule;
 
 public class RecurCommandParserTest {
 
@@ -97,7 +98,15 @@ public class RecurCommandParserTest {
         assertParseFailure(parser, "1" + INVALID_DATE_DESC + RECUR_FACTOR_DESC_DAY, Date.MESSAGE_CONSTRAINTS);
 
         // invalid recur factor
-        assertParseFailure(parser, "1" + DATE_DESC_A + INVALID_RECUR_FACTOR, RecurFactor.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "1" + DATE_DESC_A + INVALID_RECUR_FACTOR, ParserUtil.MESSAGE_INVALID_RECURRENCE);
+
+        // invalid rule
+        assertParseFailure(parser, "1" + DATE_DESC_A + " " + PREFIX_EVERY + "FREQ=WEEKLY;BYMONTHDAY=1",
+                ParserUtil.MESSAGE_INVALID_RECURRENCE);
+
+        // rule with its own end
+        assertParseFailure(parser, "1" + DATE_DESC_A + " " + PREFIX_EVERY + "FREQ=DAILY;COUNT=3",
+                RecurCommand.MESSAGE_RULE_WITH_END);
     }
 
     @Test
@@ -112,4 +121,15 @@ public class RecurCommandParserTest {
 
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    public void parse_recurrenceRule_success() {
+        String userInput = INDEX_FIRST_EVENT.getOneBased() + DATE_DESC_A + " " + PREFIX_EVERY
+                + "freq=monthly;byday=mo,tu,we,th,fr;bysetpos=-1";
+
+        RecurCommand expectedCommand = new RecurCommand(INDEX_FIRST_EVENT, new Date(VALID_DATE_A),
+                new RecurrenceRule("FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1"));
+
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
 }
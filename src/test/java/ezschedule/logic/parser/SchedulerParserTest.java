@@ -23,7 +23,9 @@ import ezschedule.logic.commands.FindCommand;
 import ezschedule.logic.commands.FindCommand.FindEventDescriptor;
 import ezschedule.logic.commands.HelpCommand;
 import ezschedule.logic.commands.ListCommand;
+import ezschedule.logic.commands.RedoCommand;
 import ezschedule.logic.commands.ShowNextCommand;
+import ezschedule.logic.commands.UnrecurCommand;
 import ezschedule.logic.parser.exceptions.ParseException;
 import ezschedule.model.event.Event;
 import ezschedule.model.event.Name;
@@ -62,6 +64,13 @@ public class SchedulerParserTest {
         assertEquals(new DeleteCommand(indexFirstEvent), command);
     }
 
+    @Test
+    public void parseCommand_unrecur() throws Exception {
+        UnrecurCommand command = (UnrecurCommand) parser.parseCommand(
+                UnrecurCommand.COMMAND_WORD + " " + INDEX_FIRST_EVENT.getOneBased());
+        assertEquals(new UnrecurCommand(INDEX_FIRST_EVENT), command);
+    }
+
     @Test
     public void parseCommand_edit() throws Exception {
         Event event = new EventBuilder().build();
@@ -113,6 +122,17 @@ public class SchedulerParserTest {
                 -> parser.parseCommand(ListCommand.COMMAND_WORD + " 3"));
     }
 
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseRedoCommand_withArguments_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, ()
+                -> parser.parseCommand(RedoCommand.COMMAND_WORD + " 3"));
+    }
+
     @Test
     public void parseCommand_showNext() throws Exception {
         assertTrue(parser.parseCommand(ShowNextCommand.COMMAND_WORD) instanceof ShowNextCommand);
@@ -8,7 +8,6 @@ import static ezschedule.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import org.junit.jupiter.api.Test;
 
 import ezschedule.logic.commands.ShowNextCommand;
-import ezschedule.model.event.UpcomingEventPredicate;
 
 /**
  * As we are only doing white-box testing, our test cases do not cover path variations
@@ -26,7 +25,7 @@ public class ShowNextCommandParserTest {
 
     @Test
     public void parse_noArgs_returnsShowNextCommandOneUpcoming() {
-        final ShowNextCommand expected = new ShowNextCommand(new UpcomingEventPredicate(SHOW_UPCOMING_COUNT_ONE));
+        final ShowNextCommand expected = new ShowNextCommand(SHOW_UPCOMING_COUNT_ONE);
 
         assertParseSuccess(parser, "", expected); // empty string
         assertParseSuccess(parser, " ", expected); // single space
@@ -35,11 +34,11 @@ public class ShowNextCommandParserTest {
 
     @Test
     public void parse_validArgs_returnsShowNextCommandArbitraryUpcoming() {
-        assertParseSuccess(parser, "5", new ShowNextCommand(new UpcomingEventPredicate(5)));
-        assertParseSuccess(parser, " 7 ", new ShowNextCommand(new UpcomingEventPredicate(7))); // extra spaces
-        assertParseSuccess(parser, " 33", new ShowNextCommand(new UpcomingEventPredicate(33))); // leading space
-        assertParseSuccess(parser, "55 ", new ShowNextCommand(new UpcomingEventPredicate(55))); // trailing space
-        assertParseSuccess(parser, "404", new ShowNextCommand(new UpcomingEventPredicate(404))); // large number
+        assertParseSuccess(parser, "5", new ShowNextCommand(5));
+        assertParseSuccess(parser, " 7 ", new ShowNextCommand(7)); // extra spaces
+        assertParseSuccess(parser, " 33", new ShowNextCommand(33)); // leading space
+        assertParseSuccess(parser, "55 ", new ShowNextCommand(55)); // trailing space
+        assertParseSuccess(parser, "404", new ShowNextCommand(404)); // large number
     }
 
     @Test
@@ -0,0 +1,27 @@
+package ezschedule.logic.parser;
+
+import static ezschedule.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static ezschedule.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static ezschedule.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static ezschedule.testutil.TypicalIndexes.INDEX_FIRST_EVENT;
+
+import org.junit.jupiter.api.Test;
+
+import ezschedule.logic.commands.UnrecurCommand;
+
+public class UnrecurCommandParserTest {
+
+    private final UnrecurCommandParser parser = new UnrecurCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsUnrecurCommand() {
+        assertParseSuccess(parser, "1", new UnrecurCommand(INDEX_FIRST_EVENT));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnrecurCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "1 2",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnrecurCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,98 @@
+package ezschedule.model;
+
+import static ezschedule.testutil.Assert.assertThrows;
+import static ezschedule.testutil.TypicalEvents.ART;
+import static ezschedule.testutil.TypicalEvents.BOAT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import ezschedule.model.event.Event;
+import ezschedule.testutil.EventBuilder;
+
+public class HistoryTest {
+
+    @Test
+    public void constructor_invalidDepth_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, History.MESSAGE_CONSTRAINTS, () -> new History(0));
+    }
+
+    @Test
+    public void markUndone_thenMarkRedone_changesMovedBetweenStacks() {
+        History history = new History(10);
+        Transaction first = change("first", ART);
+        Transaction second = change("second", BOAT);
+        history.record(first);
+        history.record(second);
+
+        assertSame(second, history.getUndoable().get());
+        history.markUndone();
+        assertSame(first, history.getUndoable().get());
+        assertSame(second, history.getRedoable().get());
+        history.markUndone();
+        assertEquals(Optional.empty(), history.getUndoable());
+
+        history.markRedone();
+        assertSame(first, history.getUndoable().get());
+        assertSame(second, history.getRedoable().get());
+
+        // recording a change forgets the undone changes
+        history.record(change("third", ART));
+        assertEquals(Optional.empty(), history.getRedoable());
+    }
+
+    @Test
+    public void record_thousandsOfChanges_onlyDepthKept() {
+        History history = new History(50);
+        for (int i = 0; i < 10_000; i++) {
+            history.record(change("add", ART));
+        }
+
+        int undoable = 0;
+        while (history.getUndoable().isPresent()) {
+            history.markUndone();
+            undoable++;
+        }
+        assertEquals(50, undoable);
+
+        history.setDepth(10);
+        assertTrue(history.getUndoable().isEmpty());
+        assertTrue(history.getRedoable().isPresent());
+    }
+
+    @Test
+    public void record_changesLargerThanMaxSize_oldestDropped() {
+        History history = new History(100);
+        List<Event> events = Collections.nCopies(History.MAX_SIZE / 2, ART);
+        Transaction first = new Transaction("clear");
+        first.removeEvents(events);
+        history.record(first);
+        Transaction second = new Transaction("clear");
+        second.removeEvents(events);
+        history.record(second);
+        history.record(change("add", BOAT));
+
+        // only the changes that fit in MAX_SIZE are kept
+        history.markUndone();
+        history.markUndone();
+        assertEquals(Optional.empty(), history.getUndoable());
+
+        // the latest change is kept however large it is
+        Transaction huge = new Transaction("clear");
+        huge.removeEvents(Collections.nCopies(History.MAX_SIZE + 1, BOAT));
+        history.record(huge);
+        assertSame(huge, history.getUndoable().get());
+    }
+
+    private static Transaction change(String description, Event event) {
+        Transaction change = new Transaction(description);
+        change.addEvents(List.of(new EventBuilder(event).build()));
+        return change;
+    }
+}
@@ -4,19 +4,37 @@ import static ezschedule.model.Model.PREDICATE_SHOW_ALL_EVENTS;
 import static ezschedule.testutil.Assert.assertThrows;
 import static ezschedule.testutil.TypicalEvents.ART;
 import static ezschedule.testutil.TypicalEvents.BOAT;
+import static ezschedule.testutil.TypicalEvents.CARNIVAL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import ezschedule.commons.core.GuiSettings;
+import ezschedule.model.event.Date;
+import ezschedule.model.event.Event;
 import ezschedule.model.event.EventContainsKeywordsPredicate;
+import ezschedule.model.event.RecurFactor;
+import ezschedule.model.event.RecurringEvent;
+import ezschedule.model.event.exceptions.DuplicateEventException;
+import ezschedule.testutil.EventBuilder;
 import ezschedule.testutil.SchedulerBuilder;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
 
 public class ModelManagerTest {
 
@@ -108,6 +126,223 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFindEventList().remove(0));
     }
 
+    @Test
+    public void getEventsBetween_nullDate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.getEventsBetween(null, LocalDate.MAX));
+    }
+
+    @Test
+    public void getEventsBetween_eventsInScheduler_eventsInRange() {
+        modelManager.addEvents(Arrays.asList(BOAT, ART));
+        assertEquals(Arrays.asList(ART, BOAT),
+                modelManager.getEventsBetween(LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 2)));
+        assertEquals(Arrays.asList(BOAT),
+                modelManager.getEventsBetween(LocalDate.of(2023, 5, 2), LocalDate.of(2023, 5, 31)));
+    }
+
+    @Test
+    public void getUpcomingEventList_fixedClock_eventsAfterClock() {
+        Clock clock = Clock.fixed(Instant.parse("2023-05-01T13:00:00Z"), ZoneOffset.UTC);
+        ModelManager modelManager = new ModelManager(new SchedulerBuilder().withEvent(ART).withEvent(BOAT).build(),
+                new UserPrefs(), clock);
+        assertEquals(LocalDateTime.of(2023, 5, 1, 13, 0), modelManager.getCurrentDateTime());
+
+        // ART is still running at 13:00
+        modelManager.updateUpcomingEventList(2);
+        assertEquals(Arrays.asList(ART, BOAT), modelManager.getUpcomingEventList());
+    }
+
+    @Test
+    public void addEvent_showingAllEvents_onlyAddedEventReported() {
+        modelManager.addEvent(ART);
+        List<String> filteredChanges = new ArrayList<>();
+        List<String> findChanges = new ArrayList<>();
+        modelManager.getFilteredEventList().addListener((ListChangeListener<Event>) c -> {
+            while (c.next()) {
+                filteredChanges.add(c.getRemovedSize() + ":" + c.getAddedSubList());
+            }
+        });
+        modelManager.getFindEventList().addListener((ListChangeListener<Event>) c -> findChanges.add(c.toString()));
+
+        modelManager.addEvent(BOAT);
+        modelManager.deleteEvent(ART);
+
+        assertEquals(Arrays.asList("0:" + Collections.singletonList(BOAT), "1:[]"), filteredChanges);
+        assertTrue(findChanges.isEmpty());
+    }
+
+    @Test
+    public void addEvent_upcomingEvents_refilteredOnlyWhenChanged() {
+        Event nextEvent = new EventBuilder(ART).withDate("2099-05-01").build();
+        Event laterEvent = new EventBuilder(BOAT).withDate("2099-06-01").build();
+        Event earlierEvent = new EventBuilder(BOAT).withDate("2099-04-01").build();
+        modelManager.updateUpcomingEventList(1);
+        modelManager.addEvent(nextEvent);
+        assertEquals(Collections.singletonList(nextEvent), modelManager.getUpcomingEventList());
+
+        List<Change<? extends Event>> changes = new ArrayList<>();
+        modelManager.getUpcomingEventList().addListener((ListChangeListener<Event>) changes::add);
+
+        // next upcoming event is unchanged
+        modelManager.addEvent(laterEvent);
+        assertTrue(changes.isEmpty());
+        assertEquals(Collections.singletonList(nextEvent), modelManager.getUpcomingEventList());
+
+        // an earlier event becomes the next upcoming event
+        modelManager.addEvent(earlierEvent);
+        assertEquals(1, changes.size());
+        assertEquals(Collections.singletonList(earlierEvent), modelManager.getUpcomingEventList());
+
+        // next upcoming event is deleted
+        modelManager.deleteEvent(earlierEvent);
+        assertEquals(Collections.singletonList(nextEvent), modelManager.getUpcomingEventList());
+    }
+
+    @Test
+    public void commitTransaction_stagedChanges_appliedAsSingleChange() {
+        modelManager.addEvent(ART);
+        List<Change<? extends Event>> changes = new ArrayList<>();
+        modelManager.getEventList().addListener((ListChangeListener<Event>) changes::add);
+        RecurringEvent weeklyArt = new RecurringEvent(ART, new RecurFactor("week"), new Date("2023-06-01"));
+
+        modelManager.beginTransaction("change");
+        modelManager.addEvent(BOAT);
+        modelManager.deleteEvent(ART);
+        modelManager.addRecurringEvent(weeklyArt);
+        // staged changes are not seen until the transaction is committed
+        assertTrue(modelManager.hasEvent(ART));
+        assertFalse(modelManager.hasEvent(BOAT));
+        assertTrue(changes.isEmpty());
+
+        modelManager.commitTransaction();
+        assertEquals(1, changes.size());
+        assertEquals(Collections.singletonList(BOAT), modelManager.getEventList());
+        assertEquals(Collections.singletonList(weeklyArt), modelManager.getRecurringEventList());
+
+        // the change is undone as a single change too
+        assertEquals(Optional.of("change"), modelManager.undo());
+        assertEquals(2, changes.size());
+        assertEquals(Collections.singletonList(ART), modelManager.getEventList());
+        assertTrue(modelManager.getRecurringEventList().isEmpty());
+    }
+
+    @Test
+    public void takeAppliedChanges_committedAndUndoneChanges_returnedInOrder() {
+        modelManager.beginTransaction("add");
+        modelManager.addEvent(ART);
+        modelManager.commitTransaction();
+        modelManager.undo();
+
+        List<Transaction> changes = modelManager.takeAppliedChanges().get();
+        assertEquals(2, changes.size());
+        assertEquals(Collections.singletonList(ART), changes.get(0).getEventsToAdd());
+        assertEquals(Collections.singletonList(ART), changes.get(1).getEventsToRemove());
+        assertEquals(Optional.of(Collections.emptyList()), modelManager.takeAppliedChanges());
+
+        // a change made outside of a transaction is not known
+        modelManager.addEvent(BOAT);
+        assertEquals(Optional.empty(), modelManager.takeAppliedChanges());
+        assertEquals(Optional.of(Collections.emptyList()), modelManager.takeAppliedChanges());
+    }
+
+    @Test
+    public void rollbackTransaction_stagedChanges_discarded() {
+        modelManager.addEvent(ART);
+        List<Change<? extends Event>> changes = new ArrayList<>();
+        modelManager.getEventList().addListener((ListChangeListener<Event>) changes::add);
+
+        modelManager.beginTransaction("add");
+        modelManager.addEvent(BOAT);
+        modelManager.rollbackTransaction();
+
+        assertTrue(changes.isEmpty());
+        assertEquals(Collections.singletonList(ART), modelManager.getEventList());
+        assertEquals(Optional.empty(), modelManager.undo());
+
+        // outside of a transaction, changes are applied at once
+        modelManager.rollbackTransaction();
+        modelManager.addEvent(BOAT);
+        assertTrue(modelManager.hasEvent(BOAT));
+    }
+
+    @Test
+    public void commitTransaction_invalidChange_nothingApplied() {
+        modelManager.addEvent(ART);
+
+        modelManager.beginTransaction("add");
+        modelManager.addEvent(BOAT);
+        modelManager.addEvent(ART);
+        assertThrows(DuplicateEventException.class, () -> modelManager.commitTransaction());
+
+        assertEquals(Collections.singletonList(ART), modelManager.getEventList());
+        assertEquals(Optional.empty(), modelManager.undo());
+
+        // the transaction is closed
+        assertThrows(IllegalStateException.class, () -> modelManager.commitTransaction());
+        modelManager.beginTransaction("add");
+        assertThrows(IllegalStateException.class, () -> modelManager.beginTransaction("add"));
+        assertThrows(IllegalStateException.class, () -> modelManager.undo());
+        assertThrows(IllegalStateException.class, () -> modelManager.redo());
+    }
+
+    @Test
+    public void undoRedo_multipleChanges_appliedInOrder() {
+        addInTransaction("add", ART);
+        modelManager.beginTransaction("edit");
+        modelManager.setEvent(ART, BOAT);
+        modelManager.commitTransaction();
+
+        assertEquals(Optional.of("edit"), modelManager.undo());
+        assertEquals(Collections.singletonList(ART), modelManager.getEventList());
+        assertEquals(Optional.of("add"), modelManager.undo());
+        assertTrue(modelManager.getEventList().isEmpty());
+        assertEquals(Optional.empty(), modelManager.undo());
+
+        assertEquals(Optional.of("add"), modelManager.redo());
+        assertEquals(Optional.of("edit"), modelManager.redo());
+        assertEquals(Collections.singletonList(BOAT), modelManager.getEventList());
+        assertEquals(Optional.empty(), modelManager.redo());
+
+        // a new change cannot be followed by redoing the changes undone before it
+        modelManager.undo();
+        addInTransaction("add", CARNIVAL);
+        assertEquals(Optional.empty(), modelManager.redo());
+        assertEquals(Arrays.asList(ART, CARNIVAL), modelManager.getEventList());
+    }
+
+    @Test
+    public void undo_moreChangesThanDepth_oldestChangesForgotten() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(2);
+        modelManager.setUserPrefs(userPrefs);
+
+        addInTransaction("add", ART);
+        addInTransaction("add", BOAT);
+        addInTransaction("add", CARNIVAL);
+
+        assertEquals(Optional.of("add"), modelManager.undo());
+        assertEquals(Optional.of("add"), modelManager.undo());
+        assertEquals(Optional.empty(), modelManager.undo());
+        assertEquals(Collections.singletonList(ART), modelManager.getEventList());
+    }
+
+    @Test
+    public void undo_changeOutsideTransaction_historyCleared() {
+        addInTransaction("add", ART);
+        modelManager.addEvent(BOAT);
+        assertEquals(Optional.empty(), modelManager.undo());
+
+        addInTransaction("add", CARNIVAL);
+        modelManager.setScheduler(new Scheduler());
+        assertEquals(Optional.empty(), modelManager.undo());
+    }
+
+    private void addInTransaction(String description, Event event) {
+        modelManager.beginTransaction(description);
+        modelManager.addEvent(event);
+        modelManager.commitTransaction();
+    }
+
     @Test
     public void equals() {
         Scheduler scheduler =
@@ -11,8 +11,12 @@ import static ezschedule.testutil.TypicalEvents.getTypicalScheduler;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -21,8 +25,12 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import ezschedule.model.event.Date;
 import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurFactor;
+import ezschedule.model.event.RecurringEvent;
 import ezschedule.model.event.exceptions.DuplicateEventException;
+import ezschedule.model.event.exceptions.EventNotFoundException;
 import ezschedule.testutil.EventBuilder;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -149,6 +157,98 @@ public class SchedulerTest {
     }
 
 
+    @Test
+    public void getEventsBetween_withRecurringEvent_includesOccurrences() {
+        Scheduler scheduler = getTypicalScheduler();
+        scheduler.addRecurringEvent(new RecurringEvent(ART, new RecurFactor("day"), new Date("2023-05-03")));
+
+        String[] expectedOrder = new String[]{
+                ART.getName().toString(), // occurrence on 2023-05-02
+                BOAT.getName().toString(),
+                ART.getName().toString(), // occurrence on 2023-05-03
+                CARNIVAL.getName().toString(),
+        };
+        assertArrayEquals(expectedOrder, getEventNameFrom(
+                scheduler.getEventsBetween(LocalDate.of(2023, 5, 2), LocalDate.of(2023, 5, 3))));
+    }
+
+    @Test
+    public void getUpcomingEvents_withRecurringEvent_includesOccurrences() {
+        Scheduler scheduler = getTypicalScheduler();
+        scheduler.addRecurringEvent(new RecurringEvent(ART, new RecurFactor("day"), new Date("2023-05-10")));
+
+        // ART on 2023-05-02 is completed, so the next occurrence is on 2023-05-03
+        List<Event> upcomingEvents = scheduler.getUpcomingEvents(LocalDateTime.of(2023, 5, 2, 15, 0), 3);
+        assertEquals(Arrays.asList(BOAT, new EventBuilder(ART).withDate("2023-05-03").build(), CARNIVAL),
+                upcomingEvents);
+    }
+
+    @Test
+    public void hasEventAtTime_occurrenceOfRecurringEvent_returnsTrue() {
+        scheduler.addRecurringEvent(new RecurringEvent(ART, new RecurFactor("week"), new Date("2023-06-01")));
+        assertTrue(scheduler.hasEventAtTime(null, new EventBuilder(ART).withName("Other")
+                .withDate("2023-05-15").build()));
+        assertFalse(scheduler.hasEventAtTime(null, new EventBuilder(ART).withName("Other")
+                .withDate("2023-05-16").build()));
+    }
+
+    @Test
+    public void getClashes() {
+        Scheduler scheduler = getTypicalScheduler();
+        List<Event> dailyArt = new RecurringEvent(ART, new RecurFactor("day"), new Date("2023-05-31"))
+                .getOccurrencesBetween(LocalDate.MIN, LocalDate.MAX);
+
+        // no clash
+        assertEquals(Collections.emptyList(), scheduler.getClashes(dailyArt));
+        assertEquals(Collections.emptyList(), scheduler.getClashes(Collections.emptyList()));
+
+        // clashes with events
+        scheduler.addEvent(new EventBuilder(ART).withName("Eat").withDate("2023-05-20").build());
+        scheduler.addEvent(new EventBuilder(ART).withName("Nap").withDate("2023-05-20").withStartTime("13:00")
+                .withEndTime("15:00").build());
+        scheduler.addEvent(new EventBuilder(ART).withName("Swim").withDate("2023-05-25").withStartTime("14:00")
+                .withEndTime("15:00").build());
+        scheduler.addEvent(new EventBuilder(ART).withName("Run").withDate("2023-05-30").withStartTime("10:00")
+                .withEndTime("12:30").build());
+        assertEquals(Arrays.asList(occurrenceOfArt("2023-05-20"), occurrenceOfArt("2023-05-30")),
+                scheduler.getClashes(dailyArt));
+
+        // clashes with the occurrences of a recurring event
+        scheduler.addRecurringEvent(new RecurringEvent(new EventBuilder(ART).withName("Weekly").build(),
+                new RecurFactor("week"), new Date("2023-05-20")));
+        assertEquals(Arrays.asList(occurrenceOfArt("2023-05-08"), occurrenceOfArt("2023-05-15"),
+                occurrenceOfArt("2023-05-20"), occurrenceOfArt("2023-05-30")), scheduler.getClashes(dailyArt));
+    }
+
+    @Test
+    public void getClashes_largeBatch_fastEnough() {
+        Scheduler scheduler = new Scheduler();
+        LocalDate firstDate = LocalDate.of(2023, 1, 1);
+        for (int i = 0; i < 20000; i++) {
+            scheduler.addEvent(new EventBuilder(ART).withName("Event " + i)
+                    .withDate(firstDate.plusDays(i / 2).toString()).withStartTime(i % 2 == 0 ? "08:00" : "18:00")
+                    .withEndTime(i % 2 == 0 ? "09:00" : "19:00").build());
+        }
+        List<Event> candidates = new RecurringEvent(new EventBuilder(ART).withDate("2022-12-31").build(),
+                new RecurFactor("day"), Date.of(firstDate.plusDays(10000))).getOccurrencesBetween(LocalDate.MIN,
+                LocalDate.MAX);
+
+        List<Event> clashes = assertTimeout(Duration.ofSeconds(2), () -> scheduler.getClashes(candidates));
+        assertEquals(Collections.emptyList(), clashes);
+    }
+
+    @Test
+    public void removeRecurringEvent_missing_throwsEventNotFoundException() {
+        assertThrows(EventNotFoundException.class, () -> scheduler.removeRecurringEvent(
+                new RecurringEvent(ART, new RecurFactor("week"), new Date("2023-06-01"))));
+    }
+
+    @Test
+    public void addRecurringEvent_duplicate_throwsDuplicateEventException() {
+        RecurringEvent recurringEvent = new RecurringEvent(ART, new RecurFactor("week"), new Date("2023-06-01"));
+        scheduler.addRecurringEvent(recurringEvent);
+        assertThrows(DuplicateEventException.class, () -> scheduler.addRecurringEvent(recurringEvent));
+    }
 
     /**
      * A stub ReadOnlyScheduler whose events list can violate interface constraints.
@@ -164,6 +264,11 @@ public class SchedulerTest {
         public ObservableList<Event> getEventList() {
             return events;
         }
+
+        @Override
+        public ObservableList<RecurringEvent> getRecurringEventList() {
+            return FXCollections.observableArrayList();
+        }
     }
 
     private static String[] getEventNameFrom(List<Event> events) {
@@ -178,4 +283,8 @@ public class SchedulerTest {
 
         return strArr;
     }
+
+    private static Event occurrenceOfArt(String date) {
+        return new EventBuilder(ART).withDate(date).build();
+    }
 }
@@ -17,4 +17,10 @@ public class UserPrefsTest {
         UserPrefs userPrefs = new UserPrefs();
         assertThrows(NullPointerException.class, () -> userPrefs.setSchedulerFilePath(null));
     }
+
+    @Test
+    public void setUndoHistoryDepth_nonPositiveDepth_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryDepth(0));
+    }
 }
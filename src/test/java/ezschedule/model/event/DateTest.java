@@ -6,9 +6,11 @@ import static ezschedule.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -18,7 +20,7 @@ public class DateTest {
 
     @Test
     public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Date(null));
+        assertThrows(NullPointerException.class, () -> new Date((String) null));
     }
 
     @Test
@@ -33,10 +35,40 @@ public class DateTest {
         assertThrows(InvalidDateException.class, () -> new Date(invalidDate));
     }
 
+    @Test
+    public void constructor_localDate() {
+        assertEquals(new Date("2023-07-02"), new Date(LocalDate.of(2023, 7, 2)));
+        assertThrows(IllegalArgumentException.class, () -> new Date(LocalDate.of(0, 1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> new Date(LocalDate.of(10000, 1, 1)));
+    }
+
+    @Test
+    public void of_sameDate_sameInstance() {
+        Date date = Date.of("2023-07-02");
+        assertEquals(new Date("2023-07-02"), date);
+        assertSame(date, Date.of(LocalDate.of(2023, 7, 2)));
+        assertSame(date, Date.ofEpochDay(LocalDate.of(2023, 7, 2).toEpochDay()));
+
+        // dates that share a cache slot replace each other
+        Date laterDate = Date.of(LocalDate.of(2023, 7, 2).plusDays(1024));
+        assertEquals(new Date(LocalDate.of(2023, 7, 2).plusDays(1024)), laterDate);
+        assertEquals(date, Date.of("2023-07-02"));
+    }
+
+    @Test
+    public void of_invalidDate_throwsException() {
+        assertThrows(NullPointerException.class, () -> Date.of((String) null));
+        assertThrows(NullPointerException.class, () -> Date.of((LocalDate) null));
+        assertThrows(IllegalArgumentException.class, () -> Date.of(""));
+        assertThrows(InvalidDateException.class, () -> Date.of("2023-02-31"));
+        assertThrows(IllegalArgumentException.class, () -> Date.of(LocalDate.of(10000, 1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> Date.ofEpochDay(LocalDate.of(0, 12, 31).toEpochDay()));
+    }
+
     @Test
     public void isValidDate() {
         // null date
-        assertThrows(NullPointerException.class, () -> Date.isValidDate(null));
+        assertThrows(NullPointerException.class, () -> Date.isValidDate((String) null));
 
         // invalid dates
         assertFalse(Date.isValidDate("")); // empty string
@@ -62,6 +94,54 @@ public class DateTest {
         assertTrue(Date.isValidDate("2023-07-31")); // days end at 31
     }
 
+    @Test
+    public void isValidDate_allMonthsAndDays_sameAsValidationRegex() {
+        for (String year : new String[] {"0000", "0001", "0999", "1000", "2023", "9999"}) {
+            for (int month = 0; month < 100; month++) {
+                for (int day = 0; day < 100; day++) {
+                    String test = String.format("%s-%02d-%02d", year, month, day);
+                    assertEquals(test.matches(Date.VALIDATION_REGEX), Date.isValidDate(test), test);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void isValidDate_mutatedDates_sameAsValidationRegex() {
+        Random random = new Random(0);
+        String characters = "0123456789-/: a";
+        for (int i = 0; i < 10000; i++) {
+            StringBuilder test = new StringBuilder("2023-07-02");
+            for (int j = random.nextInt(3); j >= 0; j--) {
+                int index = random.nextInt(test.length() + 1);
+                char c = characters.charAt(random.nextInt(characters.length()));
+                int mutation = random.nextInt(3);
+                if (mutation == 0 && index < test.length()) {
+                    test.setCharAt(index, c);
+                } else if (mutation == 1 && index < test.length()) {
+                    test.deleteCharAt(index);
+                } else {
+                    test.insert(index, c);
+                }
+            }
+            assertEquals(test.toString().matches(Date.VALIDATION_REGEX), Date.isValidDate(test.toString()),
+                    test.toString());
+        }
+    }
+
+    @Test
+    public void constructor_validDates_sameAsLocalDate() {
+        LocalDate date = LocalDate.of(2023, 1, 1);
+        for (int i = 0; i < 366; i++) {
+            assertEquals(date, new Date(date.toString()).date);
+            date = date.plusDays(1);
+        }
+        assertEquals(LocalDate.of(1, 1, 1), new Date("0001-01-01").date);
+        assertEquals(LocalDate.of(2024, 2, 29), new Date("2024-02-29").date);
+        assertThrows(InvalidDateException.class, () -> new Date("2023-02-29")); // not a leap year
+        assertThrows(InvalidDateException.class, () -> new Date("2023-04-31"));
+    }
+
     @Test
     public void getDaysBetween() {
         Date date = new Date("2023-07-02");
@@ -61,6 +61,18 @@ public class EventContainsKeywordsPredicateTest {
                 .withStartTime("18:00").withEndTime("20:00").build()));
     }
 
+    @Test
+    public void test_matchingNamesGiven_looksUpName() {
+        Name alice = Name.of("Alice Bob");
+        EventContainsKeywordsPredicate predicate =
+                new EventContainsKeywordsPredicate(Collections.singletonList("Alice"), Collections.singleton(alice));
+
+        assertTrue(predicate.test(new EventBuilder().withName("Alice Bob").build()));
+        // names not looked up do not match, even if they contain the keywords
+        assertFalse(predicate.test(new EventBuilder().withName("Alice Carol").build()));
+        assertFalse(predicate.test(new EventBuilder().withName("Carol").build()));
+    }
+
     @Test
     public void equals() {
         List<String> firstPredicateKeywordList = Collections.singletonList("first");
@@ -47,6 +47,17 @@ public class EventMatchesKeywordsAndDatePredicateTest {
         assertTrue(predicate.test(new EventBuilder().withName("Alice Bob").withDate(VALID_DATE_A).build()));
     }
 
+    @Test
+    public void test_matchingNamesGiven_onlyNamesLookedUpMatch() {
+        EventMatchesKeywordsAndDatePredicate predicate = new EventMatchesKeywordsAndDatePredicate(
+                Collections.singletonList("Alice"), Collections.singleton(Name.of("Alice Bob")),
+                new Date(VALID_DATE_A));
+
+        assertTrue(predicate.test(new EventBuilder().withName("Alice Bob").withDate(VALID_DATE_A).build()));
+        assertFalse(predicate.test(new EventBuilder().withName("Alice Carol").withDate(VALID_DATE_A).build()));
+        assertFalse(predicate.test(new EventBuilder().withName("Alice Bob").withDate(VALID_DATE_B).build()));
+    }
+
     @Test
     public void test_nameDoesNotContainKeywordsWithMatchingDate_returnsFalse() {
         // Zero keywords
@@ -12,11 +12,13 @@ import static ezschedule.testutil.Assert.assertThrows;
 import static ezschedule.testutil.TypicalEvents.ART;
 import static ezschedule.testutil.TypicalEvents.EVENT_A;
 import static ezschedule.testutil.TypicalEvents.EVENT_B;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 import org.junit.jupiter.api.Test;
@@ -42,6 +44,15 @@ public class EventTest {
         assertFalse(futureTodayEvent.isCompleted());
     }
 
+    @Test
+    public void isCompletedAt() {
+        // ART is on 2023-05-01 from 12:00 to 14:00
+        assertTrue(ART.isCompletedAt(LocalDateTime.of(2023, 5, 2, 0, 0)));
+        assertTrue(ART.isCompletedAt(LocalDateTime.of(2023, 5, 1, 14, 1)));
+        assertFalse(ART.isCompletedAt(LocalDateTime.of(2023, 5, 1, 14, 0)));
+        assertFalse(ART.isCompletedAt(LocalDateTime.of(2023, 4, 30, 23, 59)));
+    }
+
     @Test
     public void isEventOverlap() {
         Event event = new EventBuilder().build();
@@ -135,4 +146,10 @@ public class EventTest {
         assertThrows(IllegalArgumentException.class, () ->
                 new EventBuilder(EVENT_A).withStartTime(INVALID_END_TIME).build());
     }
+
+    @Test
+    public void hashCode_equalEvents_sameHashCode() {
+        Event aCopy = new EventBuilder(EVENT_A).build();
+        assertEquals(EVENT_A.hashCode(), aCopy.hashCode());
+    }
 }
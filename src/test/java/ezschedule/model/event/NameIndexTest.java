@@ -0,0 +1,77 @@
+package ezschedule.model.event;
+
+import static ezschedule.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class NameIndexTest {
+
+    private final NameIndex nameIndex = new NameIndex();
+
+    @Test
+    public void getNamesContaining_nullKeyword_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.getNamesContaining(null));
+    }
+
+    @Test
+    public void getNamesContaining_shortAndLongKeywords_matchingNames() {
+        Name art = new Name("Art class");
+        Name boat = new Name("Boat race");
+        Name drag = new Name("Drag Race 2");
+        nameIndex.add(art);
+        nameIndex.add(boat);
+        nameIndex.add(drag);
+
+        assertEquals(new HashSet<>(Arrays.asList(boat, drag)), nameIndex.getNamesContaining("race"));
+        assertEquals(new HashSet<>(Arrays.asList(art, boat, drag)), nameIndex.getNamesContaining("a"));
+        assertEquals(Collections.singleton(art), nameIndex.getNamesContaining("t cl"));
+        assertEquals(Collections.singleton(drag), nameIndex.getNamesContaining("race 2"));
+        assertTrue(nameIndex.getNamesContaining("races").isEmpty());
+        assertTrue(nameIndex.getNamesContaining("@").isEmpty());
+
+        nameIndex.remove(boat);
+        assertEquals(Collections.singleton(drag), nameIndex.getNamesContaining("race"));
+    }
+
+    @Test
+    public void getNamesContaining_randomNames_sameAsSearchingEachName() {
+        Random random = new Random(14);
+        List<Name> names = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Name name = new Name(randomWord(random, 1 + random.nextInt(6)) + " " + randomWord(random, 3));
+            if (!names.contains(name)) { // the index holds distinct names
+                names.add(name);
+                nameIndex.add(name);
+            }
+        }
+        for (int i = 0; i < 100; i++) {
+            nameIndex.remove(names.remove(random.nextInt(names.size())));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String keyword = randomWord(random, 1 + random.nextInt(5));
+            Set<Name> expected = names.stream().filter(name -> name.containsIgnoreCase(keyword))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, nameIndex.getNamesContaining(keyword), keyword);
+        }
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}
@@ -3,9 +3,13 @@ package ezschedule.model.event;
 import static ezschedule.logic.commands.CommandTestUtil.VALID_NAME_A;
 import static ezschedule.logic.commands.CommandTestUtil.VALID_NAME_B;
 import static ezschedule.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -15,6 +19,24 @@ public class NameTest {
         assertThrows(NullPointerException.class, () -> new Name(null));
     }
 
+    @Test
+    public void isValidName_allShortStrings_sameAsValidationRegex() {
+        String characters = "aZ9 _\u00e9";
+        for (int length = 0; length <= 5; length++) {
+            char[] test = new char[length];
+            int combinations = (int) Math.pow(characters.length(), length);
+            for (int combination = 0; combination < combinations; combination++) {
+                int remaining = combination;
+                for (int i = 0; i < length; i++) {
+                    test[i] = characters.charAt(remaining % characters.length());
+                    remaining /= characters.length();
+                }
+                String name = new String(test);
+                assertEquals(name.matches(Name.VALIDATION_REGEX), Name.isValidName(name), name);
+            }
+        }
+    }
+
     @Test
     public void constructor_invalidName_throwsIllegalArgumentException() {
         String invalidName = "";
@@ -61,4 +83,28 @@ public class NameTest {
         // different name -> returns false
         assertFalse(nameA.equals(nameB));
     }
+
+    @Test
+    public void of_sameText_samePooledName() {
+        assertSame(Name.of(VALID_NAME_A), Name.of(new String(VALID_NAME_A)));
+        assertEquals(new Name(VALID_NAME_A), Name.of(VALID_NAME_A));
+        assertThrows(IllegalArgumentException.class, () -> Name.of("peter*"));
+        assertThrows(NullPointerException.class, () -> Name.of(null));
+    }
+
+    @Test
+    public void containsIgnoreCase() {
+        Name name = new Name("Basketball Court 2");
+
+        assertTrue(name.containsIgnoreCase("basketball"));
+        assertTrue(name.containsIgnoreCase("ball c"));
+        assertTrue(name.containsIgnoreCase("court 2"));
+        assertFalse(name.containsIgnoreCase("Court")); // keyword must already be in lower case
+        assertFalse(name.containsIgnoreCase("tennis"));
+    }
+
+    @Test
+    public void getLowerCaseWords() {
+        assertEquals(Arrays.asList("basketball", "court", "2"), new Name("Basketball  Court 2 ").getLowerCaseWords());
+    }
 }
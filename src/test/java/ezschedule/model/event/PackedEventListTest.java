@@ -0,0 +1,197 @@
+package ezschedule.model.event;
+
+import static ezschedule.testutil.Assert.assertThrows;
+import static ezschedule.testutil.TypicalEvents.ART;
+import static ezschedule.testutil.TypicalEvents.BOAT;
+import static ezschedule.testutil.TypicalEvents.CARNIVAL;
+import static ezschedule.testutil.TypicalEvents.DRAG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import ezschedule.testutil.EventBuilder;
+import javafx.collections.ListChangeListener;
+
+public class PackedEventListTest {
+
+    private final PackedEventList packedEventList = new PackedEventList();
+
+    @Test
+    public void get_storedEvent_equalEventDecoded() {
+        packedEventList.insert(0, ART);
+        assertEquals(ART, packedEventList.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> packedEventList.get(1));
+    }
+
+    @Test
+    public void get_unchangedSlot_sameEventReturned() {
+        packedEventList.replaceAll(Arrays.asList(ART, BOAT));
+        Event art = packedEventList.get(0);
+        assertSame(art, packedEventList.get(0));
+
+        // The slot now holds a different event, so the cached one is not returned
+        packedEventList.delete(0);
+        assertEquals(BOAT, packedEventList.get(0));
+        assertNotSame(art, packedEventList.get(0));
+        assertSame(packedEventList.get(0), packedEventList.get(0));
+    }
+
+    @Test
+    public void compareAtAndEqualsAt_matchEventComparison() {
+        packedEventList.replaceAll(Arrays.asList(ART, BOAT));
+        Event artRenamed = new EventBuilder(ART).withName("Other").build();
+        Event artLonger = new EventBuilder(ART).withEndTime("15:00").build();
+
+        assertEquals(0, packedEventList.compareAt(0, artRenamed));
+        assertTrue(packedEventList.compareAt(0, BOAT) < 0);
+        assertTrue(packedEventList.compareAt(1, ART) > 0);
+        assertTrue(packedEventList.equalsAt(0, ART));
+        assertFalse(packedEventList.equalsAt(0, artRenamed));
+        assertFalse(packedEventList.equalsAt(0, artLonger));
+    }
+
+    @Test
+    public void modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> packedEventList.add(ART));
+    }
+
+    @Test
+    public void replace_lastUseOfName_nameNoLongerReturned() {
+        packedEventList.insert(0, ART);
+        Event renamed = new EventBuilder(ART).withName("Renamed").build();
+        packedEventList.replace(0, renamed);
+        packedEventList.insert(1, BOAT);
+
+        assertEquals(Arrays.asList(renamed, BOAT), packedEventList);
+    }
+
+    @Test
+    public void modifications_reportedChangesReproduceList() {
+        List<Event> mirror = new ArrayList<>();
+        packedEventList.addListener((ListChangeListener<Event>) c -> {
+            while (c.next()) {
+                mirror.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                mirror.addAll(c.getFrom(), c.getAddedSubList());
+            }
+        });
+
+        packedEventList.replaceAll(Arrays.asList(ART, CARNIVAL));
+        assertEquals(packedEventList, mirror);
+        packedEventList.insertAllSorted(Arrays.asList(ART, BOAT, DRAG));
+        assertEquals(Arrays.asList(ART, ART, BOAT, CARNIVAL, DRAG), mirror);
+        packedEventList.deleteAll(new int[] {0, 2, 4});
+        assertEquals(Arrays.asList(ART, CARNIVAL), mirror);
+
+        Random random = new Random(12);
+        for (int i = 0; i < 500; i++) {
+            Event event = new EventBuilder().withName("Event " + random.nextInt(5))
+                    .withDate("2023-05-0" + (1 + random.nextInt(9))).build();
+            switch (random.nextInt(4)) {
+            case 0:
+                packedEventList.insert(random.nextInt(packedEventList.size() + 1), event);
+                break;
+            case 1:
+                if (!packedEventList.isEmpty()) {
+                    packedEventList.delete(random.nextInt(packedEventList.size()));
+                }
+                break;
+            case 2:
+                if (!packedEventList.isEmpty()) {
+                    packedEventList.replace(random.nextInt(packedEventList.size()), event);
+                }
+                break;
+            default:
+                int[] indexes = random.ints(3, 0, Math.max(1, packedEventList.size())).distinct().sorted()
+                        .filter(index -> index < packedEventList.size()).toArray();
+                packedEventList.deleteAll(indexes);
+                break;
+            }
+            assertEquals(packedEventList, mirror);
+        }
+
+        packedEventList.replaceAll(Collections.emptyList());
+        assertTrue(mirror.isEmpty());
+    }
+
+    @Test
+    public void modifications_boundsOnDayMatchEventsOnDay() {
+        Random random = new Random(7);
+        for (int i = 0; i < 500; i++) {
+            int index = packedEventList.isEmpty() ? 0 : random.nextInt(packedEventList.size());
+            Event event = new EventBuilder().withDate("2023-05-0" + (1 + random.nextInt(3)))
+                    .withStartTime(String.format("%02d:00", random.nextInt(24)))
+                    .withEndTime(String.format("%02d:30", random.nextInt(24))).build();
+            switch (random.nextInt(3)) {
+            case 0:
+                packedEventList.insert(packedEventList.isEmpty() ? 0 : index + random.nextInt(2), event);
+                break;
+            case 1:
+                if (!packedEventList.isEmpty()) {
+                    packedEventList.delete(index);
+                }
+                break;
+            default:
+                if (!packedEventList.isEmpty()) {
+                    packedEventList.replace(index, event);
+                }
+                break;
+            }
+
+            for (int j = 0; j < packedEventList.size(); j++) {
+                int latest = Integer.MIN_VALUE;
+                for (int k = j; k >= 0 && packedEventList.epochDayAt(k) == packedEventList.epochDayAt(j); k--) {
+                    latest = Math.max(latest, Math.max(packedEventList.startMinuteAt(k),
+                            packedEventList.endMinuteAt(k)));
+                }
+                int earliest = Integer.MAX_VALUE;
+                for (int k = j; k < packedEventList.size()
+                        && packedEventList.epochDayAt(k) == packedEventList.epochDayAt(j); k++) {
+                    earliest = Math.min(earliest, Math.min(packedEventList.startMinuteAt(k),
+                            packedEventList.endMinuteAt(k)));
+                }
+                assertEquals(latest, packedEventList.latestBoundOnDayUpTo(j));
+                assertEquals(earliest, packedEventList.earliestBoundOnDayFrom(j));
+            }
+        }
+    }
+
+    @Test
+    public void insertAllSorted_manyEvents_lessThanHalfTheHeapOfEvents() {
+        // Built with the same shared names, dates and times as events read from storage, so only the events
+        // themselves and the references to them are not shared
+        int count = 500_000;
+        long heapBefore = usedHeap();
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(new Event(Name.of("Event " + (i % 100)), Date.ofEpochDay(19_000 + i / 50),
+                    Time.ofMinuteOfDay(i % 50 * 20), Time.ofMinuteOfDay(i % 50 * 20 + 10)));
+        }
+        long heapOfEvents = usedHeap() - heapBefore;
+
+        packedEventList.insertAllSorted(events);
+        events = null;
+        long heapOfPackedEvents = usedHeap() - heapBefore;
+
+        assertEquals(count, packedEventList.size());
+        assertTrue(heapOfPackedEvents * 2 < heapOfEvents,
+                "packed: " + heapOfPackedEvents + " bytes, events: " + heapOfEvents + " bytes");
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,412 @@
+package ezschedule.model.event;
+
+import static ezschedule.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import org.junit.jupiter.api.Test;
+
+public class RecurrenceRuleTest {
+
+    private static final String[] DAY_CODES = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RecurrenceRule(null));
+    }
+
+    @Test
+    public void constructor_invalidRule_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RecurrenceRule("FREQ=HOURLY"));
+    }
+
+    @Test
+    public void isValidRule() {
+        // null rule
+        assertThrows(NullPointerException.class, () -> RecurrenceRule.isValidRule(null));
+
+        // invalid rules
+        assertFalse(RecurrenceRule.isValidRule("")); // empty string
+        assertFalse(RecurrenceRule.isValidRule("INTERVAL=2")); // no FREQ
+        assertFalse(RecurrenceRule.isValidRule("FREQ=HOURLY")); // unsupported FREQ
+        assertFalse(RecurrenceRule.isValidRule("FREQ=DAILY;FREQ=WEEKLY")); // repeated part
+        assertFalse(RecurrenceRule.isValidRule("FREQ=DAILY;WKST=MO")); // unsupported part
+        assertFalse(RecurrenceRule.isValidRule("FREQ=DAILY;")); // empty part
+        assertFalse(RecurrenceRule.isValidRule("FREQ=DAILY;INTERVAL=0")); // interval below 1
+        assertFalse(RecurrenceRule.isValidRule("FREQ=DAILY;COUNT=0")); // count below 1
+        assertFalse(RecurrenceRule.isValidRule("FREQ=DAILY;COUNT=3;UNTIL=20230601")); // both COUNT and UNTIL
+        assertFalse(RecurrenceRule.isValidRule("FREQ=DAILY;UNTIL=2023-06-01")); // not yyyyMMdd
+        assertFalse(RecurrenceRule.isValidRule("FREQ=DAILY;UNTIL=20230230")); // date does not exist
+        assertFalse(RecurrenceRule.isValidRule("FREQ=WEEKLY;BYDAY=XX")); // unknown day
+        assertFalse(RecurrenceRule.isValidRule("FREQ=WEEKLY;BYDAY=2MO")); // week number outside MONTHLY
+        assertFalse(RecurrenceRule.isValidRule("FREQ=MONTHLY;BYDAY=6MO")); // week number out of range
+        assertFalse(RecurrenceRule.isValidRule("FREQ=WEEKLY;BYMONTHDAY=1")); // BYMONTHDAY with WEEKLY
+        assertFalse(RecurrenceRule.isValidRule("FREQ=MONTHLY;BYMONTHDAY=0")); // day of month out of range
+        assertFalse(RecurrenceRule.isValidRule("FREQ=MONTHLY;BYMONTHDAY=32")); // day of month out of range
+        assertFalse(RecurrenceRule.isValidRule("FREQ=YEARLY;BYDAY=MO")); // BYxxx with YEARLY
+        assertFalse(RecurrenceRule.isValidRule("FREQ=MONTHLY;BYSETPOS=1")); // BYSETPOS alone
+
+        // valid rules
+        assertTrue(RecurrenceRule.isValidRule("FREQ=DAILY"));
+        assertTrue(RecurrenceRule.isValidRule("freq=weekly;byday=mo,we")); // lower case
+        assertTrue(RecurrenceRule.isValidRule("FREQ=DAILY;UNTIL=20230601T235959Z")); // date with time
+        assertTrue(RecurrenceRule.isValidRule("FREQ=MONTHLY;BYDAY=-1FR"));
+        assertTrue(RecurrenceRule.isValidRule("FREQ=MONTHLY;BYMONTHDAY=-1;INTERVAL=3;COUNT=10"));
+        assertTrue(RecurrenceRule.isValidRule("FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1"));
+        assertTrue(RecurrenceRule.isValidRule("FREQ=YEARLY;INTERVAL=4"));
+    }
+
+    @Test
+    public void toString_canonicalForm() {
+        assertEquals("FREQ=MONTHLY;INTERVAL=2;COUNT=5;BYDAY=-1FR,MO;BYSETPOS=1",
+                new RecurrenceRule("bysetpos=1;byday=MO,-1FR;count=5;interval=2;freq=monthly").toString());
+        assertEquals("FREQ=WEEKLY;UNTIL=20230601", new RecurrenceRule("FREQ=WEEKLY;UNTIL=20230601T120000").toString());
+        assertEquals("FREQ=DAILY", new RecurrenceRule("FREQ=DAILY;INTERVAL=1").toString());
+    }
+
+    @Test
+    public void equals() {
+        RecurrenceRule rule = new RecurrenceRule("FREQ=WEEKLY;BYDAY=MO,WE");
+
+        assertTrue(rule.equals(new RecurrenceRule("FREQ=WEEKLY;BYDAY=WE,MO;INTERVAL=1")));
+        assertTrue(rule.equals(rule));
+        assertFalse(rule.equals(null));
+        assertFalse(rule.equals("FREQ=WEEKLY;BYDAY=MO,WE"));
+        assertFalse(rule.equals(new RecurrenceRule("FREQ=WEEKLY;BYDAY=MO")));
+        assertFalse(rule.equals(rule.withUntil(LocalDate.of(2023, 6, 1))));
+    }
+
+    @Test
+    public void of_recurFactor() {
+        assertEquals(new RecurrenceRule("FREQ=DAILY"), RecurrenceRule.of(new RecurFactor("day")));
+        assertEquals(new RecurrenceRule("FREQ=WEEKLY"), RecurrenceRule.of(new RecurFactor("week")));
+        assertEquals(new RecurrenceRule("FREQ=MONTHLY"), RecurrenceRule.of(new RecurFactor("month")));
+    }
+
+    @Test
+    public void withUntil_ruleWithCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RecurrenceRule("FREQ=DAILY;COUNT=2")
+                .withUntil(LocalDate.of(2023, 6, 1)));
+    }
+
+    @Test
+    public void iterator_lastWeekdayOfMonth() {
+        assertEquals(dates("2023-05-01", "2023-05-31", "2023-06-30", "2023-07-31", "2023-08-31"),
+                expand("FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1;COUNT=5", "2023-05-01"));
+    }
+
+    @Test
+    public void iterator_secondMondayOfMonth() {
+        assertEquals(dates("2023-05-08", "2023-06-12", "2023-07-10"),
+                expand("FREQ=MONTHLY;BYDAY=2MO;UNTIL=20230801", "2023-05-08"));
+    }
+
+    @Test
+    public void iterator_lastDayOfEveryOtherMonth() {
+        assertEquals(dates("2023-01-31", "2023-03-31", "2023-05-31", "2023-07-31"),
+                expand("FREQ=MONTHLY;BYMONTHDAY=-1;INTERVAL=2;COUNT=4", "2023-01-31"));
+    }
+
+    @Test
+    public void iterator_weeklyOnSeveralDays() {
+        assertEquals(dates("2023-05-03", "2023-05-05", "2023-05-15", "2023-05-17", "2023-05-19"),
+                expand("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE,FR;COUNT=5", "2023-05-03"));
+    }
+
+    @Test
+    public void iterator_missingDaysSkipped() {
+        assertEquals(dates("2023-01-31", "2023-03-31", "2023-05-31"),
+                expand("FREQ=MONTHLY;UNTIL=20230630", "2023-01-31"));
+        assertEquals(dates("2024-02-29", "2028-02-29"), expand("FREQ=YEARLY;UNTIL=20300101", "2024-02-29"));
+    }
+
+    @Test
+    public void iterator_exceptionsCountTowardsCount() {
+        RecurrenceRule rule = new RecurrenceRule("FREQ=DAILY;COUNT=4");
+        LocalDate start = LocalDate.of(2023, 5, 1);
+        Set<Date> exceptions = Collections.singleton(new Date("2023-05-02"));
+
+        List<LocalDate> actual = new ArrayList<>();
+        rule.iterator(start, start, LocalDate.MAX, exceptions).forEachRemaining(actual::add);
+        assertEquals(dates("2023-05-01", "2023-05-03", "2023-05-04"), actual);
+    }
+
+    @Test
+    public void getEndDate() {
+        LocalDate start = LocalDate.of(2023, 5, 1);
+        assertEquals(LocalDate.of(2023, 5, 12),
+                new RecurrenceRule("FREQ=WEEKLY;BYDAY=MO,FR;COUNT=4").getEndDate(start));
+        assertEquals(LocalDate.of(2023, 6, 1), new RecurrenceRule("FREQ=DAILY;UNTIL=20230601").getEndDate(start));
+        assertEquals(LocalDate.of(9999, 12, 31), new RecurrenceRule("FREQ=DAILY").getEndDate(start));
+    }
+
+    @Test
+    public void iterator_randomRules_matchesReferenceExpansion() {
+        Random random = new Random(5545);
+        for (int i = 0; i < 500; i++) {
+            RuleSpec spec = RuleSpec.random(random);
+            RecurrenceRule rule = new RecurrenceRule(spec.toString());
+            LocalDate start = LocalDate.of(2020, 1, 1).plusDays(random.nextInt(1500));
+            LocalDate horizon = start.plusYears(6);
+            Set<Date> exceptions = new HashSet<>();
+            for (int j = random.nextInt(4); j > 0; j--) {
+                exceptions.add(Date.of(start.plusDays(random.nextInt(400))));
+            }
+
+            List<LocalDate> expected = spec.expand(start, horizon, exceptions);
+            String message = spec + " from " + start;
+            assertEquals(expected, toList(rule.iterator(start, start, horizon, exceptions)), message);
+
+            // Any window gives the occurrences of the whole series that fall in it
+            LocalDate from = start.plusDays(random.nextInt(1200) - 100);
+            LocalDate to = from.plusDays(random.nextInt(800));
+            List<LocalDate> expectedInWindow = new ArrayList<>();
+            for (LocalDate date : expected) {
+                if (!date.isBefore(from) && !date.isAfter(to)) {
+                    expectedInWindow.add(date);
+                }
+            }
+            assertEquals(expectedInWindow, toList(rule.iterator(start, from, to, exceptions)), message);
+        }
+    }
+
+    @Test
+    public void iterator_tenYearSeries_fastEnough() {
+        List<RecurrenceRule> rules = Arrays.asList(new RecurrenceRule("FREQ=DAILY"),
+                new RecurrenceRule("FREQ=WEEKLY;BYDAY=MO,WE,FR"),
+                new RecurrenceRule("FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1"),
+                new RecurrenceRule("FREQ=MONTHLY;BYMONTHDAY=1,15,-1"));
+        LocalDate start = LocalDate.of(2023, 1, 1);
+        LocalDate end = start.plusYears(10);
+
+        // About 3 million days are checked across the series, which takes well under a second
+        int occurrences = assertTimeout(Duration.ofSeconds(5), () -> {
+            int total = 0;
+            for (int i = 0; i < 200; i++) {
+                for (RecurrenceRule rule : rules) {
+                    for (Iterator<LocalDate> it = rule.iterator(start, start, end, Collections.emptySet());
+                            it.hasNext(); it.next()) {
+                        total++;
+                    }
+                }
+            }
+            return total;
+        });
+        assertEquals(200 * (3654 + 1567 + 121 + 361), occurrences);
+    }
+
+    private static List<LocalDate> expand(String rule, String start) {
+        LocalDate startDate = LocalDate.parse(start);
+        return toList(new RecurrenceRule(rule).iterator(startDate, startDate, LocalDate.MAX, Collections.emptySet()));
+    }
+
+    private static List<LocalDate> toList(Iterator<LocalDate> iterator) {
+        List<LocalDate> dates = new ArrayList<>();
+        iterator.forEachRemaining(dates::add);
+        return dates;
+    }
+
+    private static List<LocalDate> dates(String... dates) {
+        List<LocalDate> parsed = new ArrayList<>();
+        for (String date : dates) {
+            parsed.add(LocalDate.parse(date));
+        }
+        return parsed;
+    }
+
+    /**
+     * A randomly generated rule, with a straightforward expansion to check {@code RecurrenceRule} against.
+     */
+    private static class RuleSpec {
+        private static final String[] FREQUENCIES = {"DAILY", "WEEKLY", "MONTHLY", "YEARLY"};
+        private static final ChronoUnit[] UNITS = {ChronoUnit.DAYS, ChronoUnit.WEEKS, ChronoUnit.MONTHS,
+            ChronoUnit.YEARS};
+
+        private int frequency;
+        private int interval = 1;
+        private int count;
+        private LocalDate until;
+        private final List<int[]> byDay = new ArrayList<>(); // {week number, day of week value}
+        private final List<Integer> byMonthDay = new ArrayList<>();
+        private final List<Integer> bySetPos = new ArrayList<>();
+
+        static RuleSpec random(Random random) {
+            RuleSpec spec = new RuleSpec();
+            spec.frequency = random.nextInt(FREQUENCIES.length);
+            spec.interval = 1 + random.nextInt(3);
+            if (random.nextInt(3) == 0) {
+                spec.count = 1 + random.nextInt(40);
+            } else if (random.nextBoolean()) {
+                spec.until = LocalDate.of(2021, 1, 1).plusDays(random.nextInt(2000));
+            }
+
+            if (spec.frequency != 3 && random.nextBoolean()) {
+                for (int i = 1 + random.nextInt(3); i > 0; i--) {
+                    int weekNumber = spec.frequency == 2 && random.nextBoolean()
+                            ? (1 + random.nextInt(5)) * (random.nextBoolean() ? 1 : -1) : 0;
+                    int[] weekdayNum = {weekNumber, 1 + random.nextInt(7)};
+                    if (spec.byDay.stream().noneMatch(other -> Arrays.equals(other, weekdayNum))) {
+                        spec.byDay.add(weekdayNum);
+                    }
+                }
+            }
+            if ((spec.frequency == 0 || spec.frequency == 2) && random.nextInt(3) == 0) {
+                addDistinct(spec.byMonthDay, random, 1 + random.nextInt(3), 31);
+            }
+            if ((!spec.byDay.isEmpty() || !spec.byMonthDay.isEmpty()) && random.nextInt(3) == 0) {
+                addDistinct(spec.bySetPos, random, 1 + random.nextInt(2), 3);
+            }
+            return spec;
+        }
+
+        private static void addDistinct(List<Integer> values, Random random, int size, int max) {
+            for (int i = 0; i < size; i++) {
+                int value = (1 + random.nextInt(max)) * (random.nextBoolean() ? 1 : -1);
+                if (!values.contains(value)) {
+                    values.add(value);
+                }
+            }
+        }
+
+        /**
+         * Expands the rule from {@code start} up to {@code horizon}, collecting the days picked in each period before
+         * applying BYSETPOS, COUNT and UNTIL.
+         */
+        List<LocalDate> expand(LocalDate start, LocalDate horizon, Set<Date> exceptions) {
+            List<LocalDate> occurrences = new ArrayList<>();
+            occurrences.add(start);
+            LocalDate periodStart = getPeriodStart(start);
+            for (long period = 0; ; period++) {
+                LocalDate first = periodStart.plus(period * interval, UNITS[frequency]);
+                if (first.isAfter(horizon)) {
+                    break;
+                }
+                List<LocalDate> candidates = new ArrayList<>();
+                for (LocalDate date = first; date.isBefore(first.plus(1, UNITS[frequency])); date = date.plusDays(1)) {
+                    if (isCandidate(date, start)) {
+                        candidates.add(date);
+                    }
+                }
+                List<LocalDate> picked = new ArrayList<>();
+                for (int i = 0; i < candidates.size(); i++) {
+                    if (bySetPos.isEmpty() || bySetPos.contains(i + 1) || bySetPos.contains(i - candidates.size())) {
+                        picked.add(candidates.get(i));
+                    }
+                }
+                for (LocalDate date : picked) {
+                    if (date.isAfter(start)) {
+                        occurrences.add(date);
+                    }
+                }
+            }
+
+            if (count != 0 && occurrences.size() > count) {
+                occurrences = occurrences.subList(0, count);
+            }
+            List<LocalDate> result = new ArrayList<>();
+            for (LocalDate date : occurrences) {
+                if (!date.isAfter(horizon) && (until == null || !date.isAfter(until))
+                        && !exceptions.contains(Date.of(date))) {
+                    result.add(date);
+                }
+            }
+            return result;
+        }
+
+        private LocalDate getPeriodStart(LocalDate date) {
+            switch (frequency) {
+            case 1:
+                return date.minusDays(date.getDayOfWeek().getValue() - 1);
+            case 2:
+                return date.withDayOfMonth(1);
+            case 3:
+                return date.withDayOfYear(1);
+            default:
+                return date;
+            }
+        }
+
+        private boolean isCandidate(LocalDate date, LocalDate start) {
+            if (frequency == 3) {
+                return date.getMonthValue() == start.getMonthValue() && date.getDayOfMonth() == start.getDayOfMonth();
+            }
+            if (frequency == 2 && byDay.isEmpty() && byMonthDay.isEmpty()) {
+                return date.getDayOfMonth() == start.getDayOfMonth();
+            }
+            if (frequency == 1 && byDay.isEmpty()) {
+                return date.getDayOfWeek() == start.getDayOfWeek();
+            }
+
+            boolean dayMatches = byDay.isEmpty();
+            for (int[] weekdayNum : byDay) {
+                dayMatches |= date.getDayOfWeek() == DayOfWeek.of(weekdayNum[1])
+                        && (weekdayNum[0] == 0 || isNthWeekdayOfMonth(date, weekdayNum[0]));
+            }
+            boolean monthDayMatches = byMonthDay.isEmpty()
+                    || byMonthDay.contains(date.getDayOfMonth())
+                    || byMonthDay.contains(date.getDayOfMonth() - date.lengthOfMonth() - 1);
+            return dayMatches && monthDayMatches;
+        }
+
+        /**
+         * Returns true if {@code date} is the {@code n}th of its day of the week in its month, counting from the end
+         * if {@code n} is negative.
+         */
+        private static boolean isNthWeekdayOfMonth(LocalDate date, int n) {
+            List<LocalDate> sameWeekdays = new ArrayList<>();
+            for (LocalDate day = date.withDayOfMonth(1); day.getMonth() == date.getMonth(); day = day.plusDays(1)) {
+                if (day.getDayOfWeek() == date.getDayOfWeek()) {
+                    sameWeekdays.add(day);
+                }
+            }
+            int index = n > 0 ? n - 1 : sameWeekdays.size() + n;
+            return index >= 0 && index < sameWeekdays.size() && sameWeekdays.get(index).equals(date);
+        }
+
+        @Override
+        public String toString() {
+            StringJoiner joiner = new StringJoiner(";");
+            joiner.add("FREQ=" + FREQUENCIES[frequency]).add("INTERVAL=" + interval);
+            if (count != 0) {
+                joiner.add("COUNT=" + count);
+            }
+            if (until != null) {
+                joiner.add("UNTIL=" + until.toString().replace("-", ""));
+            }
+            if (!byDay.isEmpty()) {
+                StringJoiner days = new StringJoiner(",");
+                for (int[] weekdayNum : byDay) {
+                    days.add((weekdayNum[0] == 0 ? "" : String.valueOf(weekdayNum[0])) + DAY_CODES[weekdayNum[1] - 1]);
+                }
+                joiner.add("BYDAY=" + days);
+            }
+            addList(joiner, "BYMONTHDAY", byMonthDay);
+            addList(joiner, "BYSETPOS", bySetPos);
+            return joiner.toString();
+        }
+
+        private static void addList(StringJoiner joiner, String name, List<Integer> values) {
+            if (!values.isEmpty()) {
+                StringJoiner list = new StringJoiner(",");
+                values.forEach(value -> list.add(String.valueOf(value)));
+                joiner.add(name + "=" + list);
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package ezschedule.model.event;
+
+import static ezschedule.testutil.Assert.assertThrows;
+import static ezschedule.testutil.TypicalEvents.ART;
+import static ezschedule.testutil.TypicalEvents.OVERLAP_ART_EVENT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import ezschedule.testutil.EventBuilder;
+
+public class RecurringEventTest {
+
+    private static final RecurFactor DAY = new RecurFactor("day");
+    private static final RecurFactor WEEK = new RecurFactor("week");
+    private static final RecurFactor MONTH = new RecurFactor("month");
+
+    // ART is on 2023-05-01
+    private final RecurringEvent weeklyArt = new RecurringEvent(ART, WEEK, new Date("2023-06-01"));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RecurringEvent(null, WEEK, new Date("2023-06-01")));
+        assertThrows(NullPointerException.class, () -> new RecurringEvent(ART, null, new Date("2023-06-01")));
+        assertThrows(NullPointerException.class, () -> new RecurringEvent(ART, WEEK, null));
+    }
+
+    @Test
+    public void getOccurrencesBetween_weekly_everyWeekAfterBaseDate() {
+        List<Event> expected = Arrays.asList(occurrenceOfArt("2023-05-08"), occurrenceOfArt("2023-05-15"),
+                occurrenceOfArt("2023-05-22"), occurrenceOfArt("2023-05-29"));
+        assertEquals(expected, weeklyArt.getOccurrencesBetween(LocalDate.MIN, LocalDate.MAX));
+
+        // range in the middle of the series
+        assertEquals(expected.subList(1, 3),
+                weeklyArt.getOccurrencesBetween(LocalDate.of(2023, 5, 9), LocalDate.of(2023, 5, 28)));
+
+        // range outside of the series
+        assertTrue(weeklyArt.getOccurrencesBetween(LocalDate.of(2023, 6, 2), LocalDate.MAX).isEmpty());
+        assertTrue(weeklyArt.getOccurrencesBetween(LocalDate.MIN, LocalDate.of(2023, 5, 7)).isEmpty());
+    }
+
+    @Test
+    public void withEvent_otherEvent_sameRuleAndExceptions() {
+        Event lateArt = new EventBuilder(ART).withStartTime("15:00").withEndTime("16:00").build();
+        RecurringEvent recurringEvent = weeklyArt.withException(new Date("2023-05-15")).withEvent(lateArt);
+
+        assertTrue(recurringEvent.isRecurrenceOf(lateArt));
+        assertFalse(recurringEvent.isRecurrenceOf(ART));
+        assertEquals(weeklyArt.getRule(), recurringEvent.getRule());
+        assertEquals(Arrays.asList(new EventBuilder(lateArt).withDate("2023-05-08").build(),
+                new EventBuilder(lateArt).withDate("2023-05-22").build(),
+                new EventBuilder(lateArt).withDate("2023-05-29").build()),
+                recurringEvent.getOccurrencesBetween(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void getOccurrencesBetween_withException_exceptionSkipped() {
+        RecurringEvent recurringEvent = weeklyArt.withException(new Date("2023-05-15"));
+        assertEquals(Arrays.asList(occurrenceOfArt("2023-05-08"), occurrenceOfArt("2023-05-22"),
+                occurrenceOfArt("2023-05-29")), recurringEvent.getOccurrencesBetween(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void getOccurrencesBetween_monthlyFromEndOfMonth_shorterMonthsSkipped() {
+        Event endOfMonth = new EventBuilder(ART).withDate("2023-01-31").build();
+        RecurringEvent recurringEvent = new RecurringEvent(endOfMonth, MONTH, new Date("2023-06-30"));
+
+        List<LocalDate> dates = new ArrayList<>();
+        for (Event occurrence : recurringEvent.getOccurrencesBetween(LocalDate.MIN, LocalDate.MAX)) {
+            dates.add(occurrence.getDate().date);
+        }
+        assertEquals(Arrays.asList(LocalDate.of(2023, 3, 31), LocalDate.of(2023, 5, 31)), dates);
+    }
+
+    @Test
+    public void getOccurrencesBetween_longSeries_noCap() {
+        RecurringEvent recurringEvent = new RecurringEvent(ART, DAY, new Date("2033-04-30"));
+        assertEquals(3652, recurringEvent.getOccurrencesBetween(LocalDate.MIN, LocalDate.MAX).size());
+        assertEquals(Arrays.asList(occurrenceOfArt("2030-01-01")),
+                recurringEvent.getOccurrencesBetween(LocalDate.of(2030, 1, 1), LocalDate.of(2030, 1, 1)));
+    }
+
+    @Test
+    public void getOccurrencesFrom() {
+        assertEquals(Arrays.asList(occurrenceOfArt("2023-05-15"), occurrenceOfArt("2023-05-22")),
+                weeklyArt.getOccurrencesFrom(LocalDate.of(2023, 5, 10), 2));
+
+        // fewer occurrences left than asked for
+        assertEquals(Arrays.asList(occurrenceOfArt("2023-05-29")),
+                weeklyArt.getOccurrencesFrom(LocalDate.of(2023, 5, 29), 5));
+    }
+
+    @Test
+    public void occursOn() {
+        assertTrue(weeklyArt.occursOn(LocalDate.of(2023, 5, 8)));
+
+        // base date -> returns false
+        assertFalse(weeklyArt.occursOn(LocalDate.of(2023, 5, 1)));
+
+        // not a whole number of weeks after the base date -> returns false
+        assertFalse(weeklyArt.occursOn(LocalDate.of(2023, 5, 9)));
+
+        // after end date -> returns false
+        assertFalse(weeklyArt.occursOn(LocalDate.of(2023, 6, 5)));
+
+        // exception -> returns false
+        assertFalse(weeklyArt.withException(new Date("2023-05-08")).occursOn(LocalDate.of(2023, 5, 8)));
+    }
+
+    @Test
+    public void isOccurrenceOverlap() {
+        // overlapping time on an occurrence -> returns true
+        assertTrue(weeklyArt.isOccurrenceOverlap(new EventBuilder(OVERLAP_ART_EVENT).withDate("2023-05-08").build()));
+
+        // overlapping time on the base date -> returns false
+        assertFalse(weeklyArt.isOccurrenceOverlap(OVERLAP_ART_EVENT));
+
+        // different time on an occurrence -> returns false
+        assertFalse(weeklyArt.isOccurrenceOverlap(new EventBuilder(OVERLAP_ART_EVENT).withDate("2023-05-08")
+                .withStartTime("15:00").withEndTime("16:00").build()));
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertTrue(weeklyArt.equals(new RecurringEvent(ART, WEEK, new Date("2023-06-01"))));
+
+        // same object -> returns true
+        assertTrue(weeklyArt.equals(weeklyArt));
+
+        // null -> returns false
+        assertFalse(weeklyArt.equals(null));
+
+        // different factor -> returns false
+        assertFalse(weeklyArt.equals(new RecurringEvent(ART, DAY, new Date("2023-06-01"))));
+
+        // different end date -> returns false
+        assertFalse(weeklyArt.equals(new RecurringEvent(ART, WEEK, new Date("2023-07-01"))));
+
+        // different exceptions -> returns false
+        assertFalse(weeklyArt.equals(weeklyArt.withException(new Date("2023-05-08"))));
+    }
+
+    private static Event occurrenceOfArt(String date) {
+        return new EventBuilder(ART).withDate(date).build();
+    }
+}
@@ -3,7 +3,9 @@ package ezschedule.model.event;
 import static ezschedule.logic.commands.CommandTestUtil.VALID_START_TIME_A;
 import static ezschedule.logic.commands.CommandTestUtil.VALID_START_TIME_B;
 import static ezschedule.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalTime;
@@ -15,7 +17,7 @@ public class TimeTest {
 
     @Test
     public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Time(null));
+        assertThrows(NullPointerException.class, () -> new Time((String) null));
     }
 
     @Test
@@ -43,6 +45,53 @@ public class TimeTest {
         assertTrue(Time.isValidTime("23:58")); // latest possible valid time
     }
 
+    @Test
+    public void isValidTime_allFiveCharacterStrings_sameAsValidationRegex() {
+        String characters = "0123456789:";
+        char[] test = new char[5];
+        int combinations = (int) Math.pow(characters.length(), test.length);
+        for (int combination = 0; combination < combinations; combination++) {
+            int remaining = combination;
+            for (int i = 0; i < test.length; i++) {
+                test[i] = characters.charAt(remaining % characters.length());
+                remaining /= characters.length();
+            }
+            String time = new String(test);
+            assertEquals(time.matches(Time.VALIDATION_REGEX), Time.isValidTime(time), time);
+        }
+
+        for (String time : new String[] {"", "1", "12:3", "12:345", "012:34", " 12:34", "12:34 ", "\u0661\u0662:34"}) {
+            assertEquals(time.matches(Time.VALIDATION_REGEX), Time.isValidTime(time), time);
+        }
+    }
+
+    @Test
+    public void constructor_everyMinute_sameAsLocalTime() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
+        for (int minuteOfDay = 0; minuteOfDay < 24 * 60; minuteOfDay++) {
+            LocalTime time = LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+            assertEquals(time, new Time(time.format(formatter)).time);
+        }
+    }
+
+    @Test
+    public void of_sameTime_sameInstance() {
+        Time time = Time.of("18:30");
+        assertEquals(new Time("18:30"), time);
+        assertSame(time, Time.of(LocalTime.of(18, 30)));
+        assertSame(time, Time.ofMinuteOfDay(18 * 60 + 30));
+    }
+
+    @Test
+    public void of_invalidTime_throwsException() {
+        assertThrows(NullPointerException.class, () -> Time.of((String) null));
+        assertThrows(NullPointerException.class, () -> Time.of((LocalTime) null));
+        assertThrows(IllegalArgumentException.class, () -> Time.of("24:00"));
+        assertThrows(IllegalArgumentException.class, () -> Time.of(LocalTime.of(18, 30, 1)));
+        assertThrows(IllegalArgumentException.class, () -> Time.ofMinuteOfDay(-1));
+        assertThrows(IllegalArgumentException.class, () -> Time.ofMinuteOfDay(24 * 60));
+    }
+
     @Test
     public void isPastTime() {
         // current time has passed
@@ -55,6 +104,19 @@ public class TimeTest {
         assertFalse(time.isPastTime());
     }
 
+    @Test
+    public void constructor_localTime() {
+        assertEquals(new Time("18:30"), new Time(LocalTime.of(18, 30)));
+        assertThrows(IllegalArgumentException.class, () -> new Time(LocalTime.of(18, 30, 15)));
+    }
+
+    @Test
+    public void getMinuteOfDay() {
+        assertEquals(0, new Time("00:00").getMinuteOfDay());
+        assertEquals(18 * 60 + 30, new Time("18:30").getMinuteOfDay());
+        assertEquals(23 * 60 + 59, new Time("23:59").getMinuteOfDay());
+    }
+
     @Test
     public void isBefore() {
         Time time = new Time("12:00");
@@ -2,22 +2,35 @@ package ezschedule.model.event;
 
 import static ezschedule.logic.commands.CommandTestUtil.VALID_DATE_B;
 import static ezschedule.testutil.Assert.assertThrows;
+import static ezschedule.testutil.TypicalEvents.ART;
+import static ezschedule.testutil.TypicalEvents.BOAT;
+import static ezschedule.testutil.TypicalEvents.CARNIVAL;
+import static ezschedule.testutil.TypicalEvents.DRAG;
 import static ezschedule.testutil.TypicalEvents.EVENT_A;
 import static ezschedule.testutil.TypicalEvents.EVENT_B;
+import static ezschedule.testutil.TypicalEvents.OVERLAP_ART_EVENT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import ezschedule.model.event.exceptions.DuplicateEventException;
 import ezschedule.model.event.exceptions.EventNotFoundException;
 import ezschedule.testutil.Assert;
 import ezschedule.testutil.EventBuilder;
+import javafx.collections.ListChangeListener;
 
 public class UniqueEventListTest {
 
@@ -46,6 +59,81 @@ public class UniqueEventListTest {
         assertFalse(uniqueEventList.contains(editedA));
     }
 
+    @Test
+    public void existsAtTime_nullEvent_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueEventList.existsAtTime(null, null));
+    }
+
+    @Test
+    public void existsAtTime_overlappingEventInList_returnsTrue() {
+        uniqueEventList.add(ART);
+        assertTrue(uniqueEventList.existsAtTime(null, OVERLAP_ART_EVENT));
+    }
+
+    @Test
+    public void existsAtTime_onlyOverlapIsCurrentEvent_returnsFalse() {
+        uniqueEventList.add(ART);
+        assertFalse(uniqueEventList.existsAtTime(ART, OVERLAP_ART_EVENT));
+    }
+
+    @Test
+    public void existsAtTime_overlappingEventRemoved_returnsFalse() {
+        uniqueEventList.add(ART);
+        uniqueEventList.remove(ART);
+        assertFalse(uniqueEventList.existsAtTime(null, OVERLAP_ART_EVENT));
+    }
+
+    @Test
+    public void existsAtTime_overlappingEventEditedAway_returnsFalse() {
+        uniqueEventList.add(ART);
+        uniqueEventList.setEvent(ART, new EventBuilder(ART).withDate(VALID_DATE_B).build());
+        assertFalse(uniqueEventList.existsAtTime(null, OVERLAP_ART_EVENT));
+    }
+
+    @Test
+    public void existsAtTime_randomEvents_matchesLinearScan() {
+        Random random = new Random(2103);
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Event event = randomEvent(random);
+            if (!uniqueEventList.contains(event)) {
+                uniqueEventList.add(event);
+                events.add(event);
+            }
+        }
+
+        // remove and edit some events so the index has to stay in step with the list
+        for (int i = 0; i < 50; i++) {
+            Event removed = events.remove(random.nextInt(events.size()));
+            uniqueEventList.remove(removed);
+
+            Event target = events.get(random.nextInt(events.size()));
+            Event edited = randomEvent(random);
+            if (!uniqueEventList.contains(edited)) {
+                uniqueEventList.setEvent(target, edited);
+                events.set(events.indexOf(target), edited);
+            }
+        }
+
+        for (int i = 0; i < 2000; i++) {
+            Event toCheck = randomEvent(random);
+            Event current = random.nextBoolean() ? null : events.get(random.nextInt(events.size()));
+            boolean expected = events.stream().filter(e -> !e.equals(current)).anyMatch(toCheck::isEventOverlap);
+            assertEquals(expected, uniqueEventList.existsAtTime(current, toCheck));
+        }
+    }
+
+    /**
+     * Returns an event on one of a few dates, with arbitrary (possibly inverted) start and end times.
+     */
+    private static Event randomEvent(Random random) {
+        String date = String.format("2023-05-%02d", 1 + random.nextInt(3));
+        String startTime = String.format("%02d:%02d", random.nextInt(24), random.nextInt(4) * 15);
+        String endTime = String.format("%02d:%02d", random.nextInt(24), random.nextInt(4) * 15);
+        return new EventBuilder().withName("Event " + random.nextInt(5))
+                .withDate(date).withStartTime(startTime).withEndTime(endTime).build();
+    }
+
     @Test
     public void add_nullEvent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.add(null));
@@ -125,6 +213,25 @@ public class UniqueEventListTest {
         assertEquals(expectedUniqueEventList, uniqueEventList);
     }
 
+    @Test
+    public void contains_afterSetEventAndRemove_tracksCurrentEvents() {
+        uniqueEventList.add(EVENT_A);
+        uniqueEventList.setEvent(EVENT_A, EVENT_B);
+        assertFalse(uniqueEventList.contains(EVENT_A));
+        assertTrue(uniqueEventList.contains(EVENT_B));
+
+        uniqueEventList.remove(EVENT_B);
+        assertFalse(uniqueEventList.contains(EVENT_B));
+    }
+
+    @Test
+    public void contains_afterSetEvents_tracksReplacementEvents() {
+        uniqueEventList.add(EVENT_A);
+        uniqueEventList.setEvents(Collections.singletonList(EVENT_B));
+        assertFalse(uniqueEventList.contains(EVENT_A));
+        assertTrue(uniqueEventList.contains(EVENT_B));
+    }
+
     @Test
     public void setEvents_nullUniqueEventList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.setEvents((UniqueEventList) null));
@@ -160,12 +267,217 @@ public class UniqueEventListTest {
         assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvents(listWithDuplicateEvents));
     }
 
+    @Test
+    public void loadEvents_duplicatesApartAmongTiedEvents_throwsDuplicateEventException() {
+        Event tiedWithArt = new EventBuilder(ART).withName("Tied with art").build();
+        Event longerArt = new EventBuilder(ART).withEndTime("23:59").build();
+        List<Event> events = new ArrayList<>(Arrays.asList(ART, tiedWithArt, longerArt, ART));
+        DuplicateEventException e = Assertions.assertThrows(DuplicateEventException.class, () ->
+                uniqueEventList.loadEvents(events));
+        assertEquals(ART, e.getDuplicate().get());
+    }
+
+    @Test
+    public void loadEvents_unsortedList_sortsGivenListAndLoadsIt() {
+        List<Event> events = new ArrayList<>(Arrays.asList(DRAG, ART, CARNIVAL, BOAT));
+        uniqueEventList.loadEvents(events);
+        assertEquals(Arrays.asList(ART, BOAT, CARNIVAL, DRAG), events);
+        assertEquals(events, uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setEvents_unsortedList_sortsChronologically() {
+        uniqueEventList.setEvents(Arrays.asList(DRAG, ART, CARNIVAL, BOAT));
+        assertEquals(Arrays.asList(ART, BOAT, CARNIVAL, DRAG), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_outOfOrder_keepsChronologicalOrder() {
+        uniqueEventList.add(CARNIVAL);
+        uniqueEventList.add(ART);
+        uniqueEventList.add(DRAG);
+        uniqueEventList.add(BOAT);
+        assertEquals(Arrays.asList(ART, BOAT, CARNIVAL, DRAG), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_outOfOrder_firesSingleAddition() {
+        uniqueEventList.add(ART);
+        uniqueEventList.add(DRAG);
+
+        List<String> changes = new ArrayList<>();
+        uniqueEventList.asUnmodifiableObservableList().addListener((ListChangeListener<Event>) c -> {
+            while (c.next()) {
+                changes.add(c.wasPermutated() ? "permutation" : c.getFrom() + ":" + c.getAddedSubList());
+            }
+        });
+        uniqueEventList.add(BOAT);
+
+        assertEquals(Collections.singletonList("1:" + Collections.singletonList(BOAT)), changes);
+    }
+
+    @Test
+    public void setEvent_editedEventMovesPosition_keepsChronologicalOrder() {
+        uniqueEventList.setEvents(Arrays.asList(ART, BOAT, CARNIVAL));
+        Event editedArt = new EventBuilder(ART).withDate("2023-05-04").build();
+        uniqueEventList.setEvent(ART, editedArt);
+        assertEquals(Arrays.asList(BOAT, CARNIVAL, editedArt), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueEventList.addAll(null));
+    }
+
+    @Test
+    public void addAll_eventAlreadyInList_throwsDuplicateEventException() {
+        uniqueEventList.add(ART);
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.addAll(Arrays.asList(BOAT, ART)));
+        assertEquals(Collections.singletonList(ART), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_duplicateEventsInBatch_throwsDuplicateEventException() {
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.addAll(Arrays.asList(BOAT, BOAT)));
+        assertFalse(uniqueEventList.contains(BOAT));
+    }
+
+    @Test
+    public void addAll_unsortedBatch_mergesChronologicallyInSingleChange() {
+        uniqueEventList.add(BOAT);
+        uniqueEventList.add(DRAG);
+
+        List<Integer> changeCount = new ArrayList<>();
+        uniqueEventList.asUnmodifiableObservableList().addListener((ListChangeListener<Event>) c ->
+                changeCount.add(1));
+        uniqueEventList.addAll(Arrays.asList(CARNIVAL, ART));
+
+        assertEquals(1, changeCount.size());
+        assertEquals(Arrays.asList(ART, BOAT, CARNIVAL, DRAG), uniqueEventList.asUnmodifiableObservableList());
+        assertTrue(uniqueEventList.contains(ART));
+        assertTrue(uniqueEventList.existsAtTime(null, OVERLAP_ART_EVENT));
+    }
+
+    @Test
+    public void removeAll_eventDoesNotExist_throwsEventNotFoundException() {
+        uniqueEventList.add(ART);
+        assertThrows(EventNotFoundException.class, () -> uniqueEventList.removeAll(Arrays.asList(ART, BOAT)));
+        assertTrue(uniqueEventList.contains(ART));
+    }
+
+    @Test
+    public void removeAll_existingEvents_removesInSingleChange() {
+        uniqueEventList.setEvents(Arrays.asList(ART, BOAT, CARNIVAL, DRAG));
+
+        List<Integer> changeCount = new ArrayList<>();
+        uniqueEventList.asUnmodifiableObservableList().addListener((ListChangeListener<Event>) c ->
+                changeCount.add(1));
+        uniqueEventList.removeAll(Arrays.asList(ART, CARNIVAL));
+
+        assertEquals(1, changeCount.size());
+        assertEquals(Arrays.asList(BOAT, DRAG), uniqueEventList.asUnmodifiableObservableList());
+        assertFalse(uniqueEventList.contains(ART));
+        assertFalse(uniqueEventList.existsAtTime(null, OVERLAP_ART_EVENT));
+    }
+
+    @Test
+    public void update_invalidChanges_listUnchanged() {
+        uniqueEventList.setEvents(Arrays.asList(ART, BOAT));
+        assertThrows(EventNotFoundException.class, () -> uniqueEventList.update(Arrays.asList(ART, CARNIVAL),
+                Collections.singletonList(DRAG)));
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.update(Collections.singletonList(ART),
+                Arrays.asList(DRAG, BOAT)));
+        assertEquals(Arrays.asList(ART, BOAT), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void update_removalsAndAdditions_appliedInSingleChange() {
+        uniqueEventList.setEvents(Arrays.asList(ART, BOAT, DRAG));
+
+        List<String> changes = new ArrayList<>();
+        uniqueEventList.asUnmodifiableObservableList().addListener((ListChangeListener<Event>) c -> {
+            changes.add("change");
+            while (c.next()) {
+                changes.add(c.getRemoved() + "->" + c.getAddedSubList());
+            }
+        });
+        // an event removed and added back in the same update stays in the list
+        uniqueEventList.update(Arrays.asList(BOAT, ART), Arrays.asList(CARNIVAL, ART));
+
+        assertEquals(1, changes.stream().filter("change"::equals).count());
+        assertEquals(Arrays.asList(ART, CARNIVAL, DRAG), uniqueEventList.asUnmodifiableObservableList());
+        assertFalse(uniqueEventList.contains(BOAT));
+        assertTrue(uniqueEventList.existsAtTime(null, OVERLAP_ART_EVENT));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         Assert.assertThrows(UnsupportedOperationException.class, ()
                 -> uniqueEventList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void getNamesContainingAny_afterChanges_namesOfCurrentEvents() {
+        uniqueEventList.setEvents(Arrays.asList(ART, BOAT, CARNIVAL));
+        assertEquals(new HashSet<>(Arrays.asList(ART.getName(), BOAT.getName())),
+                uniqueEventList.getNamesContainingAny(Arrays.asList("art", "boat")));
+
+        uniqueEventList.remove(ART);
+        Event renamedBoat = new EventBuilder(BOAT).withName("Art museum").build();
+        uniqueEventList.setEvent(BOAT, renamedBoat);
+
+        assertEquals(Collections.singleton(renamedBoat.getName()),
+                uniqueEventList.getNamesContainingAny(Arrays.asList("art", "boat")));
+        assertTrue(uniqueEventList.getNamesContainingAny(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void getNamesContainingAny_namesAddedLater_setStaysCurrent() {
+        uniqueEventList.setEvents(Arrays.asList(ART, BOAT));
+        Set<Name> names = uniqueEventList.getNamesContainingAny(Collections.singletonList("art"));
+        assertEquals(Collections.singleton(ART.getName()), names);
+
+        Event artMuseum = new EventBuilder(CARNIVAL).withName("Art museum").build();
+        uniqueEventList.add(artMuseum);
+        assertTrue(names.contains(artMuseum.getName()));
+        uniqueEventList.remove(ART);
+        assertEquals(Collections.singleton(artMuseum.getName()), names);
+    }
+
+    @Test
+    public void getEventsBetween_datesInRange_eventsOnThoseDates() {
+        Event secondArt = new EventBuilder(ART).withName("Art gallery").withStartTime("15:00")
+                .withEndTime("16:00").build();
+        uniqueEventList.setEvents(Arrays.asList(ART, BOAT, CARNIVAL, DRAG, secondArt));
+        LocalDate firstDate = LocalDate.of(2023, 5, 1);
+
+        // single date
+        assertEquals(Arrays.asList(ART, secondArt), uniqueEventList.getEventsBetween(firstDate, firstDate));
+
+        // range spanning several dates
+        assertEquals(Arrays.asList(BOAT, CARNIVAL),
+                uniqueEventList.getEventsBetween(firstDate.plusDays(1), firstDate.plusDays(2)));
+
+        // range with no events, or ending before it starts
+        assertTrue(uniqueEventList.getEventsBetween(firstDate.plusDays(10), firstDate.plusDays(40)).isEmpty());
+        assertTrue(uniqueEventList.getEventsBetween(firstDate.plusDays(2), firstDate).isEmpty());
+    }
+
+    @Test
+    public void getUpcomingEvents_completedEventsToday_skipsCompletedEvents() {
+        Event secondArt = new EventBuilder(ART).withName("Art gallery").withStartTime("15:00")
+                .withEndTime("16:00").build();
+        uniqueEventList.setEvents(Arrays.asList(ART, BOAT, CARNIVAL, secondArt));
+        LocalDateTime now = LocalDateTime.of(2023, 5, 1, 14, 30);
+
+        assertEquals(Arrays.asList(secondArt, BOAT), uniqueEventList.getUpcomingEvents(now, 2));
+        assertEquals(Arrays.asList(secondArt, BOAT, CARNIVAL), uniqueEventList.getUpcomingEvents(now, 10));
+
+        // before every event, and after every event
+        assertEquals(Collections.singletonList(ART), uniqueEventList.getUpcomingEvents(now.minusDays(1), 1));
+        assertTrue(uniqueEventList.getUpcomingEvents(now.plusDays(10), 1).isEmpty());
+    }
+
     @Test
     public void equals() {
         // same object -> returns equal
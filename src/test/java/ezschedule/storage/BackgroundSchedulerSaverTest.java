@@ -0,0 +1,190 @@
+package ezschedule.storage;
+
+import static ezschedule.testutil.TypicalEvents.ART;
+import static ezschedule.testutil.TypicalEvents.BOAT;
+import static ezschedule.testutil.TypicalEvents.getTypicalScheduler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import ezschedule.model.ModelManager;
+import ezschedule.model.ReadOnlyScheduler;
+import ezschedule.model.Scheduler;
+import ezschedule.model.Transaction;
+import ezschedule.model.event.Event;
+
+public class BackgroundSchedulerSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @Test
+    public void requestSave_burstOfRequests_writesLatestOnce() {
+        SchedulerStorageStub storage = new SchedulerStorageStub();
+        BackgroundSchedulerSaver saver = new BackgroundSchedulerSaver(storage, Duration.ofMinutes(1));
+
+        Scheduler first = new Scheduler();
+        Scheduler second = getTypicalScheduler();
+        Scheduler latest = getTypicalScheduler();
+        latest.removeEvent(ART);
+        saver.requestSave(first);
+        saver.requestSave(second);
+        saver.requestSave(latest);
+        saver.flush();
+
+        assertEquals(1, storage.savedSchedulers.size());
+        assertSame(latest, storage.savedSchedulers.get(0));
+    }
+
+    @Test
+    public void flush_nothingRequested_doesNotWrite() {
+        SchedulerStorageStub storage = new SchedulerStorageStub();
+        BackgroundSchedulerSaver saver = new BackgroundSchedulerSaver(storage, Duration.ZERO);
+
+        saver.flush();
+
+        assertTrue(storage.savedSchedulers.isEmpty());
+    }
+
+    @Test
+    public void takeFailure_writeFailed_returnsFailureOnce() {
+        SchedulerStorageStub storage = new SchedulerStorageStub();
+        storage.isFailing = true;
+        BackgroundSchedulerSaver saver = new BackgroundSchedulerSaver(storage, Duration.ZERO);
+
+        saver.requestSave(getTypicalScheduler());
+        saver.flush();
+
+        assertEquals(Optional.of(DUMMY_IO_EXCEPTION), saver.takeFailure());
+        assertFalse(saver.takeFailure().isPresent());
+    }
+
+    @Test
+    public void takeFailure_laterWriteSucceeded_returnsEmpty() {
+        SchedulerStorageStub storage = new SchedulerStorageStub();
+        storage.isFailing = true;
+        BackgroundSchedulerSaver saver = new BackgroundSchedulerSaver(storage, Duration.ZERO);
+        saver.requestSave(getTypicalScheduler());
+        saver.flush();
+
+        storage.isFailing = false;
+        saver.requestSave(getTypicalScheduler());
+        saver.flush();
+
+        assertFalse(saver.takeFailure().isPresent());
+    }
+
+    @Test
+    public void setFailureHandler_writeFailed_handlerCalledWithFailure() {
+        SchedulerStorageStub storage = new SchedulerStorageStub();
+        storage.isFailing = true;
+        BackgroundSchedulerSaver saver = new BackgroundSchedulerSaver(storage, Duration.ZERO);
+        List<IOException> failures = new ArrayList<>();
+        saver.setFailureHandler(failures::add);
+
+        saver.requestSave(getTypicalScheduler());
+        saver.flush();
+
+        assertEquals(List.of(DUMMY_IO_EXCEPTION), failures);
+    }
+
+    @Test
+    public void requestSaveChanges_afterWholeScheduler_savesChangesAfterScheduler() {
+        SchedulerStorageStub storage = new SchedulerStorageStub();
+        BackgroundSchedulerSaver saver = new BackgroundSchedulerSaver(storage, Duration.ofMinutes(1));
+        assertFalse(saver.canSaveChanges());
+
+        Scheduler scheduler = getTypicalScheduler();
+        saver.requestSave(scheduler);
+        assertTrue(saver.canSaveChanges());
+        List<Transaction> firstChanges = addEvent(ART);
+        List<Transaction> secondChanges = addEvent(BOAT);
+        saver.requestSaveChanges(firstChanges);
+        saver.requestSaveChanges(secondChanges);
+        saver.flush();
+
+        assertEquals(List.of(scheduler), storage.savedSchedulers);
+        List<Transaction> expectedChanges = new ArrayList<>(firstChanges);
+        expectedChanges.addAll(secondChanges);
+        assertEquals(List.of(expectedChanges), storage.savedChanges);
+    }
+
+    @Test
+    public void requestSaveChanges_storageCannotSaveChanges_fails() {
+        SchedulerStorageStub storage = new SchedulerStorageStub();
+        BackgroundSchedulerSaver saver = new BackgroundSchedulerSaver(storage, Duration.ofMinutes(1));
+        storage.canSaveChanges = true;
+        saver.requestSaveChanges(addEvent(ART));
+        storage.canSaveChanges = false;
+        saver.flush();
+
+        assertTrue(storage.savedChanges.isEmpty());
+        assertEquals(BackgroundSchedulerSaver.MESSAGE_CHANGES_NOT_SAVED, saver.takeFailure().get().getMessage());
+    }
+
+    private static List<Transaction> addEvent(Event event) {
+        ModelManager model = new ModelManager();
+        model.beginTransaction("add");
+        model.addEvent(event);
+        model.commitTransaction();
+        return model.takeAppliedChanges().get();
+    }
+
+    /**
+     * A {@code SchedulerStorage} stub that records the schedulers it is asked to save.
+     */
+    private static class SchedulerStorageStub implements SchedulerStorage {
+        private final List<ReadOnlyScheduler> savedSchedulers = new ArrayList<>();
+        private final List<List<Transaction>> savedChanges = new ArrayList<>();
+        private volatile boolean isFailing;
+        private volatile boolean canSaveChanges;
+
+        @Override
+        public Path getSchedulerFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyScheduler> readScheduler() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyScheduler> readScheduler(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveScheduler(ReadOnlyScheduler scheduler) throws IOException {
+            if (isFailing) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            savedSchedulers.add(scheduler);
+            canSaveChanges = true;
+        }
+
+        @Override
+        public void saveScheduler(ReadOnlyScheduler scheduler, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canSaveChanges() {
+            return canSaveChanges;
+        }
+
+        @Override
+        public void saveChanges(List<Transaction> changes) {
+            savedChanges.add(changes);
+        }
+    }
+}
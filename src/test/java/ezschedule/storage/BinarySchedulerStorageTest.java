@@ -0,0 +1,277 @@
+package ezschedule.storage;
+
+import static ezschedule.testutil.Assert.assertThrows;
+import static ezschedule.testutil.TypicalEvents.ART;
+import static ezschedule.testutil.TypicalEvents.EAT;
+import static ezschedule.testutil.TypicalEvents.FISHING;
+import static ezschedule.testutil.TypicalEvents.getTypicalScheduler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ezschedule.commons.exceptions.DataConversionException;
+import ezschedule.model.ReadOnlyScheduler;
+import ezschedule.model.Scheduler;
+import ezschedule.model.event.Date;
+import ezschedule.model.event.RecurFactor;
+import ezschedule.model.event.RecurringEvent;
+import ezschedule.testutil.EventBuilder;
+
+public class BinarySchedulerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readScheduler_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinarySchedulerStorage(testFolder.resolve("scheduler.bin")).readScheduler(null));
+    }
+
+    @Test
+    public void readScheduler_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinarySchedulerStorage(testFolder.resolve("missing.bin")).readScheduler().isPresent());
+    }
+
+    @Test
+    public void readScheduler_jsonFile_throwDataConversionException() {
+        Path jsonFile = Paths.get("src", "test", "data", "JsonSchedulerStorageTest",
+                "typicalEventsScheduler.json");
+        assertThrows(DataConversionException.class, () -> new BinarySchedulerStorage(jsonFile).readScheduler());
+    }
+
+    @Test
+    public void readScheduler_unsupportedVersion_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("scheduler.bin");
+        writeBytes(filePath, out -> {
+            out.writeInt(BinarySchedulerStorage.MAGIC_NUMBER);
+            out.writeShort(BinarySchedulerStorage.FORMAT_VERSION + 1);
+        });
+        assertThrows(DataConversionException.class, () -> new BinarySchedulerStorage(filePath).readScheduler());
+    }
+
+    @Test
+    public void readScheduler_invalidRecords_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("scheduler.bin");
+
+        // name index out of range
+        writeBytes(filePath, out -> {
+            writeHeader(out, "Art class");
+            writeEvent(out, 1, 19000, 600, 660);
+        });
+        assertThrows(DataConversionException.class, () -> new BinarySchedulerStorage(filePath).readScheduler());
+
+        // time outside of the day
+        writeBytes(filePath, out -> {
+            writeHeader(out, "Art class");
+            writeEvent(out, 0, 19000, 600, 24 * 60);
+        });
+        assertThrows(DataConversionException.class, () -> new BinarySchedulerStorage(filePath).readScheduler());
+
+        // invalid name
+        writeBytes(filePath, out -> {
+            writeHeader(out, "Art cl@ss");
+            writeEvent(out, 0, 19000, 600, 660);
+        });
+        assertThrows(DataConversionException.class, () -> new BinarySchedulerStorage(filePath).readScheduler());
+
+        // duplicate events
+        writeBytes(filePath, out -> {
+            writeHeader(out, "Art class");
+            out.writeInt(2);
+            writeEventRecord(out, 0, 19000, 600, 660);
+            writeEventRecord(out, 0, 19000, 600, 660);
+        });
+        assertThrows(DataConversionException.class, () -> new BinarySchedulerStorage(filePath).readScheduler());
+    }
+
+    @Test
+    public void readScheduler_invalidCounts_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("scheduler.bin");
+
+        // negative event count
+        writeBytes(filePath, out -> {
+            writeHeader(out, "Art class");
+            out.writeInt(-1);
+        });
+        assertInvalidCount(filePath, -1, "events");
+
+        // more events than the file can hold
+        writeBytes(filePath, out -> {
+            writeHeader(out, "Art class");
+            out.writeInt(Integer.MAX_VALUE);
+            writeEventRecord(out, 0, 19000, 600, 660);
+        });
+        assertInvalidCount(filePath, Integer.MAX_VALUE, "events");
+
+        // more names than the file can hold
+        writeBytes(filePath, out -> {
+            out.writeInt(BinarySchedulerStorage.MAGIC_NUMBER);
+            out.writeShort(BinarySchedulerStorage.FORMAT_VERSION);
+            out.writeInt(Integer.MAX_VALUE);
+        });
+        assertInvalidCount(filePath, Integer.MAX_VALUE, "names");
+
+        // more exceptions than the file can hold
+        writeBytes(filePath, out -> {
+            writeHeader(out, "Art class");
+            out.writeInt(0);
+            out.writeInt(1);
+            writeEventRecord(out, 0, 19000, 600, 660);
+            out.writeUTF("FREQ=DAILY;UNTIL=20230601");
+            out.writeInt(1 << 20);
+        });
+        assertInvalidCount(filePath, 1 << 20, "exceptions");
+    }
+
+    @Test
+    public void readScheduler_truncatedFile_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("scheduler.bin");
+        new BinarySchedulerStorage(filePath).saveScheduler(getTypicalScheduler());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataConversionException.class, () -> new BinarySchedulerStorage(filePath).readScheduler());
+    }
+
+    @Test
+    public void readAndSaveScheduler_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("scheduler.bin");
+        Scheduler original = getTypicalScheduler();
+        BinarySchedulerStorage binarySchedulerStorage = new BinarySchedulerStorage(filePath);
+
+        // Save in new file and read back
+        binarySchedulerStorage.saveScheduler(original, filePath);
+        ReadOnlyScheduler readBack = binarySchedulerStorage.readScheduler(filePath).get();
+        assertEquals(original, new Scheduler(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addEvent(EAT);
+        original.removeEvent(ART);
+        original.addEvent(new EventBuilder(FISHING).withDate("0001-01-01").withStartTime("00:00")
+                .withEndTime("23:59").build());
+        binarySchedulerStorage.saveScheduler(original);
+        readBack = binarySchedulerStorage.readScheduler().get();
+        assertEquals(original, new Scheduler(readBack));
+    }
+
+    @Test
+    public void readAndSaveScheduler_withRecurringEvents_success() throws Exception {
+        Path filePath = testFolder.resolve("scheduler.bin");
+        Scheduler original = getTypicalScheduler();
+        original.addRecurringEvent(new RecurringEvent(new EventBuilder(ART).withName("Weekly meeting").build(),
+                new RecurFactor("week"), new Date("2024-05-01")).withException(new Date("2023-05-15")));
+        original.addRecurringEvent(new RecurringEvent(EAT, new RecurFactor("month"), new Date("2030-01-01")));
+        BinarySchedulerStorage binarySchedulerStorage = new BinarySchedulerStorage(filePath);
+
+        binarySchedulerStorage.saveScheduler(original);
+        ReadOnlyScheduler readBack = binarySchedulerStorage.readScheduler().get();
+        assertEquals(original, new Scheduler(readBack));
+    }
+
+    @Test
+    public void readScheduler_firstVersion_noRecurringEvents() throws Exception {
+        Path filePath = testFolder.resolve("scheduler.bin");
+        writeBytes(filePath, out -> {
+            out.writeInt(BinarySchedulerStorage.MAGIC_NUMBER);
+            out.writeShort(1);
+            out.writeInt(1);
+            out.writeUTF("Art class");
+            writeEvent(out, 0, 19000, 600, 660);
+        });
+
+        ReadOnlyScheduler readBack = new BinarySchedulerStorage(filePath).readScheduler().get();
+        assertEquals(1, readBack.getEventList().size());
+        assertTrue(readBack.getRecurringEventList().isEmpty());
+    }
+
+    @Test
+    public void readScheduler_invalidRecurrenceRule_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("scheduler.bin");
+        writeBytes(filePath, out -> {
+            writeHeader(out, "Art class");
+            out.writeInt(0);
+            out.writeInt(1);
+            writeEventRecord(out, 0, 19000, 600, 660);
+            out.writeUTF("FREQ=HOURLY");
+            out.writeInt(0);
+        });
+        assertThrows(DataConversionException.class, () -> new BinarySchedulerStorage(filePath).readScheduler());
+    }
+
+    @Test
+    public void saveScheduler_repeatedNames_muchSmallerThanJson() throws Exception {
+        Scheduler scheduler = new Scheduler();
+        LocalDate firstDate = LocalDate.of(2023, 1, 1);
+        for (int i = 0; i < 1000; i++) {
+            scheduler.addEvent(new EventBuilder().withName("Weekly meeting " + (i % 10))
+                    .withDate(firstDate.plusDays(i).toString()).withStartTime("09:00").withEndTime("10:30").build());
+        }
+
+        Path jsonFile = testFolder.resolve("scheduler.json");
+        Path binaryFile = testFolder.resolve("scheduler.bin");
+        new JsonSchedulerStorage(jsonFile).saveScheduler(scheduler);
+        new BinarySchedulerStorage(binaryFile).saveScheduler(scheduler);
+
+        assertTrue(Files.size(binaryFile) * 5 <= Files.size(jsonFile));
+    }
+
+    /**
+     * Asserts that reading the file at {@code filePath} fails on a count of {@code count} {@code records}.
+     */
+    private static void assertInvalidCount(Path filePath, int count, String records) {
+        DataConversionException e = Assertions.assertThrows(DataConversionException.class, () ->
+                new BinarySchedulerStorage(filePath).readScheduler());
+        assertEquals(String.format(BinarySchedulerStorage.MESSAGE_INVALID_COUNT, count, records),
+                e.getCause().getMessage());
+    }
+
+    private static void writeHeader(DataOutputStream out, String name) throws IOException {
+        out.writeInt(BinarySchedulerStorage.MAGIC_NUMBER);
+        out.writeShort(BinarySchedulerStorage.FORMAT_VERSION);
+        out.writeInt(1);
+        out.writeUTF(name);
+    }
+
+    private static void writeEvent(DataOutputStream out, int nameIndex, int epochDay, int startMinute,
+                                   int endMinute) throws IOException {
+        out.writeInt(1);
+        writeEventRecord(out, nameIndex, epochDay, startMinute, endMinute);
+    }
+
+    private static void writeEventRecord(DataOutputStream out, int nameIndex, int epochDay, int startMinute,
+                                         int endMinute) throws IOException {
+        out.writeInt(nameIndex);
+        out.writeInt(epochDay);
+        out.writeShort(startMinute);
+        out.writeShort(endMinute);
+    }
+
+    private static void writeBytes(Path filePath, DataWriter writer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writer.write(out);
+        out.flush();
+        Files.write(filePath, bytes.toByteArray());
+    }
+
+    /**
+     * Writes raw data for a test file.
+     */
+    private interface DataWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
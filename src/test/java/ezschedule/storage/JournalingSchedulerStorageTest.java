@@ -0,0 +1,224 @@
+package ezschedule.storage;
+
+import static ezschedule.testutil.Assert.assertThrows;
+import static ezschedule.testutil.TypicalEvents.ART;
+import static ezschedule.testutil.TypicalEvents.EAT;
+import static ezschedule.testutil.TypicalEvents.FISHING;
+import static ezschedule.testutil.TypicalEvents.getTypicalScheduler;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ezschedule.commons.exceptions.DataConversionException;
+import ezschedule.commons.util.FileUtil;
+import ezschedule.model.ModelManager;
+import ezschedule.model.ReadOnlyScheduler;
+import ezschedule.model.Scheduler;
+import ezschedule.model.UserPrefs;
+import ezschedule.model.event.Date;
+import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurFactor;
+import ezschedule.model.event.RecurringEvent;
+import ezschedule.testutil.EventBuilder;
+
+public class JournalingSchedulerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readScheduler_missingFiles_emptyResult() throws Exception {
+        JournalingSchedulerStorage storage = new JournalingSchedulerStorage(testFolder.resolve("scheduler.json"));
+        assertFalse(storage.readScheduler().isPresent());
+    }
+
+    @Test
+    public void saveChanges_afterRead_appendsChangesWithoutRewritingSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("scheduler.json");
+        JournalingSchedulerStorage storage = new JournalingSchedulerStorage(filePath);
+        storage.saveScheduler(getTypicalScheduler());
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        ModelManager model = new ModelManager(storage.readScheduler().get(), new UserPrefs());
+        model.beginTransaction("change");
+        model.addEvent(EAT);
+        model.deleteEvent(ART);
+        model.commitTransaction();
+        storage.saveChanges(model.takeAppliedChanges().get());
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        List<String> records = Files.readAllLines(storage.getJournalFilePath());
+        assertEquals(2, records.size());
+
+        // Saving no changes writes nothing
+        storage.saveChanges(model.takeAppliedChanges().get());
+        assertEquals(records, Files.readAllLines(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveChanges_beforeRead_throwsUnsupportedOperationException() throws Exception {
+        JournalingSchedulerStorage storage = new JournalingSchedulerStorage(testFolder.resolve("scheduler.json"));
+        assertFalse(storage.canSaveChanges());
+        assertThrows(UnsupportedOperationException.class, () -> storage.saveChanges(List.of()));
+
+        storage.saveScheduler(getTypicalScheduler());
+        assertTrue(storage.canSaveChanges());
+    }
+
+    @Test
+    public void readScheduler_journalAfterSnapshot_replaysJournal() throws Exception {
+        Path filePath = testFolder.resolve("scheduler.json");
+        JournalingSchedulerStorage storage = new JournalingSchedulerStorage(filePath);
+        storage.saveScheduler(getTypicalScheduler());
+
+        ModelManager model = new ModelManager(storage.readScheduler().get(), new UserPrefs());
+        model.beginTransaction("change");
+        model.addEvent(EAT);
+        model.deleteEvent(ART);
+        model.commitTransaction();
+        storage.saveChanges(model.takeAppliedChanges().get());
+        model.beginTransaction("edit");
+        model.setEvent(EAT, new EventBuilder(EAT).withStartTime("11:00").build());
+        model.addEvent(FISHING);
+        model.commitTransaction();
+        model.undo();
+        model.redo();
+        storage.saveChanges(model.takeAppliedChanges().get());
+
+        ReadOnlyScheduler readBack = new JournalingSchedulerStorage(filePath).readScheduler().get();
+        assertEquals(model.getScheduler(), new Scheduler(readBack));
+    }
+
+    @Test
+    public void saveChanges_journalPastThreshold_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("scheduler.json");
+        JournalingSchedulerStorage storage = new JournalingSchedulerStorage(new JsonSchedulerStorage(filePath), 1);
+        storage.saveScheduler(getTypicalScheduler());
+
+        ModelManager model = new ModelManager(storage.readScheduler().get(), new UserPrefs());
+        addEvent(model, EAT);
+        storage.saveChanges(model.takeAppliedChanges().get());
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        ReadOnlyScheduler snapshot = new JsonSchedulerStorage(filePath).readScheduler().get();
+        assertEquals(model.getScheduler(), new Scheduler(snapshot));
+        assertTrue(storage.canSaveChanges());
+    }
+
+    @Test
+    public void readScheduler_journalReplayedTwice_sameResult() throws Exception {
+        // A crash after writing a new snapshot but before removing the journal leaves both behind
+        Path filePath = testFolder.resolve("scheduler.json");
+        JournalingSchedulerStorage storage = new JournalingSchedulerStorage(filePath);
+        storage.saveScheduler(getTypicalScheduler());
+        ModelManager model = new ModelManager(storage.readScheduler().get(), new UserPrefs());
+        model.beginTransaction("change");
+        model.addEvent(EAT);
+        model.deleteEvent(ART);
+        model.commitTransaction();
+        storage.saveChanges(model.takeAppliedChanges().get());
+
+        new JsonSchedulerStorage(filePath).saveScheduler(model.getScheduler());
+
+        ReadOnlyScheduler readBack = new JournalingSchedulerStorage(filePath).readScheduler().get();
+        assertEquals(model.getScheduler(), new Scheduler(readBack));
+    }
+
+    @Test
+    public void saveChanges_recurringEventsChanged_journalsRecurringEvents() throws Exception {
+        Path filePath = testFolder.resolve("scheduler.json");
+        JournalingSchedulerStorage storage = new JournalingSchedulerStorage(filePath);
+        storage.saveScheduler(getTypicalScheduler());
+        byte[] snapshot = Files.readAllBytes(filePath);
+        ModelManager model = new ModelManager(storage.readScheduler().get(), new UserPrefs());
+        RecurringEvent weekly = new RecurringEvent(FISHING, new RecurFactor("week"), new Date("2023-07-01"));
+        RecurringEvent monthly = new RecurringEvent(EAT, new RecurFactor("month"), new Date("2023-12-01"));
+
+        model.beginTransaction("recur");
+        model.addRecurringEvent(weekly);
+        model.addRecurringEvent(monthly);
+        model.commitTransaction();
+        model.beginTransaction("delete");
+        model.deleteRecurringEvent(weekly);
+        model.commitTransaction();
+        storage.saveChanges(model.takeAppliedChanges().get());
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        ReadOnlyScheduler readBack = new JournalingSchedulerStorage(filePath).readScheduler().get();
+        assertEquals(model.getScheduler(), new Scheduler(readBack));
+    }
+
+    @Test
+    public void readScheduler_incompleteLastRecord_ignoresRecord() throws Exception {
+        Path filePath = testFolder.resolve("scheduler.json");
+        JournalingSchedulerStorage storage = new JournalingSchedulerStorage(filePath);
+        storage.saveScheduler(getTypicalScheduler());
+        ModelManager model = new ModelManager(storage.readScheduler().get(), new UserPrefs());
+        addEvent(model, EAT);
+        storage.saveChanges(model.takeAppliedChanges().get());
+
+        FileUtil.appendToFile(storage.getJournalFilePath(), "{\"operation\":\"add\",\"ev");
+
+        ReadOnlyScheduler readBack = new JournalingSchedulerStorage(filePath).readScheduler().get();
+        assertEquals(model.getScheduler(), new Scheduler(readBack));
+    }
+
+    @Test
+    public void saveChanges_afterIncompleteLastRecord_changesReadBack() throws Exception {
+        Path filePath = testFolder.resolve("scheduler.json");
+        JournalingSchedulerStorage storage = new JournalingSchedulerStorage(filePath);
+        storage.saveScheduler(getTypicalScheduler());
+        ModelManager model = new ModelManager(storage.readScheduler().get(), new UserPrefs());
+        addEvent(model, EAT);
+        storage.saveChanges(model.takeAppliedChanges().get());
+        FileUtil.appendToFile(storage.getJournalFilePath(), "{\"operation\":\"add\",\"ev");
+
+        // The app restarts, reads the data, and saves a change on top of it
+        JournalingSchedulerStorage restarted = new JournalingSchedulerStorage(filePath);
+        model = new ModelManager(restarted.readScheduler().get(), new UserPrefs());
+        addEvent(model, FISHING);
+        restarted.saveChanges(model.takeAppliedChanges().get());
+
+        ReadOnlyScheduler readBack = new JournalingSchedulerStorage(filePath).readScheduler().get();
+        assertEquals(model.getScheduler(), new Scheduler(readBack));
+        assertTrue(readBack.getEventList().contains(FISHING));
+    }
+
+    @Test
+    public void readScheduler_invalidRecord_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("scheduler.json");
+        JournalingSchedulerStorage storage = new JournalingSchedulerStorage(filePath);
+        storage.saveScheduler(getTypicalScheduler());
+        Files.write(storage.getJournalFilePath(), ("{\"operation\":\"rename\",\"event\":{\"name\":\"Eat\","
+                + "\"date\":\"2023-05-05\",\"startTime\":\"12:00\",\"endTime\":\"13:00\"}}\n")
+                .getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataConversionException.class, () -> new JournalingSchedulerStorage(filePath).readScheduler());
+    }
+
+    @Test
+    public void saveScheduler_beforeRead_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("scheduler.json");
+        JournalingSchedulerStorage storage = new JournalingSchedulerStorage(filePath);
+
+        storage.saveScheduler(getTypicalScheduler());
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    private static void addEvent(ModelManager model, Event event) {
+        model.beginTransaction("add");
+        model.addEvent(event);
+        model.commitTransaction();
+    }
+}
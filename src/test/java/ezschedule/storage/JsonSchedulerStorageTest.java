@@ -9,16 +9,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import ezschedule.commons.exceptions.DataConversionException;
 import ezschedule.model.ReadOnlyScheduler;
 import ezschedule.model.Scheduler;
+import ezschedule.model.event.Date;
+import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurFactor;
+import ezschedule.model.event.RecurringEvent;
 import ezschedule.testutil.Assert;
+import ezschedule.testutil.EventBuilder;
 
 
 public class JsonSchedulerStorageTest {
@@ -52,6 +59,22 @@ public class JsonSchedulerStorageTest {
         assertThrows(DataConversionException.class, () -> readScheduler("notJsonFormatScheduler.json"));
     }
 
+    @Test
+    public void readScheduler_typicalEventsFile_success() throws Exception {
+        assertEquals(getTypicalScheduler(), readScheduler("typicalEventsScheduler.json").get());
+    }
+
+    @Test
+    public void readScheduler_recurringEventWithFactor_readAsRule() throws Exception {
+        Path filePath = testFolder.resolve("factorScheduler.json");
+        Files.writeString(filePath, "{\"events\":[],\"recurringEvents\":[{\"event\":{\"name\":\"Art class\","
+                + "\"date\":\"2023-05-01\",\"startTime\":\"12:00\",\"endTime\":\"14:00\"},"
+                + "\"factor\":\"week\",\"endDate\":\"2024-05-01\",\"exceptions\":[]}]}");
+        ReadOnlyScheduler scheduler = new JsonSchedulerStorage(filePath).readScheduler().get();
+        assertEquals(new RecurringEvent(ART, new RecurFactor("week"), new Date("2024-05-01")),
+                scheduler.getRecurringEventList().get(0));
+    }
+
     @Test
     public void readScheduler_invalidEventScheduler_throwDataConversionException() {
         assertThrows(DataConversionException.class, () -> readScheduler("invalidEventScheduler.json"));
@@ -62,6 +85,23 @@ public class JsonSchedulerStorageTest {
         assertThrows(DataConversionException.class, () -> readScheduler("invalidAndValidEventScheduler.json"));
     }
 
+    @Test
+    public void readScheduler_invalidAndValidEventScheduler_messageNamesInvalidEvent() {
+        DataConversionException e = Assertions.assertThrows(DataConversionException.class, () ->
+                readScheduler("invalidAndValidEventScheduler.json"));
+        assertEquals(String.format(JsonSchedulerStorage.MESSAGE_INVALID_EVENT, 2, Date.MESSAGE_CONSTRAINTS),
+                e.getCause().getMessage());
+    }
+
+    @Test
+    public void readScheduler_duplicateEventScheduler_throwDataConversionException() {
+        DataConversionException e = Assertions.assertThrows(DataConversionException.class, () ->
+                readScheduler("duplicateEventScheduler.json"));
+        Event duplicate = new EventBuilder().withName("Alice Pauline").withDate("2023-01-01")
+                .withStartTime("18:00").withEndTime("20:00").build();
+        assertEquals(JsonSerializableScheduler.MESSAGE_DUPLICATE_EVENT + duplicate, e.getCause().getMessage());
+    }
+
     @Test
     public void readAndSaveScheduler_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempScheduler.json");
@@ -89,6 +129,18 @@ public class JsonSchedulerStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveScheduler_recurringEvents_roundTrips() throws Exception {
+        Path filePath = testFolder.resolve("TempScheduler.json");
+        Scheduler original = getTypicalScheduler();
+        original.addRecurringEvent(new RecurringEvent(ART, new RecurFactor("week"), new Date("2024-05-01"))
+                .withException(new Date("2023-05-08")));
+
+        JsonSchedulerStorage jsonSchedulerStorage = new JsonSchedulerStorage(filePath);
+        jsonSchedulerStorage.saveScheduler(original);
+        assertEquals(original, jsonSchedulerStorage.readScheduler().get());
+    }
+
     @Test
     public void saveScheduler_nullScheduler_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveScheduler(null, "SomeFile.json"));
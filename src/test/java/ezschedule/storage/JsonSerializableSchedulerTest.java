@@ -2,46 +2,64 @@ package ezschedule.storage;
 
 import static ezschedule.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
 import ezschedule.commons.exceptions.IllegalValueException;
-import ezschedule.commons.util.JsonUtil;
 import ezschedule.model.Scheduler;
+import ezschedule.model.event.Date;
+import ezschedule.model.event.Event;
+import ezschedule.model.event.RecurFactor;
+import ezschedule.model.event.RecurringEvent;
+import ezschedule.testutil.EventBuilder;
 import ezschedule.testutil.TypicalEvents;
 
 public class JsonSerializableSchedulerTest {
 
-    private static final Path TEST_DATA_FOLDER =
-            Paths.get("src", "test", "data", "JsonSerializableSchedulerTest");
-    private static final Path TYPICAL_EVENTS_FILE = TEST_DATA_FOLDER.resolve("typicalEventsScheduler.json");
-    private static final Path INVALID_EVENT_FILE = TEST_DATA_FOLDER.resolve("invalidEventScheduler.json");
-    private static final Path DUPLICATE_EVENT_FILE = TEST_DATA_FOLDER.resolve("duplicateEventScheduler.json");
-
     @Test
-    public void toModelType_typicalEventsFile_success() throws Exception {
-        JsonSerializableScheduler dataFromFile = JsonUtil.readJsonFile(TYPICAL_EVENTS_FILE,
-                JsonSerializableScheduler.class).get();
-        Scheduler schedulerFromFile = dataFromFile.toModelType();
-        Scheduler typicalEventsScheduler = TypicalEvents.getTypicalScheduler();
-        assertEquals(schedulerFromFile, typicalEventsScheduler);
+    public void toModelType_manyUnsortedEvents_givenListSortedAndLoaded() throws Exception {
+        int eventCount = 10_000;
+        LocalDate firstDate = LocalDate.of(2023, 1, 1);
+        List<Event> events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            LocalTime startTime = LocalTime.of(i % 24, 0);
+            events.add(new EventBuilder().withName("Event " + i).withDate(firstDate.plusDays(i / 24).toString())
+                    .withStartTime(startTime.toString()).withEndTime(startTime.plusMinutes(30).toString()).build());
+        }
+        Collections.shuffle(events, new Random(6));
+
+        Scheduler scheduler = JsonSerializableScheduler.toModelType(events, Collections.emptyList());
+
+        // The given list is sorted once and loaded as it is, rather than copied
+        for (int i = 1; i < eventCount; i++) {
+            assertTrue(events.get(i - 1).compareTo(events.get(i)) < 0);
+        }
+        assertEquals(events, scheduler.getEventList());
     }
 
     @Test
-    public void toModelType_invalidEventFile_throwsIllegalValueException() throws Exception {
-        JsonSerializableScheduler dataFromFile = JsonUtil.readJsonFile(INVALID_EVENT_FILE,
-                JsonSerializableScheduler.class).get();
-        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+    public void toModelType_duplicateEvents_throwsIllegalValueException() {
+        List<Event> events = new ArrayList<>(Arrays.asList(TypicalEvents.ART, TypicalEvents.BOAT,
+                TypicalEvents.ART));
+        assertThrows(IllegalValueException.class, JsonSerializableScheduler.MESSAGE_DUPLICATE_EVENT
+                + TypicalEvents.ART, () -> JsonSerializableScheduler.toModelType(events, Collections.emptyList()));
     }
 
     @Test
-    public void toModelType_duplicateEvents_throwsIllegalValueException() throws Exception {
-        JsonSerializableScheduler dataFromFile = JsonUtil.readJsonFile(DUPLICATE_EVENT_FILE,
-                JsonSerializableScheduler.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableScheduler.MESSAGE_DUPLICATE_EVENT,
-                dataFromFile::toModelType);
+    public void toModelType_duplicateRecurringEvents_throwsIllegalValueException() {
+        RecurringEvent recurringEvent =
+                new RecurringEvent(TypicalEvents.ART, new RecurFactor("day"), new Date("2023-05-10"));
+        assertThrows(IllegalValueException.class, JsonSerializableScheduler.MESSAGE_DUPLICATE_RECURRING_EVENT, () ->
+                JsonSerializableScheduler.toModelType(new ArrayList<>(),
+                        Arrays.asList(recurringEvent, recurringEvent)));
     }
 }
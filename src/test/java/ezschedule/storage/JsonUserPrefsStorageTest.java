@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import ezschedule.commons.core.GuiSettings;
+import ezschedule.commons.core.StorageFormat;
 import ezschedule.commons.exceptions.DataConversionException;
 import ezschedule.model.UserPrefs;
 
@@ -71,6 +72,23 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_binaryFormat_successfullyRead() throws DataConversionException {
+        UserPrefs expected = getTypicalUserPrefs();
+        expected.setSchedulerFilePath(Paths.get("scheduler.bin"));
+        expected.setSchedulerFileFormat(StorageFormat.BINARY);
+        UserPrefs actual = readUserPrefs("BinaryFormatUserPref.json").get();
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void readUserPrefs_undoHistoryDepth_successfullyRead() throws DataConversionException {
+        UserPrefs expected = getTypicalUserPrefs();
+        expected.setUndoHistoryDepth(20);
+        UserPrefs actual = readUserPrefs("UndoHistoryDepthUserPref.json").get();
+        assertEquals(expected, actual);
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
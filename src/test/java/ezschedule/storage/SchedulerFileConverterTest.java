@@ -0,0 +1,118 @@
+package ezschedule.storage;
+
+import static ezschedule.testutil.Assert.assertThrows;
+import static ezschedule.testutil.TypicalEvents.ART;
+import static ezschedule.testutil.TypicalEvents.getTypicalScheduler;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ezschedule.model.ModelManager;
+import ezschedule.model.Scheduler;
+import ezschedule.model.UserPrefs;
+
+public class SchedulerFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_missingSource_throwsNoSuchFileException() {
+        assertThrows(NoSuchFileException.class, () -> SchedulerFileConverter.jsonToBinary(
+                testFolder.resolve("missing.json"), testFolder.resolve("scheduler.bin")));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameScheduler() throws Exception {
+        Path jsonFile = testFolder.resolve("scheduler.json");
+        Path binaryFile = testFolder.resolve("scheduler.bin");
+        Path convertedJsonFile = testFolder.resolve("converted.json");
+        Scheduler original = getTypicalScheduler();
+        new JsonSchedulerStorage(jsonFile).saveScheduler(original);
+
+        SchedulerFileConverter.jsonToBinary(jsonFile, binaryFile);
+        assertEquals(original, new Scheduler(new BinarySchedulerStorage(binaryFile).readScheduler().get()));
+
+        SchedulerFileConverter.binaryToJson(binaryFile, convertedJsonFile);
+        assertEquals(original, new Scheduler(new JsonSchedulerStorage(convertedJsonFile).readScheduler().get()));
+    }
+
+    @Test
+    public void getBinaryFilePath_jsonFile_binaryFileBesideIt() {
+        assertEquals(Path.of("data", "scheduler.bin"), SchedulerFileConverter.getBinaryFilePath(
+                Path.of("data", "scheduler.json")));
+        assertEquals(Path.of("data", "scheduler.bin"), SchedulerFileConverter.getBinaryFilePath(
+                Path.of("data", "scheduler")));
+        assertEquals(Path.of("data", "scheduler.bin"), SchedulerFileConverter.getBinaryFilePath(
+                Path.of("data", "scheduler.bin")));
+    }
+
+    @Test
+    public void migrate_targetMissing_convertsSource() throws Exception {
+        Path jsonFile = testFolder.resolve("scheduler.json");
+        Path binaryFile = testFolder.resolve("scheduler.bin");
+        Scheduler original = getTypicalScheduler();
+        new JsonSchedulerStorage(jsonFile).saveScheduler(original);
+        byte[] json = Files.readAllBytes(jsonFile);
+
+        assertTrue(SchedulerFileConverter.migrate(new JsonSchedulerStorage(jsonFile),
+                new BinarySchedulerStorage(binaryFile)));
+
+        assertEquals(original, new Scheduler(new BinarySchedulerStorage(binaryFile).readScheduler().get()));
+        assertArrayEquals(json, Files.readAllBytes(jsonFile));
+    }
+
+    @Test
+    public void migrate_targetNewer_doesNotConvert() throws Exception {
+        Path jsonFile = testFolder.resolve("scheduler.json");
+        Path binaryFile = testFolder.resolve("scheduler.bin");
+        new JsonSchedulerStorage(jsonFile).saveScheduler(getTypicalScheduler());
+        new BinarySchedulerStorage(binaryFile).saveScheduler(new Scheduler());
+        Files.setLastModifiedTime(jsonFile, FileTime.fromMillis(1_000_000));
+        Files.setLastModifiedTime(binaryFile, FileTime.fromMillis(2_000_000));
+
+        assertFalse(SchedulerFileConverter.migrate(new JsonSchedulerStorage(jsonFile),
+                new BinarySchedulerStorage(binaryFile)));
+        assertEquals(new Scheduler(), new Scheduler(new BinarySchedulerStorage(binaryFile).readScheduler().get()));
+    }
+
+    @Test
+    public void migrate_sourceJournalNewer_convertsSourceWithJournal() throws Exception {
+        // The app was used with json data after the binary file was last written
+        Path jsonFile = testFolder.resolve("scheduler.json");
+        Path binaryFile = testFolder.resolve("scheduler.bin");
+        new BinarySchedulerStorage(binaryFile).saveScheduler(getTypicalScheduler());
+        JournalingSchedulerStorage jsonStorage = new JournalingSchedulerStorage(jsonFile);
+        jsonStorage.saveScheduler(new Scheduler());
+        ModelManager model = new ModelManager(jsonStorage.readScheduler().get(), new UserPrefs());
+        model.beginTransaction("add");
+        model.addEvent(ART);
+        model.commitTransaction();
+        jsonStorage.saveChanges(model.takeAppliedChanges().get());
+        Files.setLastModifiedTime(jsonFile, FileTime.fromMillis(1_000_000));
+        Files.setLastModifiedTime(binaryFile, FileTime.fromMillis(2_000_000));
+        Files.setLastModifiedTime(jsonStorage.getJournalFilePath(), FileTime.fromMillis(3_000_000));
+
+        assertTrue(SchedulerFileConverter.migrate(new JournalingSchedulerStorage(jsonFile),
+                new JournalingSchedulerStorage(new BinarySchedulerStorage(binaryFile))));
+        assertEquals(model.getScheduler(),
+                new Scheduler(new BinarySchedulerStorage(binaryFile).readScheduler().get()));
+    }
+
+    @Test
+    public void migrate_sourceMissing_doesNotConvert() throws Exception {
+        Path binaryFile = testFolder.resolve("scheduler.bin");
+        assertFalse(SchedulerFileConverter.migrate(new JsonSchedulerStorage(testFolder.resolve("scheduler.json")),
+                new BinarySchedulerStorage(binaryFile)));
+        assertFalse(Files.exists(binaryFile));
+    }
+}
@@ -1,5 +1,8 @@
 package ezschedule.testutil;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -13,6 +16,10 @@ import ezschedule.model.event.Event;
  */
 public class TypicalEvents {
 
+    // A clock stopped before every typical event, for tests that depend on which events are completed
+    public static final Clock CLOCK_BEFORE_TYPICAL_EVENTS =
+            Clock.fixed(Instant.parse("2023-04-01T00:00:00Z"), ZoneOffset.UTC);
+
     public static final Event ART = new EventBuilder().withName("Art class")
             .withDate("2023-05-01").withStartTime("12:00").withEndTime("14:00").build();
     public static final Event BOAT = new EventBuilder().withName("Boat race")